@@ -0,0 +1,130 @@
+package com.petmanager.api_gateway.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lectura mínima de un documento GraphQL: tipo de cada operación y sus campos raíz.
+ * No valida la sintaxis; solo necesita saber si una petición es cacheable o es una mutation.
+ */
+public final class GraphQlOperations {
+
+    private GraphQlOperations() {
+    }
+
+    public static List<Operation> parse(String query) {
+        List<Operation> operaciones = new ArrayList<>();
+        Operation actual = null;
+        int depth = 0;
+        int parens = 0;
+        int i = 0;
+        int n = query.length();
+
+        while (i < n) {
+            char c = query.charAt(i);
+
+            if (c == '#') {
+                while (i < n && query.charAt(i) != '\n') i++;
+                continue;
+            }
+            if (c == '"') {
+                i = saltarString(query, i);
+                continue;
+            }
+            if (c == '(') {
+                parens++;
+                i++;
+                continue;
+            }
+            if (c == ')') {
+                parens--;
+                i++;
+                continue;
+            }
+            if (parens > 0) {
+                i++;
+                continue;
+            }
+
+            if (c == '{') {
+                if (depth == 0 && actual == null) {
+                    // Forma abreviada: { campo }
+                    actual = new Operation("query");
+                    operaciones.add(actual);
+                }
+                depth++;
+                i++;
+            } else if (c == '}') {
+                depth--;
+                if (depth == 0) actual = null;
+                i++;
+            } else if (c == '.') {
+                if (depth == 1 && actual != null) actual.spread = true;
+                i++;
+            } else if (c == '@') {
+                // Directiva: se ignora su nombre
+                i++;
+                while (i < n && esParteDeNombre(query.charAt(i))) i++;
+            } else if (esInicioDeNombre(c)) {
+                int inicio = i;
+                while (i < n && esParteDeNombre(query.charAt(i))) i++;
+                String nombre = query.substring(inicio, i);
+
+                if (depth == 0 && actual == null) {
+                    actual = new Operation(nombre);
+                    if (!"fragment".equals(nombre)) operaciones.add(actual);
+                } else if (depth == 1 && actual != null) {
+                    int j = i;
+                    while (j < n && Character.isWhitespace(query.charAt(j))) j++;
+                    // Alias "alias: campo": el campo real es el siguiente nombre
+                    if (j < n && query.charAt(j) == ':') {
+                        i = j + 1;
+                    } else {
+                        actual.rootFields.add(nombre);
+                    }
+                }
+            } else {
+                i++;
+            }
+        }
+        return operaciones;
+    }
+
+    private static int saltarString(String query, int i) {
+        int n = query.length();
+        if (query.startsWith("\"\"\"", i)) {
+            int fin = query.indexOf("\"\"\"", i + 3);
+            return fin < 0 ? n : fin + 3;
+        }
+        i++;
+        while (i < n) {
+            char c = query.charAt(i);
+            if (c == '\\') {
+                i += 2;
+            } else if (c == '"') {
+                return i + 1;
+            } else {
+                i++;
+            }
+        }
+        return n;
+    }
+
+    private static boolean esInicioDeNombre(char c) {
+        return c == '_' || Character.isLetter(c);
+    }
+
+    private static boolean esParteDeNombre(char c) {
+        return c == '_' || Character.isLetterOrDigit(c);
+    }
+
+    public static final class Operation {
+        public final String type;
+        public final List<String> rootFields = new ArrayList<>();
+        public boolean spread;
+
+        Operation(String type) {
+            this.type = type;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.petmanager.api_gateway.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Respuestas GraphQL cacheadas por servicio.
+ * Caffeine limita el tamaño en bytes con su política W-TinyLFU; el TTL es solo una red de seguridad,
+ * la invalidación real llega con cada mutation o evento del servicio dueño de los datos.
+ */
+@Component
+@Slf4j
+public class GraphQlResponseCache {
+
+    // Las notificaciones incluyen nombre y email del proveedor: un cambio en supplier también las invalida
+    private static final Map<String, Set<String>> DEPENDIENTES = Map.of(
+            "supplier", Set.of("notification")
+    );
+
+    private final Cache<CacheKey, CachedResponse> cache;
+    private final Map<String, AtomicLong> generaciones = new ConcurrentHashMap<>();
+
+    public GraphQlResponseCache(@Value("${gateway.graphql-cache.max-size-mb:64}") long maxSizeMb,
+                                @Value("${gateway.graphql-cache.ttl:10m}") Duration ttl,
+                                MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxSizeMb * 1024 * 1024)
+                .weigher((CacheKey k, CachedResponse v) -> v.body().length)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "graphql.response.cache");
+    }
+
+    public CachedResponse get(CacheKey key) {
+        return cache.getIfPresent(key);
+    }
+
+    /**
+     * Generación actual del servicio; se captura antes de enrutar para no guardar
+     * una respuesta que se leyó mientras una mutation la invalidaba
+     */
+    public long generacion(String servicio) {
+        return generaciones.computeIfAbsent(servicio, s -> new AtomicLong()).get();
+    }
+
+    public void put(CacheKey key, CachedResponse response, long generacionLeida) {
+        if (generacion(key.servicio()) != generacionLeida) return;
+        cache.put(key, response);
+        if (generacion(key.servicio()) != generacionLeida) {
+            cache.invalidate(key);
+        }
+    }
+
+    public void invalidarServicio(String servicio) {
+        invalidar(servicio);
+        DEPENDIENTES.getOrDefault(servicio, Set.of()).forEach(this::invalidar);
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    private void invalidar(String servicio) {
+        generaciones.computeIfAbsent(servicio, s -> new AtomicLong()).incrementAndGet();
+        cache.asMap().keySet().removeIf(k -> k.servicio().equals(servicio));
+        log.debug("🧹 Caché GraphQL invalidada para {}", servicio);
+    }
+
+    public record CacheKey(String servicio, String hash) {
+    }
+
+    public record CachedResponse(byte[] body, String etag, MediaType contentType) {
+    }
+}
@@ -1,4 +1,35 @@
 package com.petmanager.api_gateway.config;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.reactive.CorsWebFilter;
+import org.springframework.web.cors.reactive.UrlBasedCorsConfigurationSource;
+
+import java.util.List;
+
+/**
+ * CORS centralizado en el gateway.
+ * Reemplaza los WebConfig de cada microservicio: los backends ya no añaden cabeceras CORS.
+ */
+@Configuration
 public class CorsConfig {
+
+    @Value("${gateway.cors.allowed-origin-patterns:http://localhost:3000}")
+    private List<String> allowedOriginPatterns;
+
+    @Bean
+    public CorsWebFilter corsWebFilter() {
+        CorsConfiguration config = new CorsConfiguration();
+        config.setAllowedOriginPatterns(allowedOriginPatterns);
+        config.addAllowedMethod("*");
+        config.addAllowedHeader("*");
+        config.setAllowCredentials(true);
+        config.setMaxAge(3600L); // Cachear el preflight en el navegador
+
+        UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
+        source.registerCorsConfiguration("/**", config);
+        return new CorsWebFilter(source);
+    }
 }
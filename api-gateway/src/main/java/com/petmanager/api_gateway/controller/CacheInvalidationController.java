@@ -0,0 +1,49 @@
+package com.petmanager.api_gateway.controller;
+
+import com.petmanager.api_gateway.cache.GraphQlResponseCache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Eventos de invalidación enviados por los microservicios cuando cambian sus datos
+ * fuera del gateway (procesos programados, llamadas directas).
+ */
+@RestController
+@RequestMapping("/internal/cache")
+public class CacheInvalidationController {
+
+    private static final Set<String> SERVICIOS = Set.of("supplier", "notification");
+
+    @Autowired
+    private GraphQlResponseCache cache;
+
+    @Value("${gateway.graphql-cache.invalidation-token:}")
+    private String invalidationToken;
+
+    @PostMapping("/evict/{servicio}")
+    public ResponseEntity<Map<String, Object>> evict(@PathVariable String servicio,
+                                                     @RequestHeader(value = "X-Cache-Token", required = false) String token) {
+        if (invalidationToken.isBlank() || token == null
+                || !MessageDigest.isEqual(invalidationToken.getBytes(StandardCharsets.UTF_8), token.getBytes(StandardCharsets.UTF_8))) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(Map.of("error", "Token de invalidación inválido"));
+        }
+        if (!SERVICIOS.contains(servicio)) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Servicio desconocido: " + servicio));
+        }
+
+        cache.invalidarServicio(servicio);
+        return ResponseEntity.ok(Map.of("servicio", servicio, "entradas", cache.size()));
+    }
+}
@@ -0,0 +1,249 @@
+package com.petmanager.api_gateway.filter;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.petmanager.api_gateway.cache.GraphQlOperations;
+import com.petmanager.api_gateway.cache.GraphQlResponseCache;
+import com.petmanager.api_gateway.cache.GraphQlResponseCache.CacheKey;
+import com.petmanager.api_gateway.cache.GraphQlResponseCache.CachedResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Caché de respuestas para las consultas GraphQL de solo lectura de la lista blanca.
+ * La clave es el hash del texto de la consulta más las variables: el sha256Hash de un persisted
+ * query lo elige el cliente y no se comprueba, así que nunca forma parte de la clave.
+ * Las respuestas llevan ETag y se revalidan con If-None-Match (304).
+ * Cualquier mutation que pase por el gateway purga las entradas del servicio.
+ */
+@Component
+@Slf4j
+public class GraphQlCacheFilter implements GlobalFilter, Ordered {
+
+    private static final Pattern GRAPHQL_PATH = Pattern.compile("^/(supplier|notification)/graphql$");
+
+    // Claves de Map ordenadas: variables equivalentes generan la misma clave
+    private static final ObjectMapper CANONICAL = new ObjectMapper()
+            .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+
+    @Autowired
+    private GraphQlResponseCache cache;
+
+    @Value("${gateway.graphql-cache.enabled:true}")
+    private boolean enabled;
+
+    private final Set<String> operacionesCacheables;
+
+    public GraphQlCacheFilter(@Value("${gateway.graphql-cache.operations}") Set<String> operaciones) {
+        this.operacionesCacheables = operaciones;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        Matcher matcher = GRAPHQL_PATH.matcher(request.getPath().pathWithinApplication().value());
+        if (!enabled || request.getMethod() != HttpMethod.POST || !matcher.matches()) {
+            return chain.filter(exchange);
+        }
+        String servicio = matcher.group(1);
+
+        return ServerWebExchangeUtils.cacheRequestBody(exchange, cachedRequest -> {
+            ServerWebExchange conBody = exchange.mutate().request(cachedRequest).build();
+            DataBuffer body = exchange.getAttribute(ServerWebExchangeUtils.CACHED_REQUEST_BODY_ATTR);
+            if (body == null) {
+                return chain.filter(conBody);
+            }
+            String json = body.toString(body.readPosition(), body.readableByteCount(), StandardCharsets.UTF_8);
+            return procesar(conBody, chain, servicio, json);
+        });
+    }
+
+    @Override
+    public int getOrder() {
+        // Después de la autenticación y el rate limiting: un HIT nunca salta esas comprobaciones
+        return -80;
+    }
+
+    private Mono<Void> procesar(ServerWebExchange exchange, GatewayFilterChain chain, String servicio, String json) {
+        JsonNode peticion;
+        try {
+            peticion = CANONICAL.readTree(json);
+        } catch (Exception e) {
+            return chain.filter(exchange);
+        }
+
+        String query = peticion.path("query").asText("");
+        List<GraphQlOperations.Operation> operaciones = GraphQlOperations.parse(query);
+
+        if (operaciones.stream().anyMatch(op -> "mutation".equals(op.type))) {
+            return chain.filter(exchange).then(Mono.fromRunnable(() -> {
+                HttpStatusCode status = exchange.getResponse().getStatusCode();
+                if (status == null || status.is2xxSuccessful()) {
+                    cache.invalidarServicio(servicio);
+                }
+            }));
+        }
+
+        if (!esCacheable(operaciones, query)) {
+            return chain.filter(exchange);
+        }
+
+        CacheKey key = new CacheKey(servicio, claveDe(query, peticion));
+        CachedResponse cached = cache.get(key);
+        if (cached != null) {
+            return responderDesdeCache(exchange, cached);
+        }
+
+        long generacion = cache.generacion(servicio);
+        // El body se guarda sin comprimir; el gateway comprime hacia el cliente
+        ServerHttpRequest sinEncoding = exchange.getRequest().mutate()
+                .headers(h -> h.remove(HttpHeaders.ACCEPT_ENCODING))
+                .build();
+        ServerHttpResponse capturada = new CapturingResponse(exchange, key, generacion);
+        return chain.filter(exchange.mutate().request(sinEncoding).response(capturada).build());
+    }
+
+    private boolean esCacheable(List<GraphQlOperations.Operation> operaciones, String query) {
+        // Un persisted query sin texto no se puede clasificar: pasa directo al backend
+        if (query.isBlank() || operaciones.size() != 1) return false;
+
+        GraphQlOperations.Operation op = operaciones.get(0);
+        return "query".equals(op.type)
+                && !op.spread
+                && !op.rootFields.isEmpty()
+                && operacionesCacheables.containsAll(op.rootFields);
+    }
+
+    private String claveDe(String query, JsonNode peticion) {
+        try {
+            Object variables = CANONICAL.treeToValue(peticion.path("variables"), Object.class);
+            MessageDigest sha = MessageDigest.getInstance("SHA-256");
+            sha.update(query.getBytes(StandardCharsets.UTF_8));
+            sha.update((byte) 0);
+            sha.update(peticion.path("operationName").asText("").getBytes(StandardCharsets.UTF_8));
+            sha.update((byte) 0);
+            sha.update(CANONICAL.writeValueAsBytes(variables));
+            return HexFormat.of().formatHex(sha.digest());
+        } catch (Exception e) {
+            throw new IllegalStateException("No se pudo calcular la clave de caché", e);
+        }
+    }
+
+    private Mono<Void> responderDesdeCache(ServerWebExchange exchange, CachedResponse cached) {
+        ServerHttpResponse response = exchange.getResponse();
+        HttpHeaders headers = response.getHeaders();
+        headers.setETag(cached.etag());
+        headers.setCacheControl("private, no-cache");
+        headers.set("X-Cache", "HIT");
+
+        if (coincideEtag(exchange, cached.etag())) {
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            return response.setComplete();
+        }
+
+        response.setStatusCode(HttpStatus.OK);
+        headers.setContentType(cached.contentType());
+        headers.setContentLength(cached.body().length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(cached.body())));
+    }
+
+    private static boolean coincideEtag(ServerWebExchange exchange, String etag) {
+        List<String> ifNoneMatch = exchange.getRequest().getHeaders().getIfNoneMatch();
+        return ifNoneMatch.contains(etag) || ifNoneMatch.contains("*");
+    }
+
+    private static String etagDe(byte[] body) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(hash) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible en la JVM", e);
+        }
+    }
+
+    /**
+     * Acumula la respuesta del backend para guardarla y calcular su ETag
+     */
+    private class CapturingResponse extends ServerHttpResponseDecorator {
+
+        private final ServerWebExchange exchange;
+        private final CacheKey key;
+        private final long generacion;
+
+        CapturingResponse(ServerWebExchange exchange, CacheKey key, long generacion) {
+            super(exchange.getResponse());
+            this.exchange = exchange;
+            this.key = key;
+            this.generacion = generacion;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            return DataBufferUtils.join(Flux.from(body)).flatMap(buffer -> {
+                byte[] bytes = new byte[buffer.readableByteCount()];
+                buffer.read(bytes);
+                DataBufferUtils.release(buffer);
+
+                HttpHeaders headers = getDelegate().getHeaders();
+                headers.set("X-Cache", "MISS");
+
+                if (HttpStatus.OK.equals(getStatusCode()) && sinErrores(bytes)) {
+                    String etag = etagDe(bytes);
+                    cache.put(key, new CachedResponse(bytes, etag, headers.getContentType()), generacion);
+                    headers.setETag(etag);
+                    headers.setCacheControl("private, no-cache");
+
+                    if (coincideEtag(exchange, etag)) {
+                        getDelegate().setStatusCode(HttpStatus.NOT_MODIFIED);
+                        headers.remove(HttpHeaders.TRANSFER_ENCODING);
+                        headers.remove(HttpHeaders.CONTENT_LENGTH);
+                        return getDelegate().setComplete();
+                    }
+                }
+
+                headers.remove(HttpHeaders.TRANSFER_ENCODING);
+                headers.setContentLength(bytes.length);
+                return getDelegate().writeWith(Mono.just(bufferFactory().wrap(bytes)));
+            });
+        }
+
+        // Las respuestas con "errors" (aunque sean 200) no se cachean
+        private boolean sinErrores(byte[] bytes) {
+            try {
+                return !CANONICAL.readTree(bytes).has("errors");
+            } catch (Exception e) {
+                return false;
+            }
+        }
+    }
+}
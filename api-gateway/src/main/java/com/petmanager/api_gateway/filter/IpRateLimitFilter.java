@@ -0,0 +1,44 @@
+package com.petmanager.api_gateway.filter;
+
+import com.petmanager.api_gateway.ratelimit.RateLimitBuckets;
+import com.petmanager.api_gateway.ratelimit.TokenBucket;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * Rate limiting por IP antes de verificar el JWT: las peticiones sin token o con un token
+ * inválido también gastan del bucket de su IP, y una avalancha se corta sin pagar el HMAC.
+ */
+@Component
+public class IpRateLimitFilter implements GlobalFilter, Ordered {
+
+    @Autowired
+    private RateLimitBuckets buckets;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        if (!buckets.isEnabled()) {
+            return chain.filter(exchange);
+        }
+
+        TokenBucket bucketIp = buckets.porIp(exchange);
+        if (!bucketIp.tryConsume()) {
+            return RateLimitBuckets.rechazar(exchange, bucketIp);
+        }
+
+        exchange.getResponse().getHeaders()
+                .set("X-RateLimit-Remaining", String.valueOf(bucketIp.getAvailableTokens()));
+        return chain.filter(exchange);
+    }
+
+    @Override
+    public int getOrder() {
+        // Antes de JwtAuthenticationFilter (-100)
+        return -110;
+    }
+}
@@ -0,0 +1,139 @@
+package com.petmanager.api_gateway.filter;
+
+import com.petmanager.api_gateway.security.JwtVerifier;
+import com.petmanager.api_gateway.security.RevokedTokenStore;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Valida el JWT en el borde antes de enrutar hacia los microservicios.
+ * Las peticiones autenticadas llegan a los servicios con la identidad
+ * en cabeceras X-Auth-*, que nunca se aceptan desde el cliente.
+ */
+@Component
+@Slf4j
+public class JwtAuthenticationFilter implements GlobalFilter, Ordered {
+
+    public static final String USER_ATTRIBUTE = "gateway.authenticatedUser";
+    public static final String HEADER_USER = "X-Auth-User";
+    public static final String HEADER_USER_ID = "X-Auth-User-Id";
+
+    private static final String LOGOUT_PATH = "/auth/logout";
+
+    @Autowired
+    private JwtVerifier jwtVerifier;
+
+    @Autowired
+    private RevokedTokenStore revokedTokenStore;
+
+    private final List<PathPattern> rutasPublicas;
+
+    public JwtAuthenticationFilter(@Value("${gateway.security.public-paths}") String[] publicPaths) {
+        this.rutasPublicas = Arrays.stream(publicPaths)
+                .map(String::trim)
+                .map(PathPatternParser.defaultInstance::parse)
+                .toList();
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        String path = request.getPath().pathWithinApplication().value();
+
+        // Nunca confiar en cabeceras de identidad enviadas por el cliente
+        ServerHttpRequest.Builder mutado = request.mutate().headers(h -> {
+            h.remove(HEADER_USER);
+            h.remove(HEADER_USER_ID);
+        });
+
+        String token = extraerToken(request);
+        if (token == null) {
+            if (request.getMethod() == HttpMethod.OPTIONS || esPublica(path)) {
+                return chain.filter(exchange.mutate().request(mutado.build()).build());
+            }
+            return rechazar(exchange, "Token requerido");
+        }
+
+        Claims claims;
+        try {
+            claims = jwtVerifier.verify(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("JWT rechazado en {}: {}", path, e.getMessage());
+            return rechazar(exchange, "Token inválido o expirado");
+        }
+
+        if (revokedTokenStore.isRevoked(token)) {
+            return rechazar(exchange, "Token revocado. Por favor inicia sesión nuevamente.");
+        }
+
+        mutado.header(HEADER_USER, claims.getSubject());
+        Object id = claims.get("id");
+        if (id != null) {
+            mutado.header(HEADER_USER_ID, id.toString());
+        }
+        exchange.getAttributes().put(USER_ATTRIBUTE, claims.getSubject());
+
+        ServerWebExchange autenticado = exchange.mutate().request(mutado.build()).build();
+
+        if (!LOGOUT_PATH.equals(path)) {
+            return chain.filter(autenticado);
+        }
+
+        // Logout: revocar también en la réplica local sin esperar a la sincronización
+        return chain.filter(autenticado).then(Mono.fromRunnable(() -> {
+            if (autenticado.getResponse().getStatusCode() != null
+                    && autenticado.getResponse().getStatusCode().is2xxSuccessful()) {
+                revokedTokenStore.revokeLocally(token);
+            }
+        }));
+    }
+
+    @Override
+    public int getOrder() {
+        // Después del límite por IP y antes del límite por usuario y del enrutado
+        return -100;
+    }
+
+    private boolean esPublica(String path) {
+        PathContainer container = PathContainer.parsePath(path);
+        return rutasPublicas.stream().anyMatch(p -> p.matches(container));
+    }
+
+    private String extraerToken(ServerHttpRequest request) {
+        String authHeader = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (authHeader != null && authHeader.startsWith("Bearer ")) {
+            return authHeader.substring(7);
+        }
+        return null;
+    }
+
+    private Mono<Void> rechazar(ServerWebExchange exchange, String mensaje) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.UNAUTHORIZED);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        byte[] body = ("{\"error\": \"" + mensaje + "\"}").getBytes(StandardCharsets.UTF_8);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+    }
+}
@@ -0,0 +1,44 @@
+package com.petmanager.api_gateway.filter;
+
+import com.petmanager.api_gateway.ratelimit.RateLimitBuckets;
+import com.petmanager.api_gateway.ratelimit.TokenBucket;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * Rate limiting por usuario autenticado; necesita la identidad que deja JwtAuthenticationFilter
+ */
+@Component
+public class UserRateLimitFilter implements GlobalFilter, Ordered {
+
+    @Autowired
+    private RateLimitBuckets buckets;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        String usuario = exchange.getAttribute(JwtAuthenticationFilter.USER_ATTRIBUTE);
+        if (!buckets.isEnabled() || usuario == null) {
+            return chain.filter(exchange);
+        }
+
+        TokenBucket bucketUsuario = buckets.porUsuario(usuario);
+        if (!bucketUsuario.tryConsume()) {
+            return RateLimitBuckets.rechazar(exchange, bucketUsuario);
+        }
+
+        exchange.getResponse().getHeaders()
+                .set("X-RateLimit-Remaining", String.valueOf(bucketUsuario.getAvailableTokens()));
+        return chain.filter(exchange);
+    }
+
+    @Override
+    public int getOrder() {
+        // Después de JwtAuthenticationFilter (-100)
+        return -90;
+    }
+}
@@ -0,0 +1,73 @@
+package com.petmanager.api_gateway.ratelimit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token buckets en proceso por IP y por usuario autenticado, compartidos por los dos filtros
+ * de rate limiting. Con el perfil "redis" se desactiva en favor del RequestRateLimiter distribuido.
+ */
+@Component
+public class RateLimitBuckets {
+
+    private static final long BUCKET_INACTIVO_NANOS = TimeUnit.MINUTES.toNanos(10);
+
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    private final boolean enabled;
+    private final long ipCapacity;
+    private final double ipRefillPerSecond;
+    private final long userCapacity;
+    private final double userRefillPerSecond;
+
+    public RateLimitBuckets(@Value("${gateway.rate-limit.local.enabled:true}") boolean enabled,
+                            @Value("${gateway.rate-limit.ip.capacity:100}") long ipCapacity,
+                            @Value("${gateway.rate-limit.ip.refill-per-second:50}") double ipRefillPerSecond,
+                            @Value("${gateway.rate-limit.user.capacity:60}") long userCapacity,
+                            @Value("${gateway.rate-limit.user.refill-per-second:20}") double userRefillPerSecond) {
+        this.enabled = enabled;
+        this.ipCapacity = ipCapacity;
+        this.ipRefillPerSecond = ipRefillPerSecond;
+        this.userCapacity = userCapacity;
+        this.userRefillPerSecond = userRefillPerSecond;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public TokenBucket porIp(ServerWebExchange exchange) {
+        InetSocketAddress remote = exchange.getRequest().getRemoteAddress();
+        String ip = remote != null ? remote.getAddress().getHostAddress() : "desconocida";
+        return buckets.computeIfAbsent("ip:" + ip, k -> new TokenBucket(ipCapacity, ipRefillPerSecond));
+    }
+
+    public TokenBucket porUsuario(String usuario) {
+        return buckets.computeIfAbsent("user:" + usuario, k -> new TokenBucket(userCapacity, userRefillPerSecond));
+    }
+
+    // Libera los buckets de clientes que ya no envían peticiones
+    @Scheduled(fixedDelay = 60_000)
+    public void limpiarBucketsInactivos() {
+        long limite = System.nanoTime() - BUCKET_INACTIVO_NANOS;
+        buckets.values().removeIf(b -> b.getLastAccessNanos() - limite < 0);
+    }
+
+    public static Mono<Void> rechazar(ServerWebExchange exchange, TokenBucket bucket) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+        response.getHeaders().set("Retry-After", String.valueOf(Math.max(1, bucket.secondsUntilNextToken())));
+        response.getHeaders().set("X-RateLimit-Remaining", "0");
+        return response.setComplete();
+    }
+}
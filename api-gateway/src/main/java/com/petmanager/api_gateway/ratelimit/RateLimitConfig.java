@@ -0,0 +1,29 @@
+package com.petmanager.api_gateway.ratelimit;
+
+import com.petmanager.api_gateway.filter.JwtAuthenticationFilter;
+import org.springframework.cloud.gateway.filter.ratelimit.KeyResolver;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+
+/**
+ * Clave de rate limiting para el RequestRateLimiter de Redis (perfil "redis"):
+ * usuario autenticado si existe, IP del cliente en caso contrario
+ */
+@Configuration
+public class RateLimitConfig {
+
+    @Bean
+    public KeyResolver identityKeyResolver() {
+        return exchange -> {
+            String usuario = exchange.getAttribute(JwtAuthenticationFilter.USER_ATTRIBUTE);
+            if (usuario != null) {
+                return Mono.just("user:" + usuario);
+            }
+            InetSocketAddress remote = exchange.getRequest().getRemoteAddress();
+            return Mono.just("ip:" + (remote != null ? remote.getAddress().getHostAddress() : "desconocida"));
+        };
+    }
+}
@@ -0,0 +1,58 @@
+package com.petmanager.api_gateway.ratelimit;
+
+/**
+ * Token bucket en proceso: capacidad máxima y recarga continua de tokens por segundo
+ */
+public class TokenBucket {
+
+    private final long capacity;
+    private final double refillPerNano;
+    private double tokens;
+    private long lastRefillNanos;
+    private volatile long lastAccessNanos;
+
+    public TokenBucket(long capacity, double refillPerSecond) {
+        this.capacity = capacity;
+        this.refillPerNano = refillPerSecond / 1_000_000_000d;
+        this.tokens = capacity;
+        this.lastRefillNanos = System.nanoTime();
+        this.lastAccessNanos = lastRefillNanos;
+    }
+
+    /**
+     * Consume un token si hay disponible
+     */
+    public synchronized boolean tryConsume() {
+        refill();
+        if (tokens >= 1) {
+            tokens -= 1;
+            return true;
+        }
+        return false;
+    }
+
+    public synchronized long getAvailableTokens() {
+        refill();
+        return (long) tokens;
+    }
+
+    /**
+     * Segundos hasta que haya al menos un token (para la cabecera Retry-After)
+     */
+    public synchronized long secondsUntilNextToken() {
+        refill();
+        if (tokens >= 1) return 0;
+        return (long) Math.ceil((1 - tokens) / refillPerNano / 1_000_000_000d);
+    }
+
+    public long getLastAccessNanos() {
+        return lastAccessNanos;
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * refillPerNano);
+        lastRefillNanos = now;
+        lastAccessNanos = now;
+    }
+}
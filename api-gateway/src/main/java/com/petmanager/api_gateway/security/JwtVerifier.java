@@ -0,0 +1,32 @@
+package com.petmanager.api_gateway.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Verificación local de JWT con la clave compartida con auth-service.
+ * No consulta la base de datos: solo firma y expiración.
+ */
+@Component
+public class JwtVerifier {
+
+    private final JwtParser parser;
+
+    public JwtVerifier(@Value("${gateway.security.jwt-secret}") String secret) {
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret)))
+                .build();
+    }
+
+    /**
+     * Devuelve los claims del token o lanza JwtException si la firma o la expiración no son válidas
+     */
+    public Claims verify(String token) {
+        return parser.parseClaimsJws(token).getBody();
+    }
+}
@@ -0,0 +1,100 @@
+package com.petmanager.api_gateway.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Réplica en memoria de los tokens revocados en auth-service.
+ * Se sincroniza de forma incremental contra GET /internal/revoked-tokens,
+ * usando el mismo digest SHA-256 que guarda la tabla revoked_tokens.
+ */
+@Component
+@Slf4j
+public class RevokedTokenStore {
+
+    // Los JWT expiran a las 24 horas: no hace falta recordar revocaciones más antiguas
+    private static final long RETENCION_MS = Duration.ofHours(24).toMillis();
+    private static final long SOLAPAMIENTO_MS = 1000;
+
+    private final Map<String, Long> revocados = new ConcurrentHashMap<>();
+    private final WebClient authClient;
+    private volatile long ultimaRevocacion = -1;
+
+    public RevokedTokenStore(WebClient.Builder webClientBuilder,
+                             @Value("${services.auth-service.url}") String authServiceUrl) {
+        this.authClient = webClientBuilder.baseUrl(authServiceUrl).build();
+    }
+
+    public boolean isRevoked(String token) {
+        return revocados.containsKey(digest(token));
+    }
+
+    /**
+     * Registra una revocación vista en el propio gateway (logout) sin esperar a la siguiente sincronización
+     */
+    public void revokeLocally(String token) {
+        revocados.put(digest(token), System.currentTimeMillis());
+    }
+
+    public int size() {
+        return revocados.size();
+    }
+
+    @Scheduled(fixedDelayString = "${gateway.security.revoked-sync-interval-ms:5000}")
+    public void sincronizar() {
+        long desde = ultimaRevocacion < 0 ? -1 : ultimaRevocacion - SOLAPAMIENTO_MS;
+
+        try {
+            authClient.get()
+                    .uri(builder -> {
+                        builder.path("/internal/revoked-tokens");
+                        if (desde >= 0) {
+                            builder.queryParam("since", desde);
+                        }
+                        return builder.build();
+                    })
+                    .retrieve()
+                    .bodyToFlux(Revocacion.class)
+                    .doOnNext(r -> {
+                        revocados.put(r.hash(), r.revokedAt());
+                        if (r.revokedAt() > ultimaRevocacion) {
+                            ultimaRevocacion = r.revokedAt();
+                        }
+                    })
+                    .then()
+                    .block(Duration.ofSeconds(5));
+
+            if (ultimaRevocacion < 0) {
+                ultimaRevocacion = System.currentTimeMillis() - RETENCION_MS;
+            }
+        } catch (Exception e) {
+            log.warn("No se pudo sincronizar tokens revocados con auth-service: {}", e.getMessage());
+        }
+
+        long limite = System.currentTimeMillis() - RETENCION_MS;
+        revocados.values().removeIf(revokedAt -> revokedAt < limite);
+    }
+
+    static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible en la JVM", e);
+        }
+    }
+
+    record Revocacion(String hash, long revokedAt) {
+    }
+}
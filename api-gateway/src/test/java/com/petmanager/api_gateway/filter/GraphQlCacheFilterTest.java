@@ -0,0 +1,97 @@
+package com.petmanager.api_gateway.filter;
+
+import com.petmanager.api_gateway.cache.GraphQlResponseCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GraphQlCacheFilterTest {
+
+    private static final String CONSULTA = "query { getProveedores { id nombre } }";
+    private static final String OTRA_CONSULTA = "query { getProveedores { id nombre email } }";
+    private static final String HASH_CONSULTA = "4c3f1f0c7a8e2b6d9e5a1c0b3d7f2e8a6c4b9d1e0f3a5c7b2d8e6f1a9c0b4d3e";
+
+    private final AtomicInteger llamadasBackend = new AtomicInteger();
+    private GraphQlCacheFilter filtro;
+
+    @BeforeEach
+    void setUp() {
+        filtro = new GraphQlCacheFilter(Set.of("getProveedores"));
+        ReflectionTestUtils.setField(filtro, "cache",
+                new GraphQlResponseCache(64, Duration.ofMinutes(10), new SimpleMeterRegistry()));
+        ReflectionTestUtils.setField(filtro, "enabled", true);
+    }
+
+    @Test
+    void laMismaConsultaSeSirveDesdeCache() {
+        MockServerWebExchange primera = ejecutar(peticion(CONSULTA, null));
+        MockServerWebExchange segunda = ejecutar(peticion(CONSULTA, null));
+
+        assertThat(primera.getResponse().getHeaders().getFirst("X-Cache")).isEqualTo("MISS");
+        assertThat(segunda.getResponse().getHeaders().getFirst("X-Cache")).isEqualTo("HIT");
+        assertThat(llamadasBackend).hasValue(1);
+    }
+
+    @Test
+    void unHashDePersistedQueryAjenoNoComparteEntrada() {
+        MockServerWebExchange victima = ejecutar(peticion(CONSULTA, HASH_CONSULTA));
+        // Otra consulta enviada con el hash de la primera: no debe leer ni pisar su entrada
+        MockServerWebExchange atacante = ejecutar(peticion(OTRA_CONSULTA, HASH_CONSULTA));
+        MockServerWebExchange otraVictima = ejecutar(peticion(CONSULTA, HASH_CONSULTA));
+
+        assertThat(atacante.getResponse().getHeaders().getFirst("X-Cache")).isEqualTo("MISS");
+        assertThat(atacante.getResponse().getBodyAsString().block()).contains("email");
+        assertThat(otraVictima.getResponse().getHeaders().getFirst("X-Cache")).isEqualTo("HIT");
+        assertThat(otraVictima.getResponse().getBodyAsString().block())
+                .isEqualTo(victima.getResponse().getBodyAsString().block())
+                .doesNotContain("email");
+        assertThat(llamadasBackend).hasValue(2);
+    }
+
+    private static MockServerHttpRequest peticion(String query, String persistedHash) {
+        String extensions = persistedHash == null ? ""
+                : ", \"extensions\": {\"persistedQuery\": {\"version\": 1, \"sha256Hash\": \"" + persistedHash + "\"}}";
+        return MockServerHttpRequest.post("/supplier/graphql")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body("{\"query\": \"" + query + "\"" + extensions + "}");
+    }
+
+    private MockServerWebExchange ejecutar(MockServerHttpRequest request) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(request);
+        filtro.filter(exchange, backend()).block();
+        return exchange;
+    }
+
+    /**
+     * Backend que responde con los campos pedidos en la consulta
+     */
+    private GatewayFilterChain backend() {
+        return exchange -> DataBufferUtils.join(exchange.getRequest().getBody()).flatMap(buffer -> {
+            llamadasBackend.incrementAndGet();
+            String peticion = buffer.toString(StandardCharsets.UTF_8);
+            DataBufferUtils.release(buffer);
+            String campos = peticion.contains("email") ? "\"id\": 1, \"nombre\": \"A\", \"email\": \"a@a.co\"" : "\"id\": 1, \"nombre\": \"A\"";
+            ServerHttpResponse response = exchange.getResponse();
+            response.setStatusCode(HttpStatus.OK);
+            response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+            byte[] body = ("{\"data\": {\"getProveedores\": [{" + campos + "}]}}").getBytes(StandardCharsets.UTF_8);
+            return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+        });
+    }
+}
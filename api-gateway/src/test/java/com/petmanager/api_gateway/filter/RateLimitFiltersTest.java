@@ -0,0 +1,92 @@
+package com.petmanager.api_gateway.filter;
+
+import com.petmanager.api_gateway.ratelimit.RateLimitBuckets;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.OrderComparator;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitFiltersTest {
+
+    private final List<GlobalFilter> filtros = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        // 2 peticiones por IP y 1 por usuario, sin recarga apreciable durante el test
+        RateLimitBuckets buckets = new RateLimitBuckets(true, 2, 0.001, 1, 0.001);
+        IpRateLimitFilter porIp = new IpRateLimitFilter();
+        ReflectionTestUtils.setField(porIp, "buckets", buckets);
+        UserRateLimitFilter porUsuario = new UserRateLimitFilter();
+        ReflectionTestUtils.setField(porUsuario, "buckets", buckets);
+
+        filtros.add(porUsuario);
+        filtros.add(new JwtAuthenticationFilter(new String[]{"/auth/graphql"}));
+        filtros.add(porIp);
+        OrderComparator.sort(filtros);
+    }
+
+    @Test
+    void peticionesSinTokenPorEncimaDelLimiteRecibenTooManyRequests() {
+        assertThat(ejecutar(peticion("10.0.0.1"))).isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(ejecutar(peticion("10.0.0.1"))).isEqualTo(HttpStatus.UNAUTHORIZED);
+
+        MockServerWebExchange tercera = peticion("10.0.0.1");
+        assertThat(ejecutar(tercera)).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(tercera.getResponse().getHeaders().getFirst("Retry-After")).isNotNull();
+
+        // Otra IP conserva su propio bucket
+        assertThat(ejecutar(peticion("10.0.0.2"))).isEqualTo(HttpStatus.UNAUTHORIZED);
+    }
+
+    @Test
+    void elLimiteDeIpCortaAntesDeVerificarElJwt() {
+        assertThat(filtros.stream().map(Object::getClass).toList()).containsExactly(
+                IpRateLimitFilter.class, JwtAuthenticationFilter.class, UserRateLimitFilter.class);
+    }
+
+    @Test
+    void elLimitePorUsuarioSeAplicaTrasLaAutenticacion() {
+        // Sustituye la verificación del JWT por una identidad ya resuelta
+        filtros.set(1, (exchange, chain) -> {
+            exchange.getAttributes().put(JwtAuthenticationFilter.USER_ATTRIBUTE, "ana");
+            return chain.filter(exchange);
+        });
+
+        assertThat(ejecutar(peticion("10.0.0.1"))).isEqualTo(HttpStatus.OK);
+        assertThat(ejecutar(peticion("10.0.0.2"))).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+    }
+
+    private static MockServerWebExchange peticion(String ip) {
+        return MockServerWebExchange.from(MockServerHttpRequest.post("/supplier/graphql")
+                .remoteAddress(new InetSocketAddress(ip, 40000)));
+    }
+
+    /**
+     * Recorre los filtros en orden; el final de la cadena responde 200 como lo haría el backend
+     */
+    private HttpStatus ejecutar(ServerWebExchange exchange) {
+        cadena(0).filter(exchange).block();
+        HttpStatus status = (HttpStatus) exchange.getResponse().getStatusCode();
+        return status != null ? status : HttpStatus.OK;
+    }
+
+    private GatewayFilterChain cadena(int indice) {
+        if (indice == filtros.size()) {
+            return exchange -> Mono.empty();
+        }
+        return exchange -> filtros.get(indice).filter(exchange, cadena(indice + 1));
+    }
+}
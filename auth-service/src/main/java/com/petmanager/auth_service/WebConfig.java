@@ -1,24 +0,0 @@
-package com.petmanager.auth_service;
-
-import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.Configuration;
-import org.springframework.web.servlet.config.annotation.CorsRegistry;
-import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
-
-@Configuration
-public class WebConfig {
-
-  @Bean
-  public WebMvcConfigurer corsConfigurer() {
-    return new WebMvcConfigurer() {
-      @Override
-      public void addCorsMappings(CorsRegistry registry) {
-        registry.addMapping("/**")
-          .allowedOriginPatterns("http://localhost:3000")
-          .allowedMethods("*")
-          .allowedHeaders("*")
-          .allowCredentials(true);
-      }
-    };
-  }
-}
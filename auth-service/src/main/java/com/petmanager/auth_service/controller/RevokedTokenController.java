@@ -0,0 +1,47 @@
+package com.petmanager.auth_service.controller;
+
+import com.petmanager.auth_service.service.TokenBlacklistService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Endpoint interno (no enrutado por el api-gateway) para replicar
+ * los digests de tokens revocados en la caché del gateway
+ */
+@RestController
+@RequestMapping("/internal")
+public class RevokedTokenController {
+
+    @Autowired
+    private TokenBlacklistService tokenBlacklistService;
+
+    /**
+     * Revocaciones posteriores a "since" (epoch millis). Sin parámetro devuelve las últimas 24 horas.
+     */
+    @GetMapping("/revoked-tokens")
+    public ResponseEntity<List<Map<String, Object>>> revokedTokens(@RequestParam(required = false) Long since) {
+        LocalDateTime desde = since != null
+                ? LocalDateTime.ofInstant(Instant.ofEpochMilli(since), ZoneId.systemDefault())
+                : LocalDateTime.now().minusHours(24);
+
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        List<Map<String, Object>> revocados = tokenBlacklistService.revokedSince(desde).stream()
+                .map(r -> Map.<String, Object>of(
+                        "hash", encoder.encodeToString(r.getTokenHash()),
+                        "revokedAt", r.getRevokedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()))
+                .toList();
+
+        return ResponseEntity.ok(revocados);
+    }
+}
@@ -8,19 +8,21 @@ import java.time.LocalDateTime;
 public class RevokedToken {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "revoked_tokens_seq")
+    @SequenceGenerator(name = "revoked_tokens_seq", sequenceName = "revoked_tokens_id_seq", allocationSize = 50)
     private Long id;
 
-    @Column(nullable = false, unique = true)
-    private String token;
+    // SHA-256 del JWT (32 bytes) en lugar del token completo
+    @Column(name = "token_hash", nullable = false, unique = true, length = 32, columnDefinition = "bytea")
+    private byte[] tokenHash;
 
     @Column(nullable = false)
     private LocalDateTime revokedAt;
 
     public RevokedToken() {}
 
-    public RevokedToken(String token, LocalDateTime revokedAt) {
-        this.token = token;
+    public RevokedToken(byte[] tokenHash, LocalDateTime revokedAt) {
+        this.tokenHash = tokenHash;
         this.revokedAt = revokedAt;
     }
 
@@ -28,12 +30,12 @@ public class RevokedToken {
         return id;
     }
 
-    public String getToken() {
-        return token;
+    public byte[] getTokenHash() {
+        return tokenHash;
     }
 
-    public void setToken(String token) {
-        this.token = token;
+    public void setTokenHash(byte[] tokenHash) {
+        this.tokenHash = tokenHash;
     }
 
     public LocalDateTime getRevokedAt() {
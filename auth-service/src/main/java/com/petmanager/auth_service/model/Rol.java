@@ -2,9 +2,13 @@ package com.petmanager.auth_service.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Table(name = "rol")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "rol")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -2,6 +2,8 @@ package com.petmanager.auth_service.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 import java.util.Set;
@@ -15,7 +17,8 @@ import java.util.Set;
 public class User {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "usuario_seq")
+    @SequenceGenerator(name = "usuario_seq", sequenceName = "usuario_id_usuario_seq", allocationSize = 50)
     @Column(name = "id_usuario")
     private Long id;
 
@@ -34,7 +37,9 @@ public class User {
     @Column(name = "activo")
     private Boolean activo;
 
+    // Colección en caché de segundo nivel: ids de Rol, resueltos contra la región de Rol
     @ManyToMany(fetch = FetchType.EAGER)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "usuario-roles")
     @JoinTable(
             name = "rolxusuario",
             joinColumns = @JoinColumn(name = "id_usuario"),
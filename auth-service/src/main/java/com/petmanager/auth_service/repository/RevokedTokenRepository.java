@@ -4,11 +4,13 @@ import com.petmanager.auth_service.model.RevokedToken;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.time.LocalDateTime;
-import java.util.Optional;
+import java.util.List;
 
 public interface RevokedTokenRepository extends JpaRepository<RevokedToken, Long> {
-    Optional<RevokedToken> findByToken(String token);
-    boolean existsByToken(String token);
+    boolean existsByTokenHash(byte[] tokenHash);
+
+    // Revocaciones recientes para replicar al api-gateway
+    List<RevokedToken> findByRevokedAtAfterOrderByRevokedAtAsc(LocalDateTime time);
 
     // Nuevo método para limpiar tokens antiguos
     void deleteAllByRevokedAtBefore(LocalDateTime time);
@@ -1,10 +1,16 @@
 package com.petmanager.auth_service.repository;
 
 import com.petmanager.auth_service.model.Rol;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.Optional;
 
 public interface RolRepository extends JpaRepository<Rol, Long> {
+
+    // Caché de consultas: Hibernate invalida el resultado en cuanto se escribe en la tabla rol
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Rol> findByNombre(String nombre);
 }
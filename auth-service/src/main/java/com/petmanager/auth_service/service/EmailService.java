@@ -1,5 +1,7 @@
 package com.petmanager.auth_service.service;
 
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import lombok.extern.slf4j.Slf4j;
@@ -22,6 +24,9 @@ public class EmailService {
     @Autowired
     private JavaMailSender mailSender;
 
+    @Autowired
+    private ObservationRegistry observationRegistry;
+
     @Value("${mail.from:camiloloaiza0303@gmail.com}")
     private String senderEmail;
 
@@ -35,12 +40,8 @@ public class EmailService {
      * Envía email de recuperación de contraseña con plantilla HTML elegante
      */
     public boolean enviarCorreoRecuperacion(String destinatario, String token, String nombreUsuario) {
+        long inicio = System.nanoTime();
         try {
-            log.info("📧 Preparando envío de email de recuperación...");
-            log.info("   👤 Usuario: {}", nombreUsuario);
-            log.info("   📧 Destinatario: {}", destinatario);
-            log.info("   🔑 Token: {}...", token.substring(0, 8));
-
             // Generar enlace de recuperación
             String enlaceRecuperacion = frontendUrl + "/recover-password?token=" + token;
 
@@ -58,34 +59,35 @@ public class EmailService {
             helper.setSubject(asunto);
             helper.setText(contenidoHtml, true); // true = es HTML
 
-            // Log del email a enviar
-            log.info("📨 ENVIANDO EMAIL DE RECUPERACIÓN VIA BREVO:");
-            log.info("   📤 De: {} <{}>", senderName, senderEmail);
-            log.info("   📥 Para: {}", destinatario);
-            log.info("   📋 Asunto: {}", asunto);
-            log.info("   🔗 Enlace: {}", enlaceRecuperacion);
-            log.info("   📄 Tipo: HTML");
-            log.info("   🔢 Tamaño contenido: {} caracteres", contenidoHtml.length());
+            // Enviar email (span smtp.send dentro de la traza de la petición)
+            Observation.createNotStarted("smtp.send", observationRegistry)
+                    .contextualName("smtp send")
+                    .lowCardinalityKeyValue("tipo", "recuperacion")
+                    .observe(() -> mailSender.send(message));
 
-            // Enviar email
-            mailSender.send(message);
-
-            log.info("✅ EMAIL DE RECUPERACIÓN ENVIADO EXITOSAMENTE VIA BREVO");
-            log.info("   ✉️ Destinatario: {}", destinatario);
-            log.info("   👤 Usuario: {}", nombreUsuario);
+            // Un solo evento por envío; el enlace lleva el token y no se registra
+            log.atInfo().setMessage("✅ Email de recuperación enviado")
+                    .addKeyValue("usuario", nombreUsuario)
+                    .addKeyValue("destinatario", destinatario)
+                    .addKeyValue("bytes", contenidoHtml.length())
+                    .addKeyValue("ms", (System.nanoTime() - inicio) / 1_000_000)
+                    .log();
 
             return true;
 
         } catch (MessagingException e) {
-            log.error("❌ Error de configuración del mensaje: {}", e.getMessage());
-            log.error("   📧 Destinatario: {}", destinatario);
-            log.error("   🔧 Verificar configuración SMTP");
+            log.atError().setMessage("❌ Error de configuración del mensaje (verificar SMTP)")
+                    .addKeyValue("destinatario", destinatario)
+                    .addKeyValue("error", e.getMessage())
+                    .log();
             return false;
 
         } catch (Exception e) {
-            log.error("💥 Error general enviando email: {}", e.getMessage(), e);
-            log.error("   📧 Destinatario: {}", destinatario);
-            log.error("   👤 Usuario: {}", nombreUsuario);
+            log.atError().setMessage("💥 Error general enviando email de recuperación")
+                    .addKeyValue("usuario", nombreUsuario)
+                    .addKeyValue("destinatario", destinatario)
+                    .setCause(e)
+                    .log();
             return false;
         }
     }
@@ -254,8 +256,6 @@ public class EmailService {
      */
     public boolean enviarEmailPrueba(String destinatario) {
         try {
-            log.info("🧪 Enviando email de prueba a: {}", destinatario);
-
             MimeMessage message = mailSender.createMimeMessage();
             MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
 
@@ -294,8 +294,7 @@ public class EmailService {
             helper.setText(contenidoPrueba, true);
             mailSender.send(message);
 
-            log.info("✅ EMAIL DE PRUEBA ENVIADO EXITOSAMENTE VIA BREVO");
-            log.info("   📧 Destinatario: {}", destinatario);
+            log.info("✅ Email de prueba enviado a {}", destinatario);
 
             return true;
 
@@ -310,7 +309,6 @@ public class EmailService {
      */
     public boolean verificarServicioEmail() {
         try {
-            log.info("🔍 Verificando conexión con Brevo SMTP...");
             log.info("✅ Configuración SMTP válida para auth-service");
             return true;
         } catch (Exception e) {
@@ -3,18 +3,33 @@ package com.petmanager.auth_service.service;
 import com.petmanager.auth_service.model.User;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.security.Key;
 import java.util.Date;
+import java.util.UUID;
 
 @Service
+@Slf4j
 public class JwtService {
 
-    private final Key secretKey = Keys.secretKeyFor(SignatureAlgorithm.HS256);
+    private final Key secretKey;
     private final long EXPIRATION_TIME = 1000 * 60 * 60 * 24; // 24 horas
 
+    // Clave compartida con el api-gateway (Base64, mínimo 256 bits) para validar JWT en el borde
+    public JwtService(@Value("${jwt.secret:}") String secret) {
+        if (secret == null || secret.isBlank()) {
+            log.warn("jwt.secret no configurado: se genera una clave aleatoria (los tokens no se validarán en el gateway)");
+            this.secretKey = Keys.secretKeyFor(SignatureAlgorithm.HS256);
+        } else {
+            this.secretKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+        }
+    }
+
     //  método para generar token usando un objeto User
     public String generateToken(User user) {
         return Jwts.builder()
@@ -22,6 +37,7 @@ public class JwtService {
                 .claim("id", user.getId())
                 .claim("nombre", user.getNombre())
                 .claim("activo", user.getActivo())
+                .setId(UUID.randomUUID().toString()) // jti: cada token es único aunque se emita en el mismo segundo
                 .setIssuedAt(new Date())
                 .setExpiration(new Date(System.currentTimeMillis() + EXPIRATION_TIME))
                 .signWith(secretKey)
@@ -32,6 +48,7 @@ public class JwtService {
     public String generateToken(String subject) {
         return Jwts.builder()
                 .setSubject(subject)
+                .setId(UUID.randomUUID().toString())
                 .setIssuedAt(new Date())
                 .setExpiration(new Date(System.currentTimeMillis() + EXPIRATION_TIME))
                 .signWith(secretKey)
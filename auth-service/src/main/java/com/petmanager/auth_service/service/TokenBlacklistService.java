@@ -5,7 +5,11 @@ import com.petmanager.auth_service.repository.RevokedTokenRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Service
 public class TokenBlacklistService {
@@ -15,8 +19,9 @@ public class TokenBlacklistService {
 
     // Guarda el token revocado
     public void revokeToken(String token) {
-        if (!revokedTokenRepository.existsByToken(token)) {
-            RevokedToken revoked = new RevokedToken(token, LocalDateTime.now());
+        byte[] tokenHash = digest(token);
+        if (!revokedTokenRepository.existsByTokenHash(tokenHash)) {
+            RevokedToken revoked = new RevokedToken(tokenHash, LocalDateTime.now());
             revokedTokenRepository.save(revoked);
         }
 
@@ -26,7 +31,12 @@ public class TokenBlacklistService {
 
     // Verifica si un token está revocado
     public boolean isTokenRevoked(String token) {
-        return revokedTokenRepository.existsByToken(token);
+        return revokedTokenRepository.existsByTokenHash(digest(token));
+    }
+
+    // Revocaciones posteriores a una fecha (feed incremental para el api-gateway)
+    public List<RevokedToken> revokedSince(LocalDateTime since) {
+        return revokedTokenRepository.findByRevokedAtAfterOrderByRevokedAtAsc(since);
     }
 
     // Elimina tokens revocados hace más de 24 horas
@@ -34,5 +44,14 @@ public class TokenBlacklistService {
         LocalDateTime threshold = LocalDateTime.now().minusHours(24);
         revokedTokenRepository.deleteAllByRevokedAtBefore(threshold);
     }
+
+    // SHA-256 del token: clave de tamaño fijo para el índice único de revoked_tokens
+    static byte[] digest(String token) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible en la JVM", e);
+        }
+    }
 }
 
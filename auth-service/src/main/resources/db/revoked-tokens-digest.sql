@@ -0,0 +1,31 @@
+-- ========================================
+-- revoked_tokens: token completo -> SHA-256 (bytea, 32 bytes)
+-- Idempotente: se ejecuta en cada arranque antes de Hibernate
+-- ========================================
+
+CREATE TABLE IF NOT EXISTS revoked_tokens (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    token_hash  BYTEA        NOT NULL,
+    revoked_at  TIMESTAMP(6) NOT NULL
+)^;
+
+ALTER TABLE revoked_tokens ADD COLUMN IF NOT EXISTS token_hash BYTEA^;
+
+-- Migrar filas existentes y eliminar la columna con el JWT completo
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1
+               FROM information_schema.columns
+               WHERE table_name = 'revoked_tokens' AND column_name = 'token') THEN
+        UPDATE revoked_tokens
+        SET token_hash = sha256(convert_to(token, 'UTF8'))
+        WHERE token_hash IS NULL;
+
+        ALTER TABLE revoked_tokens DROP COLUMN token;
+    END IF;
+END
+$$^;
+
+ALTER TABLE revoked_tokens ALTER COLUMN token_hash SET NOT NULL^;
+
+CREATE UNIQUE INDEX IF NOT EXISTS ux_revoked_tokens_token_hash ON revoked_tokens (token_hash)^;
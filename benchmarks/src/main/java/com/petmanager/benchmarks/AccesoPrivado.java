@@ -0,0 +1,39 @@
+package com.petmanager.benchmarks;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+/**
+ * Acceso a métodos y campos privados de los servicios para medirlos sin cambiar su visibilidad.
+ * El MethodHandle se resuelve una vez en el @Setup; invocarlo no añade coste de reflexión.
+ */
+final class AccesoPrivado {
+
+    private AccesoPrivado() {
+    }
+
+    static MethodHandle metodo(Class<?> clase, String nombre, Class<?>... parametros) {
+        try {
+            Method metodo = clase.getDeclaredMethod(nombre, parametros);
+            metodo.setAccessible(true);
+            return MethodHandles.lookup().unreflect(metodo);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("No existe " + clase.getSimpleName() + "." + nombre, e);
+        }
+    }
+
+    /**
+     * Inyecta un colaborador en un campo @Autowired
+     */
+    static void campo(Object destino, String nombre, Object valor) {
+        try {
+            Field campo = destino.getClass().getDeclaredField(nombre);
+            campo.setAccessible(true);
+            campo.set(destino, valor);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("No existe el campo " + nombre, e);
+        }
+    }
+}
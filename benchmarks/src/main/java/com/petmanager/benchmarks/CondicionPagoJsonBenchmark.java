@@ -0,0 +1,72 @@
+package com.petmanager.benchmarks;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.petmanager.notification_service.dto.CondicionPagoVencimientoDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Codificación y decodificación JSON de la lista de CondicionPagoVencimientoDto
+ * (respuesta de /api/condiciones-pago/proximas-vencer)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CondicionPagoJsonBenchmark {
+
+    @Param({"1", "100", "10000"})
+    public int filas;
+
+    private ObjectMapper mapper;
+    private JavaType tipoLista;
+    private List<CondicionPagoVencimientoDto> condiciones;
+    private byte[] json;
+
+    @Setup
+    public void preparar() throws Exception {
+        mapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        tipoLista = mapper.getTypeFactory().constructCollectionType(List.class, CondicionPagoVencimientoDto.class);
+
+        LocalDate hoy = LocalDate.now();
+        condiciones = new ArrayList<>(filas);
+        for (long i = 1; i <= filas; i++) {
+            long proveedor = i % 500 + 1;
+            condiciones.add(new CondicionPagoVencimientoDto(
+                    i, proveedor, "Proveedor " + proveedor, "proveedor" + proveedor + "@example.com",
+                    1L, 30, hoy.minusDays(30), hoy.plusDays(i % 8), "Condición de pago " + i, (int) (i % 8)));
+        }
+        json = mapper.writeValueAsBytes(condiciones);
+    }
+
+    @Benchmark
+    public byte[] codificar() throws Exception {
+        return mapper.writeValueAsBytes(condiciones);
+    }
+
+    @Benchmark
+    public List<CondicionPagoVencimientoDto> decodificar() throws Exception {
+        return mapper.readValue(json, tipoLista);
+    }
+}
@@ -0,0 +1,86 @@
+package com.petmanager.benchmarks;
+
+import com.petmanager.supplier_service.controller.SupplierRestController;
+import com.petmanager.supplier_service.dto.CondicionPagoVencimientoDto;
+import com.petmanager.supplier_service.model.CondicionPago;
+import com.petmanager.supplier_service.model.Proveedor;
+import com.petmanager.supplier_service.repository.CondicionPagoRepository;
+import com.petmanager.supplier_service.service.CondicionPagoService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.ResponseEntity;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * SupplierRestController.obtenerCondicionesProximasAVencer: parseo de los días de alerta y mapeo
+ * de entidades a CondicionPagoVencimientoDto. El filtrado por fecha se hace en la consulta
+ * (findDeProveedoresActivosConFechaFinEn), así que el repositorio simulado devuelve ya las filas que vencen.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CondicionesProximasBenchmark {
+
+    @Param({"10", "1000", "50000"})
+    public int filas;
+
+    private SupplierRestController controller;
+
+    @Setup
+    public void preparar() {
+        LocalDate hoy = LocalDate.now();
+        int[] dias = {7, 3, 1, 0};
+        List<CondicionPago> condiciones = new ArrayList<>(filas);
+        for (long i = 1; i <= filas; i++) {
+            long idProveedor = i % 500 + 1;
+            Proveedor proveedor = Proveedor.builder()
+                    .idProveedor(idProveedor)
+                    .nombre("Proveedor " + idProveedor)
+                    .email("proveedor" + idProveedor + "@example.com")
+                    .activo(true)
+                    .build();
+            condiciones.add(CondicionPago.builder()
+                    .idCondicionPago(i)
+                    .proveedor(proveedor)
+                    .diasCredito(30)
+                    .fechaInicio(hoy.minusDays(30))
+                    .fechaFin(hoy.plusDays(dias[(int) (i % dias.length)]))
+                    .nota("Condición de pago " + i)
+                    .idUsuario(1L)
+                    .build());
+        }
+
+        CondicionPagoRepository repository = mock(CondicionPagoRepository.class);
+        when(repository.findDeProveedoresActivosConFechaFinEn(anyCollection())).thenReturn(condiciones);
+
+        CondicionPagoService condicionPagoService = new CondicionPagoService();
+        AccesoPrivado.campo(condicionPagoService, "condicionPagoRepository", repository);
+        controller = new SupplierRestController();
+        AccesoPrivado.campo(controller, "condicionPagoService", condicionPagoService);
+    }
+
+    @Benchmark
+    public ResponseEntity<List<CondicionPagoVencimientoDto>> obtenerCondicionesProximasAVencer() {
+        return controller.obtenerCondicionesProximasAVencer("7,3,1,0");
+    }
+}
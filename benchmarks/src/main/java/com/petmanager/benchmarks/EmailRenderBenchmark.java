@@ -0,0 +1,62 @@
+package com.petmanager.benchmarks;
+
+import com.petmanager.notification_service.model.NotificacionPago;
+import com.petmanager.notification_service.service.EmailService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandle;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * EmailService.generarContenidoEmail: plantilla HTML de vencimiento (String.format sobre ~6 KB)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmailRenderBenchmark {
+
+    @Param({"VENCIMIENTO_PROXIMO", "VENCIMIENTO_HOY", "VENCIDO"})
+    public String tipoNotificacion;
+
+    private EmailService emailService;
+    private MethodHandle generarContenidoEmail;
+    private NotificacionPago notificacion;
+
+    @Setup
+    public void preparar() {
+        emailService = new EmailService();
+        generarContenidoEmail = AccesoPrivado.metodo(EmailService.class, "generarContenidoEmail", NotificacionPago.class);
+
+        notificacion = NotificacionPago.builder()
+                .idNotificacionPago(1)
+                .idProveedor(7)
+                .idCondicionPago(99)
+                .fechaVencimiento(LocalDate.now().plusDays(3))
+                .build();
+        notificacion.setNombreProveedor("Distribuidora Benchmark S.A.S.");
+        notificacion.setEmailProveedor("proveedor@example.com");
+        notificacion.setDiasCredito(30);
+        notificacion.setDiasRestantes(3);
+        notificacion.setTipoNotificacion(tipoNotificacion);
+        notificacion.setNota("Pago a 30 días con descuento por pronto pago");
+    }
+
+    @Benchmark
+    public String generarContenidoEmail() throws Throwable {
+        return (String) generarContenidoEmail.invoke(emailService, notificacion);
+    }
+}
@@ -0,0 +1,96 @@
+package com.petmanager.benchmarks;
+
+import com.petmanager.auth_service.config.JwtAuthFilter;
+import com.petmanager.auth_service.model.Rol;
+import com.petmanager.auth_service.model.User;
+import com.petmanager.auth_service.repository.RevokedTokenRepository;
+import com.petmanager.auth_service.repository.UserRepository;
+import com.petmanager.auth_service.service.JwtService;
+import com.petmanager.auth_service.service.TokenBlacklistService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * JwtAuthFilter de extremo a extremo (hash de revocación + parseo del JWT + carga de usuario + roles)
+ * con los repositorios simulados: mide el coste de CPU del filtro, no el de la base de datos.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtAuthFilterBenchmark {
+
+    private JwtAuthFilter filtro;
+    private String cabeceraValida;
+
+    @Setup
+    public void preparar() {
+        JwtService jwtService = new JwtService(JwtServiceBenchmark.SECRETO);
+        User usuario = JwtServiceBenchmark.usuario();
+        usuario.setRoles(Set.of(new Rol(1L, "ADMIN"), new Rol(2L, "USUARIO")));
+
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(usuario));
+        RevokedTokenRepository revokedTokenRepository = mock(RevokedTokenRepository.class);
+        when(revokedTokenRepository.existsByTokenHash(any())).thenReturn(false);
+
+        TokenBlacklistService tokenBlacklistService = new TokenBlacklistService();
+        AccesoPrivado.campo(tokenBlacklistService, "revokedTokenRepository", revokedTokenRepository);
+
+        filtro = new JwtAuthFilter(jwtService, userRepository, tokenBlacklistService);
+        cabeceraValida = "Bearer " + jwtService.generateToken(usuario);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse tokenValido() throws Exception {
+        return filtrar(cabeceraValida);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse tokenInvalido() throws Exception {
+        return filtrar("Bearer eyJhbGciOiJIUzI1NiJ9.e30.firma-invalida");
+    }
+
+    @Benchmark
+    public MockHttpServletResponse sinToken() throws Exception {
+        return filtrar(null);
+    }
+
+    private MockHttpServletResponse filtrar(String authorization) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/graphql");
+        if (authorization != null) {
+            request.addHeader("Authorization", authorization);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            filtro.doFilter(request, response, new MockFilterChain());
+        } finally {
+            // Dentro del método medido: un @TearDown(Level.Invocation) distorsiona tiempos de microsegundos
+            SecurityContextHolder.clearContext();
+        }
+        return response;
+    }
+}
@@ -0,0 +1,66 @@
+package com.petmanager.benchmarks;
+
+import com.petmanager.auth_service.model.User;
+import com.petmanager.auth_service.service.JwtService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtService: emisión, parseo y validación de un token HS256 (lo que hace cada petición autenticada)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+    // 256 bits en Base64, como jwt.secret
+    static final String SECRETO = "cGV0bWFuYWdlci1iZW5jaG1hcmstc2VjcmV0by0yNTYtYml0cyE=";
+
+    private JwtService jwtService;
+    private User usuario;
+    private String token;
+
+    @Setup
+    public void preparar() {
+        jwtService = new JwtService(SECRETO);
+        usuario = usuario();
+        token = jwtService.generateToken(usuario);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken(usuario);
+    }
+
+    @Benchmark
+    public String extractUsername() {
+        return jwtService.extractUsername(token);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtService.validateToken(token, usuario.getEmail());
+    }
+
+    static User usuario() {
+        return User.builder()
+                .id(42L)
+                .nombre("Usuario Benchmark")
+                .email("benchmark@petmanager.com")
+                .activo(true)
+                .build();
+    }
+}
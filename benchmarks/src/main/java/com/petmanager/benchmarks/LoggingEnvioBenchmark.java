@@ -0,0 +1,241 @@
+package com.petmanager.benchmarks;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import ch.qos.logback.core.encoder.Encoder;
+import com.petmanager.notification_service.service.EmailService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.logging.logback.StructuredLogEncoder;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Registro de un lote de envíos de email desde varios hilos: configuración anterior (9 líneas info
+ * con patrón, appender síncrono), un evento JSON síncrono y la del perfil prod (un evento JSON
+ * detrás de un AsyncAppender acotado con neverBlock). Escribe a un fichero temporal para que el
+ * coste de E/S sea real.
+ *
+ * Cada medición termina cuando el fichero tiene el último evento del lote: en modo asíncrono
+ * incluye vaciar la cola, no solo encolar. Si la cola llena descarta eventos la medición falla,
+ * porque el resultado mediría logs perdidos en lugar de escritos.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class LoggingEnvioBenchmark {
+
+    private static final String FIN_DE_LOTE = "fin de lote";
+    private static final int LINEAS_MULTILINEA = 9;
+
+    @Param({"MULTILINEA_SINCRONO", "JSON_SINCRONO", "JSON_ASYNC"})
+    public String modo;
+
+    @Param({"8"})
+    public int hilos;
+
+    // 8 x 500 cabe en la cola de 8192; 8 x 5000 comprueba si el hilo escritor la vacía a tiempo
+    @Param({"500", "5000"})
+    public int enviosPorHilo;
+
+    private Path directorio;
+    private LoggerContext context;
+    private FicheroContado fichero;
+    private AsyncAppender async;
+    private Logger log;
+    private ExecutorService pool;
+
+    @Setup
+    public void preparar() throws IOException {
+        directorio = Files.createTempDirectory("logging-benchmark");
+        context = new LoggerContext();
+        context.setMDCAdapter(new LogbackMDCAdapter());
+        context.putObject(Environment.class.getName(), new StandardEnvironment());
+
+        boolean multilinea = "MULTILINEA_SINCRONO".equals(modo);
+        fichero = fichero(directorio.resolve(modo + ".log"), multilinea ? patron() : json());
+        Appender<ILoggingEvent> appender = fichero;
+        if ("JSON_ASYNC".equals(modo)) {
+            async = async(fichero);
+            appender = async;
+        }
+        log = context.getLogger(EmailService.class);
+        log.addAppender(appender);
+        pool = Executors.newFixedThreadPool(hilos);
+    }
+
+    @Setup(Level.Invocation)
+    public void reiniciarLote() {
+        fichero.reiniciar();
+    }
+
+    @TearDown
+    public void cerrar() throws IOException {
+        pool.shutdown();
+        context.stop();
+        try (var ficheros = Files.list(directorio)) {
+            for (Path f : ficheros.toList()) {
+                Files.delete(f);
+            }
+        }
+        Files.delete(directorio);
+    }
+
+    @Benchmark
+    public long registrarLote() throws Exception {
+        boolean multilinea = "MULTILINEA_SINCRONO".equals(modo);
+        List<Future<?>> tareas = new ArrayList<>(hilos);
+        for (int h = 0; h < hilos; h++) {
+            tareas.add(pool.submit(() -> enviar(multilinea)));
+        }
+        for (Future<?> tarea : tareas) {
+            tarea.get();
+        }
+
+        // WARN no se descarta por el umbral; con neverBlock solo se pierde si la cola está llena
+        if (async != null) {
+            while (async.getRemainingCapacity() == 0) {
+                Thread.onSpinWait();
+            }
+        }
+        log.warn(FIN_DE_LOTE);
+        fichero.fin.await();
+
+        long esperados = (long) hilos * enviosPorHilo * (multilinea ? LINEAS_MULTILINEA : 1);
+        long escritos = fichero.escritos.sum();
+        if (escritos != esperados) {
+            throw new IllegalStateException(String.format("%s: %d de %d eventos descartados con la cola llena",
+                    modo, esperados - escritos, esperados));
+        }
+        return escritos;
+    }
+
+    private void enviar(boolean multilinea) {
+        LocalDate vencimiento = LocalDate.now().plusDays(3);
+        for (int i = 0; i < enviosPorHilo; i++) {
+            String destinatario = "proveedor" + (i % 500) + "@example.com";
+            if (!multilinea) {
+                log.atInfo().setMessage("✅ Email de vencimiento enviado")
+                        .addKeyValue("idNotificacion", i)
+                        .addKeyValue("idProveedor", i % 500)
+                        .addKeyValue("tipo", "PROXIMO_VENCIMIENTO")
+                        .addKeyValue("vencimiento", vencimiento)
+                        .addKeyValue("diasRestantes", 3)
+                        .addKeyValue("destinatario", destinatario)
+                        .addKeyValue("bytes", 4096)
+                        .addKeyValue("ms", 12)
+                        .log();
+            } else {
+                log.info("📧 Preparando envío de email...");
+                log.info("   🏢 Proveedor: {} (ID: {})", "Proveedor " + (i % 500), i % 500);
+                log.info("   📅 Vencimiento: {}", vencimiento);
+                log.info("   🎯 Tipo: {}", "PROXIMO_VENCIMIENTO");
+                log.info("📨 ENVIANDO EMAIL VIA BREVO:");
+                log.info("   📥 Para: {}", destinatario);
+                log.info("   🔢 Tamaño contenido: {} caracteres", 4096);
+                log.info("✅ EMAIL ENVIADO EXITOSAMENTE VIA BREVO");
+                log.info("   📊 Días restantes: {}", 3);
+            }
+        }
+    }
+
+    // ================================================
+    // CONFIGURACIÓN DE LOGBACK
+    // ================================================
+
+    private Encoder<ILoggingEvent> patron() {
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%d{yyyy-MM-dd HH:mm:ss} [%thread] %-5level %logger{36} - %msg%n");
+        encoder.start();
+        return encoder;
+    }
+
+    private Encoder<ILoggingEvent> json() {
+        StructuredLogEncoder encoder = new StructuredLogEncoder();
+        encoder.setContext(context);
+        encoder.setFormat("ecs");
+        encoder.start();
+        return encoder;
+    }
+
+    /**
+     * Misma configuración que el perfil prod de logback-spring.xml de notification-service
+     */
+    private AsyncAppender async(Appender<ILoggingEvent> destino) {
+        AsyncAppender appender = new AsyncAppender();
+        appender.setContext(context);
+        appender.setQueueSize(8192);
+        appender.setDiscardingThreshold(819);
+        appender.setNeverBlock(true);
+        appender.addAppender(destino);
+        appender.start();
+        return appender;
+    }
+
+    private FicheroContado fichero(Path ruta, Encoder<ILoggingEvent> encoder) {
+        FicheroContado appender = new FicheroContado();
+        appender.setContext(context);
+        appender.setFile(ruta.toString());
+        appender.setEncoder(encoder);
+        appender.start();
+        return appender;
+    }
+
+    /**
+     * FileAppender que cuenta los eventos escritos y avisa al escribir la marca de fin de lote
+     */
+    private static final class FicheroContado extends FileAppender<ILoggingEvent> {
+
+        private final LongAdder escritos = new LongAdder();
+        private volatile CountDownLatch fin = new CountDownLatch(1);
+
+        void reiniciar() {
+            escritos.reset();
+            fin = new CountDownLatch(1);
+        }
+
+        @Override
+        protected void subAppend(ILoggingEvent evento) {
+            super.subAppend(evento);
+            if (FIN_DE_LOTE.equals(evento.getMessage())) {
+                fin.countDown();
+            } else {
+                escritos.increment();
+            }
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.petmanager.benchmarks;
+
+import com.petmanager.supplier_service.validation.ValidadorProveedor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validaciones de formato de ValidadorProveedor (email con Pattern precompilado, NIT y código
+ * recorriendo caracteres) con entradas válidas e inválidas
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProveedorValidacionBenchmark {
+
+    @Param({"valido", "invalido"})
+    public String caso;
+
+    private String email;
+    private String nit;
+    private String codigo;
+
+    @Setup
+    public void preparar() {
+        boolean valido = "valido".equals(caso);
+        email = valido ? "compras.distribuidora-norte@proveedores.example.com" : "compras.distribuidora-norte@proveedores";
+        nit = valido ? "900123456-7" : "900.123.456-7";
+        codigo = valido ? "SKU-ALIMENTO-PERRO-15KG" : "SKU_ALIMENTO_PERRO_15KG";
+    }
+
+    @Benchmark
+    public boolean esEmailValido() {
+        return ValidadorProveedor.esEmailValido(email);
+    }
+
+    @Benchmark
+    public boolean esNitValido() {
+        return ValidadorProveedor.esNitValido(nit);
+    }
+
+    @Benchmark
+    public boolean esCodigoValido() {
+        return ValidadorProveedor.esCodigoValido(codigo);
+    }
+}
@@ -0,0 +1,137 @@
+package com.petmanager.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.petmanager.notification_service.config.StreamingJacksonDecoder;
+import com.petmanager.notification_service.dto.CondicionPagoVencimientoDto;
+import com.sun.net.httpserver.HttpServer;
+import feign.Client;
+import feign.Feign;
+import feign.Param;
+import feign.RequestLine;
+import feign.codec.Decoder;
+import feign.hc5.ApacheHttp5Client;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cliente Feign de notification-service contra un supplier-service simulado
+ * (GET /api/condiciones-pago/proximas-vencer con 500 filas): HttpURLConnection por defecto
+ * frente a Apache HttpClient 5 con pool y el decoder en streaming (ver HttpClientConfig).
+ * 16 hilos concurrentes, como el despacho de notificaciones.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(SupplierClientBenchmark.HILOS)
+@Fork(1)
+public class SupplierClientBenchmark {
+
+    static final int HILOS = 16;
+    private static final int FILAS = 500;
+    private static final String DIAS = "7,3,1,0";
+
+    interface CondicionesApi {
+        @RequestLine("GET /api/condiciones-pago/proximas-vencer?dias={dias}")
+        List<CondicionPagoVencimientoDto> proximasVencer(@Param("dias") String dias);
+    }
+
+    private HttpServer server;
+    private CloseableHttpClient httpClient;
+    private CondicionesApi porDefecto;
+    private CondicionesApi poolHc5;
+
+    @Setup
+    public void preparar() throws Exception {
+        ObjectMapper mapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        byte[] payload = mapper.writeValueAsBytes(generarCondiciones());
+
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 512);
+        server.setExecutor(Executors.newFixedThreadPool(HILOS));
+        server.createContext("/api/condiciones-pago/proximas-vencer", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, payload.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(payload);
+            }
+        });
+        server.start();
+        String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+
+        Decoder decoderEstandar = (response, type) ->
+                mapper.readValue(response.body().asInputStream(), mapper.constructType(type));
+        porDefecto = Feign.builder()
+                .client(new Client.Default(null, null))
+                .decoder(decoderEstandar)
+                .target(CondicionesApi.class, baseUrl);
+
+        httpClient = HttpClients.custom()
+                .setConnectionManager(PoolingHttpClientConnectionManagerBuilder.create()
+                        .setMaxConnTotal(HILOS * 2)
+                        .setMaxConnPerRoute(HILOS * 2)
+                        .build())
+                .build();
+        poolHc5 = Feign.builder()
+                .client(new ApacheHttp5Client(httpClient))
+                .decoder(new StreamingJacksonDecoder(mapper, null, decoderEstandar))
+                .target(CondicionesApi.class, baseUrl);
+
+        if (porDefecto.proximasVencer(DIAS).size() != FILAS || poolHc5.proximasVencer(DIAS).size() != FILAS) {
+            throw new IllegalStateException("El supplier-service simulado no devolvió " + FILAS + " filas");
+        }
+    }
+
+    @TearDown
+    public void detener() throws Exception {
+        httpClient.close();
+        server.stop(0);
+        ((ExecutorService) server.getExecutor()).shutdownNow();
+    }
+
+    @Benchmark
+    public List<CondicionPagoVencimientoDto> httpUrlConnection() {
+        return porDefecto.proximasVencer(DIAS);
+    }
+
+    @Benchmark
+    public List<CondicionPagoVencimientoDto> httpClient5ConPool() {
+        return poolHc5.proximasVencer(DIAS);
+    }
+
+    private static List<CondicionPagoVencimientoDto> generarCondiciones() {
+        LocalDate hoy = LocalDate.now();
+        List<CondicionPagoVencimientoDto> condiciones = new ArrayList<>(FILAS);
+        for (long i = 1; i <= FILAS; i++) {
+            long proveedor = i % 200 + 1;
+            condiciones.add(new CondicionPagoVencimientoDto(
+                    i, proveedor, "Proveedor " + proveedor, "proveedor" + proveedor + "@example.com",
+                    1L, 30, hoy.minusDays(30), hoy.plusDays(i % 8), "Condición de pago " + i, (int) (i % 8)));
+        }
+        return condiciones;
+    }
+}
@@ -0,0 +1,81 @@
+package com.petmanager.benchmarks;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.petmanager.notification_service.config.EpochDayModule;
+import com.petmanager.notification_service.dto.CondicionPagoVencimientoDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Formato de la lista de condiciones próximas a vencer entre supplier y notification:
+ * JSON con fechas ISO frente a CBOR con fechas epoch-day (EpochDayModule).
+ * El tamaño del payload de cada combinación se imprime al preparar el estado.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WireFormatBenchmark {
+
+    @Param({"json", "cbor"})
+    public String formato;
+
+    @Param({"100", "100000"})
+    public int filas;
+
+    private ObjectMapper mapper;
+    private JavaType tipoLista;
+    private List<CondicionPagoVencimientoDto> condiciones;
+    private byte[] payload;
+
+    @Setup
+    public void preparar() throws Exception {
+        mapper = "cbor".equals(formato)
+                ? CBORMapper.builder().addModule(new EpochDayModule()).build()
+                : new ObjectMapper()
+                        .registerModule(new JavaTimeModule())
+                        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        tipoLista = mapper.getTypeFactory().constructCollectionType(List.class, CondicionPagoVencimientoDto.class);
+
+        LocalDate hoy = LocalDate.now();
+        condiciones = new ArrayList<>(filas);
+        for (long i = 1; i <= filas; i++) {
+            long proveedor = i % 500 + 1;
+            condiciones.add(new CondicionPagoVencimientoDto(
+                    i, proveedor, "Proveedor " + proveedor, "proveedor" + proveedor + "@example.com",
+                    1L, 30, hoy.minusDays(30), hoy.plusDays(i % 8), "Condición de pago " + i, (int) (i % 8)));
+        }
+        payload = mapper.writeValueAsBytes(condiciones);
+        System.out.printf("%n%s, %,d filas: %,d bytes%n", formato, filas, payload.length);
+    }
+
+    @Benchmark
+    public byte[] codificar() throws Exception {
+        return mapper.writeValueAsBytes(condiciones);
+    }
+
+    @Benchmark
+    public List<CondicionPagoVencimientoDto> decodificar() throws Exception {
+        return mapper.readValue(payload, tipoLista);
+    }
+}
@@ -0,0 +1,25 @@
+package com.petmanager.common.cache;
+
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.web.client.RestClientAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.web.client.RestClient;
+
+/**
+ * Registra el {@link GatewayCacheInvalidator} en los servicios que declaran
+ * gateway.cache.servicio; las entidades lo usan con {@code @EntityListeners(GatewayCacheListener.class)}.
+ */
+@AutoConfiguration(after = RestClientAutoConfiguration.class)
+@ConditionalOnClass(RestClient.class)
+@ConditionalOnProperty("gateway.cache.servicio")
+public class GatewayCacheAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public GatewayCacheInvalidator gatewayCacheInvalidator() {
+        return new GatewayCacheInvalidator();
+    }
+}
@@ -0,0 +1,98 @@
+package com.petmanager.common.cache;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.client.RestClient;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Avisa al api-gateway para purgar su caché de respuestas GraphQL cuando cambian los datos
+ * de este servicio. Se notifica después del commit y los cambios de una misma ráfaga se
+ * agrupan en un único evento.
+ *
+ * Bean único del contexto (lo registra {@link GatewayCacheAutoConfiguration}); las entidades
+ * le llegan a través de {@link GatewayCacheListener}.
+ */
+@Slf4j
+public class GatewayCacheInvalidator {
+
+    private static final long AGRUPAR_MS = 200;
+
+    // Builder autoconfigurado: la llamada al gateway queda instrumentada (span + cabecera traceparent)
+    @Autowired
+    private RestClient.Builder restClientBuilder;
+
+    @Value("${gateway.url:}")
+    private String gatewayUrl;
+
+    @Value("${gateway.cache.invalidation-token:}")
+    private String invalidationToken;
+
+    // Nombre con el que el gateway agrupa las entradas de este servicio (supplier, notification)
+    @Value("${gateway.cache.servicio}")
+    private String servicio;
+
+    private final AtomicBoolean pendiente = new AtomicBoolean();
+    private ScheduledExecutorService executor;
+    private RestClient restClient;
+
+    @PostConstruct
+    void init() {
+        executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "gateway-cache-invalidator");
+            t.setDaemon(true);
+            return t;
+        });
+        if (!gatewayUrl.isBlank()) {
+            restClient = restClientBuilder.baseUrl(gatewayUrl).build();
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    public void registrarCambio() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    programar();
+                }
+            });
+        } else {
+            programar();
+        }
+    }
+
+    private void programar() {
+        if (restClient == null || invalidationToken.isBlank()) return;
+        if (pendiente.compareAndSet(false, true)) {
+            executor.schedule(this::enviar, AGRUPAR_MS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void enviar() {
+        pendiente.set(false);
+        try {
+            restClient.post()
+                    .uri("/internal/cache/evict/{servicio}", servicio)
+                    .header("X-Cache-Token", invalidationToken)
+                    .retrieve()
+                    .toBodilessEntity();
+        } catch (Exception e) {
+            // La caché del gateway expira sola por TTL; no se reintenta
+            log.warn("⚠️ No se pudo invalidar la caché del api-gateway: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.petmanager.common.cache;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Listener JPA de las entidades que expone el GraphQL del gateway.
+ *
+ * Hibernate instancia los listeners por su cuenta (SpringBeanContainer crea uno nuevo y lo
+ * autoconecta, no reutiliza el bean del contexto), por eso esta clase no guarda estado:
+ * solo reenvía el cambio al {@link GatewayCacheInvalidator} único.
+ */
+public class GatewayCacheListener {
+
+    // Ausente cuando el servicio no define gateway.cache.servicio (p. ej. en tests de slice)
+    @Autowired(required = false)
+    private GatewayCacheInvalidator invalidator;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        if (invalidator != null) {
+            invalidator.registrarCambio();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.petmanager.common.logging;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.filter.Filter;
+import ch.qos.logback.core.spi.FilterReply;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Filtro de Logback que muestrea el logger de consultas lentas de Hibernate (org.hibernate.SQL_SLOW):
+ * deja pasar como máximo {@code maxPorSegundo} eventos por segundo y descarta el resto,
+ * para que una degradación de la BD no inunde el appender. El resto de loggers no se toca.
+ *
+ * Lo usan los logback-spring.xml de los tres servicios.
+ */
+public class MuestreoConsultasLentasFilter extends Filter<ILoggingEvent> {
+
+    private static final String LOGGER = "org.hibernate.SQL_SLOW";
+
+    private int maxPorSegundo = 5;
+
+    private final AtomicLong segundoActual = new AtomicLong();
+    private final AtomicInteger emitidos = new AtomicInteger();
+
+    @Override
+    public FilterReply decide(ILoggingEvent event) {
+        if (!event.getLoggerName().startsWith(LOGGER)) {
+            return FilterReply.NEUTRAL;
+        }
+        long segundo = event.getTimeStamp() / 1000;
+        long anterior = segundoActual.get();
+        if (segundo != anterior && segundoActual.compareAndSet(anterior, segundo)) {
+            emitidos.set(0);
+        }
+        return emitidos.incrementAndGet() <= maxPorSegundo ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    public void setMaxPorSegundo(int maxPorSegundo) {
+        this.maxPorSegundo = maxPorSegundo;
+    }
+}
@@ -0,0 +1,31 @@
+package com.petmanager.common.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Registra {@link CacheSegundoNivelMetricas} cuando el servicio usa Hibernate con
+ * spring.jpa.properties.hibernate.generate_statistics=true y tiene un MeterRegistry (actuator).
+ */
+@AutoConfiguration(afterName = {
+        "org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration",
+        "org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration"})
+@ConditionalOnClass({SessionFactory.class, MeterRegistry.class})
+@ConditionalOnProperty(name = "spring.jpa.properties.hibernate.generate_statistics", havingValue = "true")
+@ConditionalOnBean({EntityManagerFactory.class, MeterRegistry.class})
+public class CacheSegundoNivelAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public CacheSegundoNivelMetricas cacheSegundoNivelMetricas(EntityManagerFactory entityManagerFactory,
+                                                               MeterRegistry registry) {
+        return new CacheSegundoNivelMetricas(entityManagerFactory, registry);
+    }
+}
@@ -0,0 +1,51 @@
+package com.petmanager.common.metrics;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Ratio de aciertos de la caché de segundo nivel de Hibernate en Micrometer.
+ *
+ * Spring Boot ya publica los contadores (hibernate.second.level.cache.requests y
+ * hibernate.query.cache.requests con result=hit|miss); estos gauges dan el ratio directo:
+ * - hibernate.cache.hit.ratio{region}: por región de entidad, colección o consultas
+ * - hibernate.query.cache.hit.ratio: global de la caché de consultas
+ * NaN mientras una región no haya recibido peticiones.
+ *
+ * Lo registra CacheSegundoNivelAutoConfiguration en los servicios con generate_statistics activo.
+ */
+public class CacheSegundoNivelMetricas {
+
+    public CacheSegundoNivelMetricas(EntityManagerFactory entityManagerFactory, MeterRegistry registry) {
+        Statistics estadisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        for (String region : estadisticas.getSecondLevelCacheRegionNames()) {
+            if (estadisticas.getCacheRegionStatistics(region) == null) continue;
+            Gauge.builder("hibernate.cache.hit.ratio", estadisticas,
+                            ratio(s -> s.getCacheRegionStatistics(region).getHitCount(),
+                                    s -> s.getCacheRegionStatistics(region).getMissCount()))
+                    .description("Aciertos / peticiones de la región de la caché de segundo nivel")
+                    .tag("region", region)
+                    .register(registry);
+        }
+
+        Gauge.builder("hibernate.query.cache.hit.ratio", estadisticas,
+                        ratio(Statistics::getQueryCacheHitCount, Statistics::getQueryCacheMissCount))
+                .description("Aciertos / peticiones de la caché de consultas")
+                .register(registry);
+    }
+
+    private static ToDoubleFunction<Statistics> ratio(ToDoubleFunction<Statistics> aciertos,
+                                                      ToDoubleFunction<Statistics> fallos) {
+        return s -> {
+            double hits = aciertos.applyAsDouble(s);
+            double total = hits + fallos.applyAsDouble(s);
+            return total == 0 ? Double.NaN : hits / total;
+        };
+    }
+}
@@ -0,0 +1,87 @@
+package com.petmanager.common.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.http.HttpMethod;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+import org.springframework.web.client.RestClient;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.client.ExpectedCount.once;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class GatewayCacheInvalidatorTest {
+
+    private final ApplicationContextRunner contexto = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(GatewayCacheAutoConfiguration.class))
+            .withBean(RestClient.Builder.class, RestClient::builder);
+
+    private GatewayCacheInvalidator invalidator;
+
+    @AfterEach
+    void tearDown() {
+        if (invalidator != null) invalidator.shutdown();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void listenerCreadoPorHibernateDelegaEnElBeanUnicoDelContexto() {
+        contexto.withPropertyValues("gateway.cache.servicio=supplier").run(ctx -> {
+            GatewayCacheInvalidator bean = ctx.getBean(GatewayCacheInvalidator.class);
+
+            // Así crea SpringBeanContainer los @EntityListeners: instancia nueva, autoconectada
+            GatewayCacheListener listener = ctx.getAutowireCapableBeanFactory().createBean(GatewayCacheListener.class);
+
+            assertThat(ReflectionTestUtils.getField(listener, "invalidator")).isSameAs(bean);
+            assertThat(ctx.getBeansOfType(GatewayCacheInvalidator.class)).hasSize(1);
+        });
+    }
+
+    @Test
+    void sinServicioConfiguradoNoHayInvalidadorYElListenerNoHaceNada() {
+        contexto.run(ctx -> {
+            assertThat(ctx).doesNotHaveBean(GatewayCacheInvalidator.class);
+
+            GatewayCacheListener listener = ctx.getAutowireCapableBeanFactory().createBean(GatewayCacheListener.class);
+            listener.onChange(new Object());
+        });
+    }
+
+    @Test
+    void agrupaLaRafagaYAvisaSoloDespuesDelCommit() {
+        RestClient.Builder builder = RestClient.builder();
+        MockRestServiceServer gateway = MockRestServiceServer.bindTo(builder).build();
+        gateway.expect(once(), requestTo("http://gateway/internal/cache/evict/supplier"))
+                .andExpect(method(HttpMethod.POST))
+                .andExpect(header("X-Cache-Token", "secreto"))
+                .andRespond(withSuccess());
+
+        invalidator = new GatewayCacheInvalidator();
+        ReflectionTestUtils.setField(invalidator, "restClientBuilder", builder);
+        ReflectionTestUtils.setField(invalidator, "gatewayUrl", "http://gateway");
+        ReflectionTestUtils.setField(invalidator, "invalidationToken", "secreto");
+        ReflectionTestUtils.setField(invalidator, "servicio", "supplier");
+        invalidator.init();
+
+        TransactionSynchronizationManager.initSynchronization();
+        invalidator.registrarCambio();
+        invalidator.registrarCambio();
+        invalidator.registrarCambio();
+        assertThat(ReflectionTestUtils.getField(invalidator, "pendiente")).hasToString("false");
+
+        TransactionSynchronizationUtils.triggerAfterCommit();
+        gateway.verify(Duration.ofSeconds(2));
+    }
+}
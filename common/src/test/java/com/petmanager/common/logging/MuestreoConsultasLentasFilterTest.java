@@ -0,0 +1,56 @@
+package com.petmanager.common.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MuestreoConsultasLentasFilterTest {
+
+    private final LoggerContext contexto = new LoggerContext();
+
+    @Test
+    void dejaPasarComoMaximoNConsultasLentasPorSegundo() {
+        MuestreoConsultasLentasFilter filtro = filtro(2);
+
+        assertThat(filtro.decide(evento("org.hibernate.SQL_SLOW", 10_000))).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(filtro.decide(evento("org.hibernate.SQL_SLOW", 10_400))).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(filtro.decide(evento("org.hibernate.SQL_SLOW", 10_999))).isEqualTo(FilterReply.DENY);
+    }
+
+    @Test
+    void elCupoSeReiniciaAlCambiarDeSegundo() {
+        MuestreoConsultasLentasFilter filtro = filtro(1);
+
+        assertThat(filtro.decide(evento("org.hibernate.SQL_SLOW", 10_000))).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(filtro.decide(evento("org.hibernate.SQL_SLOW", 10_500))).isEqualTo(FilterReply.DENY);
+        assertThat(filtro.decide(evento("org.hibernate.SQL_SLOW", 11_000))).isEqualTo(FilterReply.NEUTRAL);
+    }
+
+    @Test
+    void elRestoDeLoggersNoSeMuestrea() {
+        MuestreoConsultasLentasFilter filtro = filtro(1);
+        filtro.decide(evento("org.hibernate.SQL_SLOW", 10_000));
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(filtro.decide(evento("com.petmanager.supplier_service.service.ProveedorService", 10_000)))
+                    .isEqualTo(FilterReply.NEUTRAL);
+        }
+    }
+
+    private static MuestreoConsultasLentasFilter filtro(int maxPorSegundo) {
+        MuestreoConsultasLentasFilter filtro = new MuestreoConsultasLentasFilter();
+        filtro.setMaxPorSegundo(maxPorSegundo);
+        filtro.start();
+        return filtro;
+    }
+
+    private LoggingEvent evento(String logger, long timestamp) {
+        LoggingEvent evento = new LoggingEvent(logger, contexto.getLogger(logger), Level.INFO, "SELECT ...", null, null);
+        evento.setTimeStamp(timestamp);
+        return evento;
+    }
+}
@@ -0,0 +1,61 @@
+package com.petmanager.common.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CacheSegundoNivelMetricasTest {
+
+    private final Statistics estadisticas = mock(Statistics.class);
+
+    private final ApplicationContextRunner contexto = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(CacheSegundoNivelAutoConfiguration.class))
+            .withBean(EntityManagerFactory.class, this::entityManagerFactory)
+            .withBean(MeterRegistry.class, SimpleMeterRegistry::new);
+
+    @Test
+    void publicaElRatioPorRegionYElDeLaCacheDeConsultas() {
+        CacheRegionStatistics region = mock(CacheRegionStatistics.class);
+        when(estadisticas.getSecondLevelCacheRegionNames()).thenReturn(new String[]{"proveedor", "sin-estadisticas"});
+        when(estadisticas.getCacheRegionStatistics("proveedor")).thenReturn(region);
+        when(region.getHitCount()).thenReturn(3L);
+        when(region.getMissCount()).thenReturn(1L);
+
+        contexto.withPropertyValues("spring.jpa.properties.hibernate.generate_statistics=true").run(ctx -> {
+            MeterRegistry registry = ctx.getBean(MeterRegistry.class);
+
+            assertThat(registry.get("hibernate.cache.hit.ratio").tag("region", "proveedor").gauge().value())
+                    .isEqualTo(0.75);
+            assertThat(registry.find("hibernate.cache.hit.ratio").tag("region", "sin-estadisticas").gauge()).isNull();
+            // Sin peticiones todavía: NaN, no 0
+            assertThat(registry.get("hibernate.query.cache.hit.ratio").gauge().value()).isNaN();
+
+            when(estadisticas.getQueryCacheHitCount()).thenReturn(1L);
+            when(estadisticas.getQueryCacheMissCount()).thenReturn(1L);
+            assertThat(registry.get("hibernate.query.cache.hit.ratio").gauge().value()).isEqualTo(0.5);
+        });
+    }
+
+    @Test
+    void sinGenerateStatisticsNoSeRegistra() {
+        contexto.run(ctx -> assertThat(ctx).doesNotHaveBean(CacheSegundoNivelMetricas.class));
+    }
+
+    private EntityManagerFactory entityManagerFactory() {
+        SessionFactory sessionFactory = mock(SessionFactory.class);
+        when(sessionFactory.getStatistics()).thenReturn(estadisticas);
+        EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+        when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+        return entityManagerFactory;
+    }
+}
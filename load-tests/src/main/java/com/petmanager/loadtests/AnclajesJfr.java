@@ -0,0 +1,83 @@
+package com.petmanager.loadtests;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingFile;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hilos virtuales anclados a su carrier (jdk.VirtualThreadPinned, umbral de 20 ms del perfil
+ * default de JFR) en la grabación de cada servicio, agrupados por el primer frame fuera del JDK:
+ * así un synchronized con E/S dentro aparece con el método que lo contiene.
+ */
+@Slf4j
+public class AnclajesJfr {
+
+    private static final String EVENTO = "jdk.VirtualThreadPinned";
+    private static final int MAX_ORIGENES = 10;
+
+    public record Anclaje(String origen, long eventos, double totalMs, double maxMs) {}
+
+    /**
+     * Servicio → orígenes con más tiempo anclado; vacío si el servicio no usó hilos virtuales
+     */
+    public static Map<String, List<Anclaje>> leer(Map<String, Path> grabaciones) {
+        Map<String, List<Anclaje>> resultado = new LinkedHashMap<>();
+        grabaciones.forEach((servicio, grabacion) -> {
+            if (!Files.exists(grabacion)) {
+                log.warn("⚠️ Sin grabación JFR de {} en {}", servicio, grabacion);
+                return;
+            }
+            try {
+                resultado.put(servicio, leer(grabacion));
+            } catch (IOException e) {
+                log.warn("⚠️ No se pudo leer la grabación JFR de {}: {}", servicio, e.getMessage());
+            }
+        });
+        return resultado;
+    }
+
+    private static List<Anclaje> leer(Path grabacion) throws IOException {
+        Map<String, long[]> porOrigen = new HashMap<>(); // eventos, total ns, max ns
+        try (RecordingFile fichero = new RecordingFile(grabacion)) {
+            while (fichero.hasMoreEvents()) {
+                RecordedEvent evento = fichero.readEvent();
+                if (!EVENTO.equals(evento.getEventType().getName())) continue;
+                long nanos = evento.getDuration().toNanos();
+                long[] acumulado = porOrigen.computeIfAbsent(origen(evento), k -> new long[3]);
+                acumulado[0]++;
+                acumulado[1] += nanos;
+                acumulado[2] = Math.max(acumulado[2], nanos);
+            }
+        }
+        List<Anclaje> anclajes = new ArrayList<>();
+        porOrigen.forEach((origen, a) -> anclajes.add(new Anclaje(origen, a[0], ms(a[1]), ms(a[2]))));
+        anclajes.sort(Comparator.comparingDouble(Anclaje::totalMs).reversed());
+        return anclajes.size() > MAX_ORIGENES ? anclajes.subList(0, MAX_ORIGENES) : anclajes;
+    }
+
+    private static String origen(RecordedEvent evento) {
+        if (evento.getStackTrace() == null) return "desconocido";
+        for (RecordedFrame frame : evento.getStackTrace().getFrames()) {
+            String clase = frame.getMethod().getType().getName();
+            if (!clase.startsWith("java.") && !clase.startsWith("jdk.") && !clase.startsWith("sun.")) {
+                return clase + "." + frame.getMethod().getName();
+            }
+        }
+        return "JDK";
+    }
+
+    private static double ms(long nanos) {
+        return Math.round(nanos / 10_000.0) / 100.0;
+    }
+}
@@ -0,0 +1,51 @@
+package com.petmanager.loadtests;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * POST /graphql con java.net.http. Una respuesta con "errors" o un status distinto de 200
+ * cuenta como error de la operación, aunque el servidor haya contestado.
+ */
+public class ClienteGraphql {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final HttpClient http;
+    private final URI uri;
+
+    public ClienteGraphql(HttpClient http, String url) {
+        this.http = http;
+        this.uri = URI.create(url);
+    }
+
+    public JsonNode ejecutar(String consulta, Map<String, Object> variables) throws IOException, InterruptedException {
+        byte[] cuerpo = MAPPER.writeValueAsBytes(Map.of("query", consulta, "variables", variables));
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .timeout(Duration.ofSeconds(60))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(cuerpo))
+                .build();
+        HttpResponse<byte[]> response = http.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("HTTP " + response.statusCode());
+        }
+        JsonNode json = MAPPER.readTree(response.body());
+        if (json.hasNonNull("errors")) {
+            throw new IllegalStateException(json.get("errors").toString());
+        }
+        return json.get("data");
+    }
+
+    public JsonNode ejecutar(String consulta) throws IOException, InterruptedException {
+        return ejecutar(consulta, Map.of());
+    }
+}
@@ -0,0 +1,91 @@
+package com.petmanager.loadtests;
+
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Ejecuta un escenario con N usuarios virtuales (un hilo virtual cada uno, modelo cerrado:
+ * cada usuario lanza la siguiente petición al recibir la respuesta anterior).
+ * Las latencias se registran en nanosegundos en histogramas HdrHistogram por operación.
+ */
+@Slf4j
+public class Conductor {
+
+    /**
+     * Latencias y errores de una operación (o del escenario completo)
+     */
+    public static class Medicion {
+        final Histogram latencias = new ConcurrentHistogram(3);
+        final LongAdder errores = new LongAdder();
+        volatile String ultimoError;
+
+        void registrar(long nanos, Exception error) {
+            latencias.recordValue(nanos);
+            if (error != null) {
+                errores.increment();
+                ultimoError = error.getMessage();
+            }
+        }
+    }
+
+    public record Ejecucion(Escenario escenario, double segundos, Medicion total, Map<String, Medicion> porOperacion) {}
+
+    public static Ejecucion ejecutar(Escenario escenario, int usuariosPorDefecto, Duration duracionPorDefecto) {
+        int usuarios = escenario.usuarios() != null ? escenario.usuarios() : usuariosPorDefecto;
+        Duration duracion = escenario.duracion() != null ? escenario.duracion() : duracionPorDefecto;
+        // Los escenarios con número fijo de iteraciones corren hasta terminar
+        long fin = escenario.iteraciones() != null ? Long.MAX_VALUE : System.nanoTime() + duracion.toNanos();
+
+        Medicion total = new Medicion();
+        Map<String, Medicion> porOperacion = new ConcurrentHashMap<>();
+        escenario.operaciones().forEach(op -> porOperacion.put(op.nombre(), new Medicion()));
+
+        long inicio = System.nanoTime();
+        try (ExecutorService hilos = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int u = 0; u < usuarios; u++) {
+                hilos.submit(() -> usuario(escenario, fin, total, porOperacion));
+            }
+        }
+        double segundos = (System.nanoTime() - inicio) / 1e9;
+
+        Map<String, Medicion> ordenadas = new LinkedHashMap<>();
+        escenario.operaciones().forEach(op -> ordenadas.put(op.nombre(), porOperacion.get(op.nombre())));
+        return new Ejecucion(escenario, segundos, total, ordenadas);
+    }
+
+    private static void usuario(Escenario escenario, long fin, Medicion total, Map<String, Medicion> porOperacion) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int iteraciones = 0;
+        while (System.nanoTime() < fin
+                && (escenario.iteraciones() == null || iteraciones++ < escenario.iteraciones())) {
+            for (Escenario.Operacion operacion : escenario.siguiente(random)) {
+                long inicio = System.nanoTime();
+                Exception error = null;
+                try {
+                    operacion.accion().ejecutar(random);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (Exception e) {
+                    error = e;
+                }
+                long nanos = System.nanoTime() - inicio;
+                total.registrar(nanos, error);
+                porOperacion.get(operacion.nombre()).registrar(nanos, error);
+                if (error != null) {
+                    log.debug("❌ {} / {}: {}", escenario.nombre(), operacion.nombre(), error.getMessage());
+                }
+            }
+        }
+    }
+}
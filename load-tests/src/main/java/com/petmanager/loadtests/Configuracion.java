@@ -0,0 +1,70 @@
+package com.petmanager.loadtests;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Parámetros de la prueba de carga, leídos de propiedades del sistema (-Dcarga.*).
+ * Los valores por defecto reproducen el volumen de producción que se quiere estudiar.
+ */
+public record Configuracion(
+        Path servicios,
+        Path salida,
+        int usuarios,
+        Duration duracion,
+        Duration calentamiento,
+        Set<String> escenarios,
+        int proveedores,
+        int productos,
+        int condiciones,
+        int usuariosLogin,
+        int pool,
+        Boolean hilosVirtuales) {
+
+    public static final String TODOS = "todos";
+
+    public static Configuracion desdeSistema() {
+        return new Configuracion(
+                Path.of(System.getProperty("carga.servicios", "target/servicios")),
+                Path.of(System.getProperty("carga.salida", "target")),
+                Integer.getInteger("carga.usuarios", 50),
+                Duration.ofSeconds(Integer.getInteger("carga.duracion-segundos", 60)),
+                Duration.ofSeconds(Integer.getInteger("carga.calentamiento-segundos", 10)),
+                Arrays.stream(System.getProperty("carga.escenarios", TODOS).split(","))
+                        .map(String::trim)
+                        .filter(e -> !e.isEmpty())
+                        .collect(Collectors.toSet()),
+                Integer.getInteger("carga.proveedores", 100_000),
+                Integer.getInteger("carga.productos", 1_000_000),
+                Integer.getInteger("carga.condiciones", 500_000),
+                Integer.getInteger("carga.usuarios-login", 1_000),
+                Integer.getInteger("carga.pool", 0),
+                booleanoOpcional(System.getProperty("carga.hilos-virtuales", "")));
+    }
+
+    /**
+     * 0 = tamaño de pool del perfil prod de cada servicio
+     */
+    public boolean poolFijado() {
+        return pool > 0;
+    }
+
+    /**
+     * null = lo que tenga configurado cada servicio (spring.threads.virtual.enabled)
+     */
+    private static Boolean booleanoOpcional(String valor) {
+        return valor.isBlank() ? null : Boolean.valueOf(valor.trim());
+    }
+
+    public String modoHilos() {
+        if (hilosVirtuales == null) return "configuración de cada servicio";
+        return hilosVirtuales ? "virtuales" : "de plataforma";
+    }
+
+    public boolean incluye(String escenario) {
+        return escenarios.contains(TODOS) || escenarios.contains(escenario);
+    }
+}
@@ -0,0 +1,64 @@
+package com.petmanager.loadtests;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Consultas ejecutadas por cada servicio durante un escenario, según pg_stat_statements.
+ * Los servicios comparten base de datos pero cada uno conecta con su rol: el userid separa
+ * lo que hizo cada uno.
+ * Con track_utility=off no se cuentan BEGIN/COMMIT/SET, solo SELECT/INSERT/UPDATE/DELETE.
+ */
+public class ContadorConsultas implements AutoCloseable {
+
+    private final Connection connection;
+    private final List<String> roles;
+
+    public ContadorConsultas(String jdbcUrl, String usuario, String password, List<String> roles) throws SQLException {
+        this.connection = DriverManager.getConnection(jdbcUrl, usuario, password);
+        this.roles = roles;
+        try (Statement st = connection.createStatement()) {
+            st.execute("CREATE EXTENSION IF NOT EXISTS pg_stat_statements");
+        }
+    }
+
+    public void reiniciar() throws SQLException {
+        try (Statement st = connection.createStatement()) {
+            st.execute("SELECT pg_stat_statements_reset()");
+        }
+    }
+
+    /**
+     * Llamadas acumuladas desde el último reiniciar(), por rol (uno por servicio)
+     */
+    public Map<String, Long> leer() throws SQLException {
+        Map<String, Long> consultas = new LinkedHashMap<>();
+        roles.forEach(rol -> consultas.put(rol, 0L));
+        try (PreparedStatement ps = connection.prepareStatement("""
+                SELECT r.rolname, sum(s.calls)
+                FROM pg_stat_statements s JOIN pg_roles r ON r.oid = s.userid
+                WHERE r.rolname = ANY (?)
+                GROUP BY r.rolname
+                """)) {
+            ps.setArray(1, connection.createArrayOf("text", roles.toArray()));
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    consultas.put(rs.getString(1), rs.getLong(2));
+                }
+            }
+        }
+        return consultas;
+    }
+
+    @Override
+    public void close() throws SQLException {
+        connection.close();
+    }
+}
@@ -0,0 +1,159 @@
+package com.petmanager.loadtests;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Carga de datos sintéticos directamente en Postgres con generate_series, sobre los esquemas
+ * que ya crearon los servicios al arrancar (ddl-auto=update en auth y supplier).
+ *
+ * Los ids salen de las secuencias pooled-lo de cada entidad: en una BD nueva las columnas no
+ * tienen DEFAULT, y reservar el rango en la secuencia evita chocar con los bloques que los
+ * servicios ya tienen en memoria.
+ *
+ * Las fechas de fin de las condiciones se reparten en ±1 año alrededor de hoy, así la ejecución
+ * diaria de notification encuentra una fracción realista (~6 días de alerta sobre 730).
+ */
+@Slf4j
+public class DatosSinteticos {
+
+    public static final String PASSWORD = "CargaPetManager1!";
+    public static final String DOMINIO = "@petmanager.test";
+
+    /**
+     * Rango de ids sembrados, para que los escenarios elijan proveedores y usuarios existentes
+     */
+    public record Semilla(long primerProveedor, int proveedores, int usuarios) {
+
+        public String emailUsuario(int i) {
+            return "carga" + (i + 1) + DOMINIO;
+        }
+    }
+
+    // ================================================
+    // AUTH-SERVICE
+    // ================================================
+
+    /**
+     * Mismo hash para todos los usuarios: BCrypt cuesta lo mismo al verificar, no al sembrar
+     */
+    public static void sembrarUsuarios(String jdbcUrl, String usuario, String password, int usuarios) throws SQLException {
+        long inicio = System.nanoTime();
+        String hash = new BCryptPasswordEncoder().encode(PASSWORD);
+        try (Connection c = DriverManager.getConnection(jdbcUrl, usuario, password)) {
+            try (Statement st = c.createStatement()) {
+                st.execute("INSERT INTO rol (nombre) VALUES ('USER'), ('ADMIN') ON CONFLICT (nombre) DO NOTHING");
+            }
+            long primero = reservarIds(c, "usuario_id_usuario_seq", usuarios);
+            try (PreparedStatement ps = c.prepareStatement("""
+                    INSERT INTO usuario (id_usuario, nombre, password, email, fecha_creacion, activo)
+                    SELECT ? + g - 1, 'Usuario carga ' || g, ?, 'carga' || g || ?, now(), true
+                    FROM generate_series(1, ?) g
+                    """)) {
+                ps.setLong(1, primero);
+                ps.setString(2, hash);
+                ps.setString(3, DOMINIO);
+                ps.setInt(4, usuarios);
+                ps.executeUpdate();
+            }
+            try (PreparedStatement ps = c.prepareStatement("""
+                    INSERT INTO rolxusuario (id_usuario, id_rol)
+                    SELECT u.id_usuario, r.id_rol FROM usuario u, rol r
+                    WHERE r.nombre = 'USER' AND u.email LIKE ?
+                    """)) {
+                ps.setString(1, "carga%" + DOMINIO);
+                ps.executeUpdate();
+            }
+            analizar(c, "usuario", "rolxusuario");
+        }
+        log.info("👤 {} usuarios sembrados en auth-service ({} ms)", usuarios, (System.nanoTime() - inicio) / 1_000_000);
+    }
+
+    // ================================================
+    // SUPPLIER-SERVICE
+    // ================================================
+
+    public static long sembrarProveedores(String jdbcUrl, String usuario, String password,
+                                          int proveedores, int productos, int condiciones) throws SQLException {
+        long inicio = System.nanoTime();
+        try (Connection c = DriverManager.getConnection(jdbcUrl, usuario, password)) {
+            long primero = reservarIds(c, "proveedor_id_proveedor_seq", proveedores);
+            try (PreparedStatement ps = c.prepareStatement("""
+                    INSERT INTO proveedor (id_proveedor, nombre, nit, direccion, telefono, email, fecha_registro, activo, id_usuario_creador)
+                    SELECT ? + g - 1, 'Proveedor ' || g, '900' || lpad(g::text, 7, '0'), 'Calle ' || g || ' # ' || (g % 100),
+                           '300' || lpad(g::text, 7, '0'), 'proveedor' || g || ?,
+                           now() - (g % 1000) * interval '1 day', g % 20 <> 0, 1
+                    FROM generate_series(1, ?) g
+                    """)) {
+                ps.setLong(1, primero);
+                ps.setString(2, DOMINIO);
+                ps.setInt(3, proveedores);
+                ps.executeUpdate();
+            }
+
+            try (PreparedStatement ps = c.prepareStatement("""
+                    INSERT INTO producto (id_producto, codigo, nombre, descripcion, precio, id_proveedor)
+                    SELECT ? + g - 1, 'SKU-' || g, 'Producto ' || g, 'Producto sintético ' || g,
+                           round((random() * 500000)::numeric, 2), ? + (g % ?)
+                    FROM generate_series(1, ?) g
+                    """)) {
+                ps.setLong(1, reservarIds(c, "producto_id_producto_seq", productos));
+                ps.setLong(2, primero);
+                ps.setInt(3, proveedores);
+                ps.setInt(4, productos);
+                ps.executeUpdate();
+            }
+            try (PreparedStatement ps = c.prepareStatement("""
+                    INSERT INTO condicion_pago (id_condicion_pago, id_proveedor, dias_credito, fecha_inicio, fecha_fin, nota, id_usuario)
+                    SELECT ? + g - 1, ? + (g % ?), (ARRAY[15, 30, 45, 60, 90])[1 + g % 5],
+                           CURRENT_DATE - 395 + (g % 730), CURRENT_DATE - 365 + (g % 730),
+                           'Condición sintética ' || g, 1
+                    FROM generate_series(1, ?) g
+                    """)) {
+                ps.setLong(1, reservarIds(c, "condicion_pago_id_condicion_pago_seq", condiciones));
+                ps.setLong(2, primero);
+                ps.setInt(3, proveedores);
+                ps.setInt(4, condiciones);
+                ps.executeUpdate();
+            }
+            analizar(c, "proveedor", "producto", "condicion_pago");
+
+            log.info("🏢 Sembrados {} proveedores, {} productos y {} condiciones ({} ms)",
+                    proveedores, productos, condiciones, (System.nanoTime() - inicio) / 1_000_000);
+            return primero;
+        }
+    }
+
+    /**
+     * Reserva n ids consecutivos y devuelve el primero: nextval da un valor que ningún bloque
+     * pooled-lo ha repartido y setval deja la secuencia justo detrás del rango
+     */
+    private static long reservarIds(Connection c, String secuencia, int n) throws SQLException {
+        try (PreparedStatement ps = c.prepareStatement(
+                "SELECT setval(?::regclass, nextval(?::regclass) + ?, false) - ?")) {
+            ps.setString(1, secuencia);
+            ps.setString(2, secuencia);
+            ps.setInt(3, n);
+            ps.setInt(4, n);
+            try (ResultSet rs = ps.executeQuery()) {
+                rs.next();
+                return rs.getLong(1);
+            }
+        }
+    }
+
+    private static void analizar(Connection c, String... tablas) throws SQLException {
+        try (Statement st = c.createStatement()) {
+            for (String tabla : tablas) {
+                st.execute("ANALYZE " + tabla);
+            }
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package com.petmanager.loadtests;
+
+import com.icegreen.greenmail.util.GreenMail;
+import com.icegreen.greenmail.util.ServerSetup;
+import lombok.extern.slf4j.Slf4j;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Postgres (Testcontainers), SMTP (GreenMail en proceso) y los tres servicios apuntando a ellos.
+ *
+ * Como en producción, los tres comparten una base de datos (un único DB_URL): así el LISTEN de
+ * notification recibe los pg_notify de supplier y la relectura del outbox encuentra su tabla.
+ * Cada servicio conecta con su propio rol, que es lo que separa sus consultas en pg_stat_statements.
+ *
+ * Orden de arranque: auth y supplier crean sus esquemas, se siembran los datos y después arranca
+ * notification, que al estar listo ya ha replicado el directorio de proveedores completo.
+ * El cron de notification se desactiva: la ejecución diaria la lanza el escenario. El timing wheel
+ * sigue activo, como en producción, con la ventana de envío comprimida para que los recordatorios
+ * del día salgan en el siguiente tick.
+ */
+@Slf4j
+public class Entorno implements AutoCloseable {
+
+    public static final String BD = "petmanager";
+    public static final String ROL_AUTH = "auth_service";
+    public static final String ROL_SUPPLIER = "supplier_service";
+    public static final String ROL_NOTIFICATION = "notification_service";
+    private static final String PASSWORD_ROL = "carga";
+
+    private final PostgreSQLContainer<?> postgres;
+    private final GreenMail smtp;
+    private final List<ServicioProceso> servicios = new ArrayList<>();
+
+    private ServicioProceso auth;
+    private ServicioProceso supplier;
+    private ServicioProceso notification;
+    private DatosSinteticos.Semilla semilla;
+    private ContadorConsultas contador;
+
+    private Entorno(PostgreSQLContainer<?> postgres, GreenMail smtp) {
+        this.postgres = postgres;
+        this.smtp = smtp;
+    }
+
+    public static Entorno arrancar(Configuracion config) throws Exception {
+        PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine")
+                .withCommand("postgres",
+                        "-c", "max_connections=300",
+                        "-c", "shared_preload_libraries=pg_stat_statements",
+                        "-c", "pg_stat_statements.track_utility=off");
+        postgres.start();
+
+        GreenMail smtp = new GreenMail(new ServerSetup(ServicioProceso.puertoLibre(), "127.0.0.1", ServerSetup.PROTOCOL_SMTP));
+        smtp.start();
+
+        Entorno entorno = new Entorno(postgres, smtp);
+        try {
+            entorno.iniciar(config);
+        } catch (Exception e) {
+            entorno.close();
+            throw e;
+        }
+        return entorno;
+    }
+
+    private void iniciar(Configuracion config) throws Exception {
+        List<String> roles = List.of(ROL_AUTH, ROL_SUPPLIER, ROL_NOTIFICATION);
+        try (Connection c = DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+             Statement st = c.createStatement()) {
+            st.execute("CREATE DATABASE " + BD);
+            for (String rol : roles) {
+                // Cada servicio es dueño de sus tablas; notification además lee outbox_evento de supplier
+                st.execute("CREATE ROLE " + rol + " LOGIN PASSWORD '" + PASSWORD_ROL + "' "
+                        + "IN ROLE pg_read_all_data, pg_write_all_data");
+            }
+        }
+        try (Connection c = DriverManager.getConnection(jdbcUrl(), postgres.getUsername(), postgres.getPassword());
+             Statement st = c.createStatement()) {
+            st.execute("GRANT CREATE ON SCHEMA public TO " + String.join(", ", roles));
+        }
+        contador = new ContadorConsultas(jdbcUrl(), postgres.getUsername(), postgres.getPassword(), roles);
+
+        Path logs = Files.createDirectories(config.salida().resolve("logs"));
+        int grpc = ServicioProceso.puertoLibre();
+
+        auth = iniciarServicio(config, "auth-service", ROL_AUTH, logs, smtpArgumentos());
+        supplier = iniciarServicio(config, "supplier-service", ROL_SUPPLIER, logs, List.of(
+                "--grpc.server.port=" + grpc));
+
+        DatosSinteticos.sembrarUsuarios(jdbcUrl(), postgres.getUsername(), postgres.getPassword(),
+                config.usuariosLogin());
+        long primerProveedor = DatosSinteticos.sembrarProveedores(jdbcUrl(),
+                postgres.getUsername(), postgres.getPassword(),
+                config.proveedores(), config.productos(), config.condiciones());
+        semilla = new DatosSinteticos.Semilla(primerProveedor, config.proveedores(), config.usuariosLogin());
+
+        List<String> argumentos = new ArrayList<>(smtpArgumentos());
+        argumentos.addAll(List.of(
+                "--services.supplier-service.url=" + supplier.url(""),
+                "--services.auth-service.url=" + auth.url(""),
+                "--grpc.client.supplier-service.address=static://localhost:" + grpc,
+                "--notifications.scheduler.enabled=false",
+                "--notifications.wheel.hora-inicio=00:00",
+                "--notifications.wheel.ventana-minutos=0",
+                "--notifications.wheel.tick-ms=1000",
+                "--notifications.archivo.directorio=" + config.salida().resolve("archivo")));
+        notification = iniciarServicio(config, "notification-service", ROL_NOTIFICATION, logs, argumentos);
+    }
+
+    private ServicioProceso iniciarServicio(Configuracion config, String nombre, String rol, Path logs,
+                                            List<String> extra) throws Exception {
+        List<String> argumentos = new ArrayList<>(List.of(
+                // Logs del perfil prod: el coste de logging de desarrollo distorsionaría las latencias
+                "--spring.profiles.active=prod",
+                "--management.tracing.enabled=false"));
+        if (config.poolFijado()) {
+            argumentos.add("--spring.datasource.hikari.maximum-pool-size=" + config.pool());
+        }
+        if (config.hilosVirtuales() != null) {
+            argumentos.add("--spring.threads.virtual.enabled=" + config.hilosVirtuales());
+        }
+        argumentos.addAll(extra);
+        ServicioProceso servicio = ServicioProceso.arrancar(nombre, config.servicios().resolve(nombre + ".jar"),
+                ServicioProceso.puertoLibre(), Map.of(
+                        "DB_URL", jdbcUrl(),
+                        "DB_USERNAME", rol,
+                        "DB_PASSWORD", PASSWORD_ROL,
+                        "BREVO_USERNAME", "carga",
+                        "BREVO_PASSWORD", "carga",
+                        "BREVO_SMTP_PASSWORD", "carga",
+                        "BREVO_API_KEY", "carga"),
+                argumentos, logs);
+        servicios.add(servicio);
+        return servicio;
+    }
+
+    /**
+     * GreenMail sin TLS ni autenticación en lugar del relay de Brevo
+     */
+    private List<String> smtpArgumentos() {
+        return List.of(
+                "--spring.mail.host=127.0.0.1",
+                "--spring.mail.port=" + smtp.getSmtp().getPort(),
+                "--spring.mail.properties.mail.smtp.auth=false",
+                "--spring.mail.properties.mail.smtp.starttls.enable=false",
+                "--spring.mail.properties.mail.smtp.starttls.required=false");
+    }
+
+    private String jdbcUrl() {
+        return "jdbc:postgresql://" + postgres.getHost() + ":" + postgres.getFirstMappedPort() + "/" + BD;
+    }
+
+    // ================================================
+    // ACCESO PARA LOS ESCENARIOS
+    // ================================================
+
+    public String authGraphql() {
+        return auth.url("/graphql");
+    }
+
+    public String supplierGraphql() {
+        return supplier.url("/graphql");
+    }
+
+    public String notificationGraphql() {
+        return notification.url("/graphql");
+    }
+
+    /**
+     * URL base de cada servicio, para leer sus métricas de actuator
+     */
+    public Map<String, String> servicios() {
+        Map<String, String> urls = new LinkedHashMap<>();
+        urls.put("auth", auth.url(""));
+        urls.put("supplier", supplier.url(""));
+        urls.put("notification", notification.url(""));
+        return urls;
+    }
+
+    /**
+     * Grabación JFR de cada servicio; completa solo después de close()
+     */
+    public Map<String, Path> grabacionesJfr() {
+        Map<String, Path> grabaciones = new LinkedHashMap<>();
+        servicios.forEach(s -> grabaciones.put(s.nombre(), s.grabacionJfr()));
+        return grabaciones;
+    }
+
+    public DatosSinteticos.Semilla semilla() {
+        return semilla;
+    }
+
+    public ContadorConsultas contador() {
+        return contador;
+    }
+
+    public int emailsRecibidos() {
+        return smtp.getReceivedMessages().length;
+    }
+
+    /**
+     * Recordatorios con fecha de envío hasta hoy que todavía no han salido. Los de días
+     * posteriores siguen programados en el timing wheel y no cuentan.
+     */
+    public long enviosPendientesHoy() throws SQLException {
+        try (Connection c = DriverManager.getConnection(jdbcUrl(), postgres.getUsername(), postgres.getPassword());
+             Statement st = c.createStatement();
+             ResultSet rs = st.executeQuery(
+                     "SELECT count(*) FROM notificacion_envio WHERE notificado = false AND fecha_envio <= CURRENT_DATE")) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (ServicioProceso servicio : servicios.reversed()) {
+            servicio.close();
+        }
+        if (contador != null) contador.close();
+        smtp.stop();
+        postgres.stop();
+    }
+}
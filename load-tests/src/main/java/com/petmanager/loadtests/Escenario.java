@@ -0,0 +1,53 @@
+package com.petmanager.loadtests;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Mezcla de operaciones que ejecuta cada usuario virtual en bucle cerrado.
+ *
+ * - aleatorio: en cada iteración se elige una operación según su peso
+ * - secuencial: cada iteración ejecuta todas las operaciones en orden (p. ej. la ejecución diaria)
+ *
+ * usuarios, duracion e iteraciones en null usan los valores de la configuración / sin límite.
+ */
+public record Escenario(
+        String nombre,
+        String descripcion,
+        List<Operacion> operaciones,
+        boolean secuencial,
+        Integer usuarios,
+        Duration duracion,
+        Integer iteraciones) {
+
+    @FunctionalInterface
+    public interface Accion {
+        void ejecutar(ThreadLocalRandom random) throws Exception;
+    }
+
+    public record Operacion(String nombre, int peso, Accion accion) {}
+
+    public static Escenario aleatorio(String nombre, String descripcion, List<Operacion> operaciones) {
+        return new Escenario(nombre, descripcion, operaciones, false, null, null, null);
+    }
+
+    public static Escenario secuencial(String nombre, String descripcion, List<Operacion> operaciones, int iteraciones) {
+        return new Escenario(nombre, descripcion, operaciones, true, 1, null, iteraciones);
+    }
+
+    public List<Operacion> siguiente(ThreadLocalRandom random) {
+        if (secuencial) {
+            return operaciones;
+        }
+        int total = operaciones.stream().mapToInt(Operacion::peso).sum();
+        int elegido = random.nextInt(total);
+        for (Operacion operacion : operaciones) {
+            elegido -= operacion.peso();
+            if (elegido < 0) {
+                return List.of(operacion);
+            }
+        }
+        throw new IllegalStateException("Pesos inválidos en " + nombre);
+    }
+}
@@ -0,0 +1,200 @@
+package com.petmanager.loadtests;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Operaciones GraphQL de cada servicio y las mezclas que componen los escenarios.
+ * Las consultas piden los mismos campos que el frontend en cada pantalla.
+ */
+public class Escenarios {
+
+    public static final String LECTURA = "lectura";
+    public static final String ESCRITURA = "escritura";
+    public static final String LOGIN = "login";
+    public static final String MIXTO = "mixto";
+    public static final String EJECUCION_DIARIA = "ejecucion-diaria";
+
+    private static final Duration ESPERA_WHEEL = Duration.ofMinutes(5);
+
+    private static final String PROVEEDOR_POR_ID = """
+            query($id: ID!) {
+              getProveedorById(id: $id) {
+                idProveedor nombre nit email activo
+                productos { idProducto codigo nombre precio }
+                condicionesPago { idCondicionPago diasCredito fechaInicio fechaFin }
+              }
+            }""";
+
+    private static final String PRODUCTOS_POR_PROVEEDOR = """
+            query($id: ID!) {
+              listarProductosPorProveedor(idProveedor: $id) { idProducto codigo nombre precio }
+            }""";
+
+    private static final String NOTIFICACIONES_PROVEEDOR = """
+            query($id: Int) {
+              notificacionesConnection(first: 20, idProveedor: $id) {
+                edges { node { idNotificacionPago fechaVencimiento estado notificado } }
+                pageInfo { hasNextPage endCursor }
+              }
+            }""";
+
+    private static final String AGREGAR_PRODUCTO = """
+            mutation($id: ID!, $codigo: String!, $precio: Float!) {
+              agregarProducto(idProveedor: $id, codigo: $codigo, nombre: "Producto carga",
+                              descripcion: "Alta desde la prueba de carga", precio: $precio) { idProducto }
+            }""";
+
+    private static final String ACTUALIZAR_PROVEEDOR = """
+            mutation($id: ID!, $telefono: String) {
+              updateProveedor(id: $id, telefono: $telefono) { idProveedor }
+            }""";
+
+    private static final String CREAR_CONDICION = """
+            mutation($id: ID!, $input: CondicionPagoInput!) {
+              crearCondicionPagoParaProveedor(idProveedor: $id, input: $input) { idCondicionPago }
+            }""";
+
+    private static final String LOGIN_MUTATION = """
+            mutation($email: String!, $password: String!) { login(email: $email, password: $password) }""";
+
+    private static final String PROCESAMIENTO = """
+            mutation { ejecutarProcesamientoManual { exitoso mensaje notificacionesCreadas tiempoEjecucion } }""";
+
+
+    private final ClienteGraphql auth;
+    private final ClienteGraphql supplier;
+    private final ClienteGraphql notification;
+    private final DatosSinteticos.Semilla semilla;
+    private final Entorno entorno;
+
+    public Escenarios(Entorno entorno) {
+        // Un cliente HTTP/1.1 compartido: cada usuario virtual reutiliza conexiones del pool
+        HttpClient http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        this.auth = new ClienteGraphql(http, entorno.authGraphql());
+        this.supplier = new ClienteGraphql(http, entorno.supplierGraphql());
+        this.notification = new ClienteGraphql(http, entorno.notificationGraphql());
+        this.semilla = entorno.semilla();
+        this.entorno = entorno;
+    }
+
+    public List<Escenario> todos() {
+        return List.of(
+                Escenario.aleatorio(LECTURA, "Consultas GraphQL de proveedores, productos y notificaciones", lecturas()),
+                Escenario.aleatorio(ESCRITURA, "Mutations de productos, proveedores y condiciones de pago", escrituras()),
+                Escenario.aleatorio(LOGIN, "Login contra auth-service (BCrypt + JWT)", List.of(login(1))),
+                Escenario.aleatorio(MIXTO, "70% lecturas, 15% mutations, 15% logins", mixto()),
+                Escenario.secuencial(EJECUCION_DIARIA, "Procesamiento de vencimientos y envío de emails", List.of(
+                        new Escenario.Operacion("ejecutarProcesamientoManual", 1, r -> exitoso(notification.ejecutar(PROCESAMIENTO))),
+                        new Escenario.Operacion("envioTimingWheel", 1, r -> esperarTimingWheel())), 1));
+    }
+
+    // ================================================
+    // MEZCLAS
+    // ================================================
+
+    private List<Escenario.Operacion> lecturas() {
+        return List.of(
+                new Escenario.Operacion("getProveedorById", 50,
+                        r -> supplier.ejecutar(PROVEEDOR_POR_ID, Map.of("id", proveedor(r)))),
+                new Escenario.Operacion("listarProductosPorProveedor", 30,
+                        r -> supplier.ejecutar(PRODUCTOS_POR_PROVEEDOR, Map.of("id", proveedor(r)))),
+                new Escenario.Operacion("notificacionesConnection", 20,
+                        r -> notification.ejecutar(NOTIFICACIONES_PROVEEDOR, Map.of("id", proveedor(r)))));
+    }
+
+    private List<Escenario.Operacion> escrituras() {
+        return List.of(
+                new Escenario.Operacion("agregarProducto", 40, r -> supplier.ejecutar(AGREGAR_PRODUCTO, Map.of(
+                        "id", proveedor(r),
+                        "codigo", "CARGA-" + UUID.randomUUID(),
+                        "precio", Math.round(r.nextDouble(1_000, 500_000) * 100) / 100.0))),
+                new Escenario.Operacion("updateProveedor", 30, r -> supplier.ejecutar(ACTUALIZAR_PROVEEDOR, Map.of(
+                        "id", proveedor(r),
+                        "telefono", "301" + r.nextInt(1_000_000, 10_000_000)))),
+                new Escenario.Operacion("crearCondicionPagoParaProveedor", 30, r -> {
+                    LocalDate inicio = LocalDate.now().minusDays(r.nextInt(0, 60));
+                    supplier.ejecutar(CREAR_CONDICION, Map.of(
+                            "id", proveedor(r),
+                            "input", Map.of(
+                                    "diasCredito", 30,
+                                    "fechaInicio", inicio.toString(),
+                                    "fechaFin", inicio.plusDays(r.nextInt(15, 120)).toString(),
+                                    "nota", "Condición desde la prueba de carga",
+                                    "idUsuario", 1)));
+                }));
+    }
+
+    private List<Escenario.Operacion> mixto() {
+        List<Escenario.Operacion> lecturas = lecturas();
+        List<Escenario.Operacion> escrituras = escrituras();
+        return List.of(
+                conPeso(lecturas.get(0), 35),
+                conPeso(lecturas.get(1), 21),
+                conPeso(lecturas.get(2), 14),
+                conPeso(escrituras.get(0), 6),
+                conPeso(escrituras.get(1), 5),
+                conPeso(escrituras.get(2), 4),
+                login(15));
+    }
+
+    private Escenario.Operacion login(int peso) {
+        return new Escenario.Operacion("login", peso, r -> {
+            JsonNode data = auth.ejecutar(LOGIN_MUTATION, Map.of(
+                    "email", semilla.emailUsuario(r.nextInt(semilla.usuarios())),
+                    "password", DatosSinteticos.PASSWORD));
+            // login devuelve el JWT o un texto "Error: ..." con status 200
+            String resultado = data.path("login").asText();
+            if (resultado.startsWith("Error")) {
+                throw new IllegalStateException(resultado);
+            }
+        });
+    }
+
+    // ================================================
+    // AUXILIARES
+    // ================================================
+
+    private long proveedor(ThreadLocalRandom r) {
+        return semilla.primerProveedor() + r.nextInt(semilla.proveedores());
+    }
+
+    /**
+     * Con el timing wheel (el camino de producción) los emails salen en sus ticks tras el
+     * procesamiento; la operación dura hasta que se han enviado todos los recordatorios de hoy.
+     * Los de días posteriores quedan programados en el wheel y no se esperan.
+     */
+    private void esperarTimingWheel() throws Exception {
+        long limite = System.nanoTime() + ESPERA_WHEEL.toNanos();
+        long pendientes;
+        while ((pendientes = entorno.enviosPendientesHoy()) > 0) {
+            if (System.nanoTime() > limite) {
+                throw new IllegalStateException("Quedan " + pendientes + " recordatorios de hoy sin enviar");
+            }
+            Thread.sleep(200);
+        }
+    }
+
+    private static Escenario.Operacion conPeso(Escenario.Operacion operacion, int peso) {
+        return new Escenario.Operacion(operacion.nombre(), peso, operacion.accion());
+    }
+
+    private static void exitoso(JsonNode data) {
+        JsonNode resultado = data.elements().next();
+        if (!resultado.path("exitoso").asBoolean()) {
+            throw new IllegalStateException(resultado.path("mensaje").asText());
+        }
+    }
+}
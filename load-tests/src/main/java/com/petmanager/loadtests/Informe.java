@@ -0,0 +1,198 @@
+package com.petmanager.loadtests;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Resultado por escenario: throughput, percentiles de latencia, consultas a BD y uso del pool de
+ * conexiones por servicio. Se escribe en JSON (para comparar ejecuciones) y en Markdown (para leerlo).
+ *
+ * Comparar ejecuciones con hilos virtuales y de plataforma (-Dcarga.hilos-virtuales) muestra la
+ * concurrencia ganada: peticiones en curso en cada servicio frente a hilos de plataforma usados.
+ */
+@Slf4j
+public class Informe {
+
+    public record Latencias(double p50Ms, double p95Ms, double p99Ms, double maxMs) {
+
+        static Latencias de(Histogram h) {
+            return new Latencias(ms(h.getValueAtPercentile(50)), ms(h.getValueAtPercentile(95)),
+                    ms(h.getValueAtPercentile(99)), ms(h.getMaxValue()));
+        }
+
+        private static double ms(long nanos) {
+            return Math.round(nanos / 10_000.0) / 100.0;
+        }
+    }
+
+    public record ResultadoOperacion(String operacion, long peticiones, long errores, Latencias latencias,
+                                     String ultimoError) {}
+
+    public record ResultadoEscenario(String escenario, String descripcion, double segundos, long peticiones,
+                                     long errores, double peticionesPorSegundo, Latencias latencias,
+                                     Map<String, Long> consultasPorServicio, double consultasPorPeticion,
+                                     Integer emailsRecibidos, List<ResultadoOperacion> operaciones,
+                                     Map<String, MuestreoPool.EstadoPool> pool,
+                                     Map<String, MuestreoHilos.EstadoHilos> hilos) {}
+
+    private final List<ResultadoEscenario> resultados = new ArrayList<>();
+    private Map<String, List<AnclajesJfr.Anclaje>> anclajes = Map.of();
+
+    public ResultadoEscenario agregar(Conductor.Ejecucion ejecucion, Map<String, Long> consultas, Integer emails,
+                                      Map<String, MuestreoPool.EstadoPool> pool,
+                                      Map<String, MuestreoHilos.EstadoHilos> hilos) {
+        List<ResultadoOperacion> operaciones = new ArrayList<>();
+        ejecucion.porOperacion().forEach((nombre, m) -> operaciones.add(new ResultadoOperacion(nombre,
+                m.latencias.getTotalCount(), m.errores.sum(), Latencias.de(m.latencias), m.ultimoError)));
+
+        long peticiones = ejecucion.total().latencias.getTotalCount();
+        long totalConsultas = consultas.values().stream().mapToLong(Long::longValue).sum();
+        ResultadoEscenario resultado = new ResultadoEscenario(
+                ejecucion.escenario().nombre(),
+                ejecucion.escenario().descripcion(),
+                Math.round(ejecucion.segundos() * 10) / 10.0,
+                peticiones,
+                ejecucion.total().errores.sum(),
+                Math.round(peticiones / ejecucion.segundos() * 10) / 10.0,
+                Latencias.de(ejecucion.total().latencias),
+                consultas,
+                peticiones > 0 ? Math.round(totalConsultas * 100.0 / peticiones) / 100.0 : 0,
+                emails,
+                operaciones,
+                pool,
+                hilos);
+        resultados.add(resultado);
+        log.info("📊 {}: {} peticiones ({} errores), {} req/s, p50 {} ms, p95 {} ms, p99 {} ms, {} consultas/petición",
+                resultado.escenario(), resultado.peticiones(), resultado.errores(), resultado.peticionesPorSegundo(),
+                resultado.latencias().p50Ms(), resultado.latencias().p95Ms(), resultado.latencias().p99Ms(),
+                resultado.consultasPorPeticion());
+        return resultado;
+    }
+
+    /**
+     * Anclajes de hilos virtuales por servicio, leídos al final de la prueba
+     */
+    public void anclajes(Map<String, List<AnclajesJfr.Anclaje>> anclajes) {
+        this.anclajes = anclajes;
+    }
+
+    public void escribir(Path salida, Configuracion config) throws IOException {
+        Files.createDirectories(salida);
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(salida.resolve("informe-carga.json").toFile(), Map.of(
+                        "usuarios", config.usuarios(),
+                        "pool", config.poolFijado() ? config.pool() : "perfil prod",
+                        "hilos", config.modoHilos(),
+                        "duracionSegundos", config.duracion().toSeconds(),
+                        "datos", Map.of(
+                                "proveedores", config.proveedores(),
+                                "productos", config.productos(),
+                                "condiciones", config.condiciones(),
+                                "usuarios", config.usuariosLogin()),
+                        "escenarios", resultados,
+                        "anclajesHilosVirtuales", anclajes));
+        Files.writeString(salida.resolve("informe-carga.md"), markdown(config));
+        log.info("📝 Informe escrito en {}", salida.resolve("informe-carga.md"));
+    }
+
+    private String markdown(Configuracion config) {
+        StringBuilder md = new StringBuilder();
+        md.append("# Prueba de carga\n\n")
+                .append(String.format(Locale.ROOT, "%d usuarios virtuales, %d s por escenario, hilos %s. "
+                                + "Datos: %,d proveedores, %,d productos, %,d condiciones, %,d usuarios.%n%n",
+                        config.usuarios(), config.duracion().toSeconds(), config.modoHilos(), config.proveedores(),
+                        config.productos(), config.condiciones(), config.usuariosLogin()))
+                .append("| Escenario | Operación | Peticiones | Errores | req/s | p50 ms | p95 ms | p99 ms | max ms | Consultas BD | Consultas/petición |\n")
+                .append("|---|---|---:|---:|---:|---:|---:|---:|---:|---|---:|\n");
+        for (ResultadoEscenario r : resultados) {
+            md.append(String.format(Locale.ROOT, "| **%s** | *total* | %d | %d | %.1f | %.2f | %.2f | %.2f | %.2f | %s | %.2f |%n",
+                    r.escenario(), r.peticiones(), r.errores(), r.peticionesPorSegundo(),
+                    r.latencias().p50Ms(), r.latencias().p95Ms(), r.latencias().p99Ms(), r.latencias().maxMs(),
+                    consultas(r.consultasPorServicio()), r.consultasPorPeticion()));
+            for (ResultadoOperacion o : r.operaciones()) {
+                md.append(String.format(Locale.ROOT, "| | %s | %d | %d | | %.2f | %.2f | %.2f | %.2f | | |%n",
+                        o.operacion(), o.peticiones(), o.errores(),
+                        o.latencias().p50Ms(), o.latencias().p95Ms(), o.latencias().p99Ms(), o.latencias().maxMs()));
+            }
+        }
+        resultados.stream().filter(r -> r.emailsRecibidos() != null).forEach(r ->
+                md.append(String.format("%nEmails recibidos por el SMTP local en %s: %d%n", r.escenario(), r.emailsRecibidos())));
+        pool(md, config);
+        hilos(md, config);
+        anclajes(md);
+        return md.toString();
+    }
+
+    /**
+     * Guía de dimensionado: con esperas el pool limita el throughput; si el pico de activas queda
+     * lejos del máximo, sobran conexiones que el Postgres compartido podría dar a otro servicio
+     */
+    private void pool(StringBuilder md, Configuracion config) {
+        md.append(String.format(Locale.ROOT, "%n## Pool de conexiones%n%nTamaño: %s. "
+                                + "Picos muestreados cada 200 ms; espera = tiempo medio para obtener conexión.%n%n",
+                        config.poolFijado() ? config.pool() + " en todos los servicios" : "el del perfil prod de cada servicio"))
+                .append("| Escenario | Servicio | Máximo | Activas (pico) | En espera (pico) | Espera media ms | Timeouts | Sugerido |\n")
+                .append("|---|---|---:|---:|---:|---:|---:|---:|\n");
+        for (ResultadoEscenario r : resultados) {
+            r.pool().forEach((servicio, p) -> md.append(String.format(Locale.ROOT,
+                    "| %s | %s | %d | %d | %d | %.3f | %d | %d |%n", r.escenario(), servicio, p.maximo(),
+                    p.activasPico(), p.pendientesPico(), p.esperaMediaMs(), p.timeouts(), p.sugerido())));
+        }
+        md.append("""
+
+                Cómo leerlo:
+                - *En espera* > 0 o *Timeouts* > 0: el pool se queda corto; subirlo hacia *Sugerido*
+                  (activas + en espera en el pico).
+                - *Activas (pico)* muy por debajo de *Máximo*: sobran conexiones en el Postgres compartido.
+                - Repetir con `-Dcarga.pool=N` para varios N y quedarse con el menor a partir del cual
+                  p95/p99 dejan de mejorar; ese valor va en `application-prod.properties` del servicio.
+                """);
+    }
+
+    /**
+     * Con hilos de plataforma las peticiones en curso topan con el pool de Tomcat (200 por defecto);
+     * con hilos virtuales siguen a los usuarios con muchos menos hilos de plataforma
+     */
+    private void hilos(StringBuilder md, Configuracion config) {
+        md.append(String.format(Locale.ROOT, "%n## Concurrencia en los servicios%n%nHilos %s, %d usuarios. "
+                                + "Picos muestreados cada 200 ms desde actuator.%n%n", config.modoHilos(), config.usuarios()))
+                .append("| Escenario | Servicio | Peticiones en curso (pico) | Hilos de plataforma (pico) |\n")
+                .append("|---|---|---:|---:|\n");
+        for (ResultadoEscenario r : resultados) {
+            r.hilos().forEach((servicio, h) -> md.append(String.format(Locale.ROOT, "| %s | %s | %d | %d |%n",
+                    r.escenario(), servicio, h.peticionesEnCursoPico(), h.hilosPlataformaPico())));
+        }
+    }
+
+    /**
+     * Puntos calientes de anclaje: un synchronized con E/S dentro retiene el carrier y limita
+     * la concurrencia que dan los hilos virtuales; candidatos a pasar a ReentrantLock
+     */
+    private void anclajes(StringBuilder md) {
+        md.append("\n## Hilos virtuales anclados (JFR jdk.VirtualThreadPinned, > 20 ms)\n\n");
+        if (anclajes.values().stream().allMatch(List::isEmpty)) {
+            md.append("Sin anclajes registrados.\n");
+            return;
+        }
+        md.append("| Servicio | Origen | Eventos | Total ms | Máx ms |\n")
+                .append("|---|---|---:|---:|---:|\n");
+        anclajes.forEach((servicio, lista) -> lista.forEach(a -> md.append(String.format(Locale.ROOT,
+                "| %s | `%s` | %d | %.2f | %.2f |%n", servicio, a.origen(), a.eventos(), a.totalMs(), a.maxMs()))));
+    }
+
+    private static String consultas(Map<String, Long> porServicio) {
+        List<String> partes = new ArrayList<>();
+        porServicio.forEach((rol, n) -> partes.add(rol.replace("_service", "") + ": " + n));
+        return String.join(", ", partes);
+    }
+}
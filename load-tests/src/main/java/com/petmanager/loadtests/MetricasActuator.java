@@ -0,0 +1,49 @@
+package com.petmanager.loadtests;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+/**
+ * Lectura de métricas de un servicio en /actuator/metrics, para los muestreos de cada escenario
+ */
+@Slf4j
+public class MetricasActuator {
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    private final HttpClient http = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2)).build();
+
+    /**
+     * Una estadística de /actuator/metrics/{metrica}; 0 si el servicio no la expone
+     */
+    public double valor(String url, String metrica, String estadistica) {
+        HttpRequest peticion = HttpRequest.newBuilder(URI.create(url + "/actuator/metrics/" + metrica))
+                .timeout(Duration.ofSeconds(2))
+                .GET()
+                .build();
+        try {
+            HttpResponse<String> respuesta = http.send(peticion, HttpResponse.BodyHandlers.ofString());
+            if (respuesta.statusCode() != 200) {
+                return 0;
+            }
+            for (JsonNode medida : JSON.readTree(respuesta.body()).path("measurements")) {
+                if (estadistica.equals(medida.path("statistic").asText())) {
+                    return medida.path("value").asDouble();
+                }
+            }
+        } catch (IOException e) {
+            log.debug("Métrica {} no disponible en {}: {}", metrica, url, e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return 0;
+    }
+}
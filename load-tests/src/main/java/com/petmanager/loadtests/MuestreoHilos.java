@@ -0,0 +1,67 @@
+package com.petmanager.loadtests;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Concurrencia que alcanza cada servicio durante un escenario, leída de /actuator/metrics:
+ * peticiones HTTP en curso (http.server.requests.active) y hilos de plataforma vivos
+ * (jvm.threads.live, que no cuenta los virtuales). Picos muestreados cada 200 ms.
+ */
+public class MuestreoHilos {
+
+    private static final Duration INTERVALO = Duration.ofMillis(200);
+
+    public record EstadoHilos(int peticionesEnCursoPico, int hilosPlataformaPico) {}
+
+    private final Map<String, String> servicios;
+    private final MetricasActuator metricas = new MetricasActuator();
+
+    private final Map<String, int[]> picos = new LinkedHashMap<>();
+    private ScheduledExecutorService muestreo;
+
+    /**
+     * @param servicios nombre del servicio → URL base (http://localhost:puerto)
+     */
+    public MuestreoHilos(Map<String, String> servicios) {
+        this.servicios = servicios;
+    }
+
+    public void iniciar() {
+        picos.clear();
+        servicios.keySet().forEach(nombre -> picos.put(nombre, new int[2]));
+        muestreo = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread hilo = new Thread(r, "muestreo-hilos");
+            hilo.setDaemon(true);
+            return hilo;
+        });
+        muestreo.scheduleAtFixedRate(this::muestrear, 0, INTERVALO.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public Map<String, EstadoHilos> detener() throws InterruptedException {
+        muestreo.shutdown();
+        muestreo.awaitTermination(5, TimeUnit.SECONDS);
+
+        Map<String, EstadoHilos> estados = new LinkedHashMap<>();
+        synchronized (picos) {
+            picos.forEach((nombre, pico) -> estados.put(nombre, new EstadoHilos(pico[0], pico[1])));
+        }
+        return estados;
+    }
+
+    private void muestrear() {
+        servicios.forEach((nombre, url) -> {
+            int enCurso = (int) metricas.valor(url, "http.server.requests.active", "ACTIVE_TASKS");
+            int hilos = (int) metricas.valor(url, "jvm.threads.live", "VALUE");
+            synchronized (picos) {
+                int[] pico = picos.get(nombre);
+                pico[0] = Math.max(pico[0], enCurso);
+                pico[1] = Math.max(pico[1], hilos);
+            }
+        });
+    }
+}
@@ -0,0 +1,101 @@
+package com.petmanager.loadtests;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Uso del pool HikariCP de cada servicio durante un escenario, leído de /actuator/metrics.
+ *
+ * Los picos de conexiones activas y en espera se muestrean cada 200 ms (un pico más corto
+ * puede no verse); la espera para obtener conexión y los timeouts son contadores acumulados,
+ * así que se restan los valores del inicio del escenario.
+ */
+public class MuestreoPool {
+
+    private static final Duration INTERVALO = Duration.ofMillis(200);
+
+    public record EstadoPool(int maximo, int activasPico, int pendientesPico, double esperaMediaMs,
+                             long timeouts, int sugerido) {}
+
+    private final Map<String, String> servicios;
+    private final MetricasActuator metricas = new MetricasActuator();
+
+    private final Map<String, Contadores> inicio = new LinkedHashMap<>();
+    private final Map<String, int[]> picos = new LinkedHashMap<>();
+    private ScheduledExecutorService muestreo;
+
+    /**
+     * @param servicios nombre del servicio → URL base (http://localhost:puerto)
+     */
+    public MuestreoPool(Map<String, String> servicios) {
+        this.servicios = servicios;
+    }
+
+    public void iniciar() {
+        inicio.clear();
+        picos.clear();
+        servicios.forEach((nombre, url) -> {
+            inicio.put(nombre, contadores(url));
+            picos.put(nombre, new int[2]);
+        });
+        muestreo = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread hilo = new Thread(r, "muestreo-pool");
+            hilo.setDaemon(true);
+            return hilo;
+        });
+        muestreo.scheduleAtFixedRate(this::muestrear, 0, INTERVALO.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public Map<String, EstadoPool> detener() throws InterruptedException {
+        muestreo.shutdown();
+        muestreo.awaitTermination(5, TimeUnit.SECONDS);
+
+        Map<String, EstadoPool> estados = new LinkedHashMap<>();
+        servicios.forEach((nombre, url) -> {
+            Contadores antes = inicio.get(nombre);
+            Contadores despues = contadores(url);
+            int[] pico;
+            synchronized (picos) {
+                pico = picos.get(nombre).clone();
+            }
+            long obtenciones = despues.obtenciones() - antes.obtenciones();
+            double esperaMs = obtenciones > 0
+                    ? Math.round((despues.esperaSegundos() - antes.esperaSegundos()) * 1_000_000.0 / obtenciones) / 1000.0
+                    : 0;
+            // Demanda simultánea máxima observada: lo que estaba en uso más lo que esperaba
+            int sugerido = Math.max(2, pico[0] + pico[1]);
+            estados.put(nombre, new EstadoPool((int) metricas.valor(url, "hikaricp.connections.max", "VALUE"),
+                    pico[0], pico[1], esperaMs, despues.timeouts() - antes.timeouts(), sugerido));
+        });
+        return estados;
+    }
+
+    private void muestrear() {
+        servicios.forEach((nombre, url) -> {
+            int activas = (int) metricas.valor(url, "hikaricp.connections.active", "VALUE");
+            int pendientes = (int) metricas.valor(url, "hikaricp.connections.pending", "VALUE");
+            synchronized (picos) {
+                int[] pico = picos.get(nombre);
+                pico[0] = Math.max(pico[0], activas);
+                pico[1] = Math.max(pico[1], pendientes);
+            }
+        });
+    }
+
+    // ================================================
+    // ACTUATOR
+    // ================================================
+
+    private record Contadores(long obtenciones, double esperaSegundos, long timeouts) {}
+
+    private Contadores contadores(String url) {
+        return new Contadores(
+                (long) metricas.valor(url, "hikaricp.connections.acquire", "COUNT"),
+                metricas.valor(url, "hikaricp.connections.acquire", "TOTAL_TIME"),
+                (long) metricas.valor(url, "hikaricp.connections.timeout", "COUNT"));
+    }
+}
@@ -0,0 +1,57 @@
+package com.petmanager.loadtests;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * Prueba de carga extremo a extremo: levanta el entorno, ejecuta cada escenario con
+ * calentamiento previo y escribe el informe. Ver el pom para el modo de uso.
+ *
+ * Las consultas a BD se cuentan solo durante la fase medida (pg_stat_statements se reinicia
+ * después del calentamiento), así el número por petición no incluye arranque ni siembra.
+ * El uso del pool de conexiones y la concurrencia de cada servicio se miden en la misma ventana
+ * (MuestreoPool, MuestreoHilos). Los anclajes de hilos virtuales se leen de las grabaciones JFR
+ * de cada servicio, que se vuelcan al pararlo.
+ */
+@Slf4j
+public class PruebaCarga {
+
+    public static void main(String[] args) throws Exception {
+        Configuracion config = Configuracion.desdeSistema();
+        Informe informe = new Informe();
+
+        Map<String, Path> grabaciones;
+        try (Entorno entorno = Entorno.arrancar(config)) {
+            grabaciones = entorno.grabacionesJfr();
+            MuestreoPool pool = new MuestreoPool(entorno.servicios());
+            MuestreoHilos hilos = new MuestreoHilos(entorno.servicios());
+            for (Escenario escenario : new Escenarios(entorno).todos()) {
+                if (!config.incluye(escenario.nombre())) continue;
+
+                if (!escenario.secuencial()) {
+                    log.info("🔥 Calentamiento de {} ({} s)", escenario.nombre(), config.calentamiento().toSeconds());
+                    Conductor.ejecutar(escenario, config.usuarios(), config.calentamiento());
+                }
+
+                log.info("▶️ Escenario {}: {}", escenario.nombre(), escenario.descripcion());
+                entorno.contador().reiniciar();
+                int emailsAntes = entorno.emailsRecibidos();
+                pool.iniciar();
+                hilos.iniciar();
+                Conductor.Ejecucion ejecucion = Conductor.ejecutar(escenario, config.usuarios(), config.duracion());
+                Map<String, MuestreoPool.EstadoPool> estadoPool = pool.detener();
+                Map<String, MuestreoHilos.EstadoHilos> estadoHilos = hilos.detener();
+                Map<String, Long> consultas = entorno.contador().leer();
+
+                Integer emails = Escenarios.EJECUCION_DIARIA.equals(escenario.nombre())
+                        ? entorno.emailsRecibidos() - emailsAntes
+                        : null;
+                informe.agregar(ejecucion, consultas, emails, estadoPool, estadoHilos);
+            }
+        }
+        informe.anclajes(AnclajesJfr.leer(grabaciones));
+        informe.escribir(config.salida(), config);
+    }
+}
@@ -0,0 +1,118 @@
+package com.petmanager.loadtests;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Un servicio arrancado desde su jar ejecutable en un proceso aparte.
+ * Cada servicio lleva su propio classpath y versión de Spring Boot, igual que en producción;
+ * la salida estándar va a un fichero en logs/ para revisar errores tras la prueba.
+ * Cada proceso graba JFR (perfil default, incluye jdk.VirtualThreadPinned) en logs/, volcado al parar.
+ */
+@Slf4j
+public class ServicioProceso implements AutoCloseable {
+
+    private static final Duration TIMEOUT_ARRANQUE = Duration.ofMinutes(3);
+
+    private final String nombre;
+    private final int puerto;
+    private final Process proceso;
+    private final Path ficheroLog;
+    private final Path grabacionJfr;
+
+    private ServicioProceso(String nombre, int puerto, Process proceso, Path ficheroLog, Path grabacionJfr) {
+        this.nombre = nombre;
+        this.puerto = puerto;
+        this.proceso = proceso;
+        this.ficheroLog = ficheroLog;
+        this.grabacionJfr = grabacionJfr;
+    }
+
+    /**
+     * Lanza el jar y espera a que /actuator/health responda 200
+     */
+    public static ServicioProceso arrancar(String nombre, Path jar, int puerto, Map<String, String> entorno,
+                                           List<String> argumentos, Path logs) throws Exception {
+        String java = ProcessHandle.current().info().command().orElse("java");
+        Path grabacionJfr = logs.resolve(nombre + ".jfr");
+        List<String> comando = new ArrayList<>(List.of(java, "-Xmx1g",
+                "-XX:StartFlightRecording=settings=default,dumponexit=true,filename=" + grabacionJfr,
+                "-jar", jar.toString(), "--server.port=" + puerto));
+        comando.addAll(argumentos);
+
+        Path ficheroLog = logs.resolve(nombre + ".log");
+        ProcessBuilder builder = new ProcessBuilder(comando)
+                .redirectErrorStream(true)
+                .redirectOutput(ficheroLog.toFile());
+        builder.environment().putAll(entorno);
+
+        log.info("🚀 Arrancando {} en el puerto {} (log: {})", nombre, puerto, ficheroLog);
+        ServicioProceso servicio = new ServicioProceso(nombre, puerto, builder.start(), ficheroLog, grabacionJfr);
+        servicio.esperarSalud();
+        return servicio;
+    }
+
+    public static int puertoLibre() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    public String nombre() {
+        return nombre;
+    }
+
+    public Path grabacionJfr() {
+        return grabacionJfr;
+    }
+
+    public String url(String ruta) {
+        return "http://localhost:" + puerto + ruta;
+    }
+
+    private void esperarSalud() throws Exception {
+        HttpClient http = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2)).build();
+        HttpRequest salud = HttpRequest.newBuilder(URI.create(url("/actuator/health")))
+                .timeout(Duration.ofSeconds(5))
+                .GET()
+                .build();
+        long limite = System.nanoTime() + TIMEOUT_ARRANQUE.toNanos();
+        while (System.nanoTime() < limite) {
+            if (!proceso.isAlive()) {
+                throw new IllegalStateException(nombre + " terminó al arrancar (código "
+                        + proceso.exitValue() + "), ver " + ficheroLog);
+            }
+            try {
+                if (http.send(salud, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    log.info("✅ {} listo", nombre);
+                    return;
+                }
+            } catch (IOException e) {
+                // Todavía no escucha
+            }
+            Thread.sleep(1000);
+        }
+        close();
+        throw new IllegalStateException(nombre + " no respondió en " + TIMEOUT_ARRANQUE + ", ver " + ficheroLog);
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        proceso.destroy();
+        if (!proceso.waitFor(30, TimeUnit.SECONDS)) {
+            proceso.destroyForcibly();
+        }
+    }
+}
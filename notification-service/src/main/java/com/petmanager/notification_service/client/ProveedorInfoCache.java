@@ -0,0 +1,32 @@
+package com.petmanager.notification_service.client;
+
+import com.petmanager.notification_service.dto.ProveedorNotificacionDto;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Última información conocida de cada proveedor.
+ * Es la respuesta de respaldo cuando el circuit breaker o el bulkhead rechazan la llamada.
+ */
+@Component
+public class ProveedorInfoCache {
+
+    private final Map<Long, ProveedorNotificacionDto> ultimos = new ConcurrentHashMap<>();
+
+    public void put(ProveedorNotificacionDto proveedor) {
+        if (proveedor != null && proveedor.getIdProveedor() != null) {
+            ultimos.put(proveedor.getIdProveedor(), proveedor);
+        }
+    }
+
+    public Optional<ProveedorNotificacionDto> get(Long idProveedor) {
+        return Optional.ofNullable(ultimos.get(idProveedor));
+    }
+
+    public int size() {
+        return ultimos.size();
+    }
+}
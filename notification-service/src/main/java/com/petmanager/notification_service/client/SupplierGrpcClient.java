@@ -0,0 +1,137 @@
+package com.petmanager.notification_service.client;
+
+import com.petmanager.notification_service.dto.CondicionPagoVencimientoDto;
+import com.petmanager.notification_service.dto.ProveedorNotificacionDto;
+import com.petmanager.notification_service.exception.NotificationServiceException;
+import com.petmanager.notification_service.grpc.v1.CondicionPagoVencimiento;
+import com.petmanager.notification_service.grpc.v1.CondicionesProximasRequest;
+import com.petmanager.notification_service.grpc.v1.ProveedorNotificacion;
+import com.petmanager.notification_service.grpc.v1.ProveedorRequest;
+import com.petmanager.notification_service.grpc.v1.SupplierSyncGrpc;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
+import net.devh.boot.grpc.client.inject.GrpcClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cliente gRPC de supplier-service (alternativa a SupplierServiceClient con supplier.transport=grpc).
+ * Un único stream por operación en lugar de una petición HTTP por proveedor.
+ */
+@Component
+public class SupplierGrpcClient {
+
+    @GrpcClient("supplier-service")
+    private SupplierSyncGrpc.SupplierSyncBlockingStub blockingStub;
+
+    @GrpcClient("supplier-service")
+    private SupplierSyncGrpc.SupplierSyncStub asyncStub;
+
+    @Value("${supplier.grpc.deadline-seconds:60}")
+    private long deadlineSeconds;
+
+    /**
+     * Condiciones próximas a vencer leídas del stream a medida que llegan
+     * (el iterador bloqueante solo pide más mensajes conforme se consumen)
+     */
+    public List<CondicionPagoVencimientoDto> streamCondicionesProximas(List<Integer> dias) {
+        Iterator<CondicionPagoVencimiento> stream = blockingStub
+                .withDeadlineAfter(deadlineSeconds, TimeUnit.SECONDS)
+                .streamCondicionesProximas(CondicionesProximasRequest.newBuilder().addAllDias(dias).build());
+
+        List<CondicionPagoVencimientoDto> condiciones = new ArrayList<>();
+        stream.forEachRemaining(mensaje -> condiciones.add(aDto(mensaje)));
+        return condiciones;
+    }
+
+    /**
+     * Envía los ids en pipeline por un stream bidireccional, solo mientras el servidor puede aceptar más.
+     * Los proveedores que no existen no aparecen en el resultado.
+     */
+    public Map<Long, ProveedorNotificacionDto> resolverProveedores(Collection<Long> idsProveedor) {
+        if (idsProveedor.isEmpty()) {
+            return Map.of();
+        }
+
+        Iterator<Long> pendientes = new LinkedHashSet<>(idsProveedor).iterator();
+        Map<Long, ProveedorNotificacionDto> resueltos = new ConcurrentHashMap<>();
+        CompletableFuture<Map<Long, ProveedorNotificacionDto>> resultado = new CompletableFuture<>();
+
+        asyncStub.withDeadlineAfter(deadlineSeconds, TimeUnit.SECONDS)
+                .resolveProveedores(new ClientResponseObserver<ProveedorRequest, ProveedorNotificacion>() {
+                    private boolean cerrado;
+
+                    @Override
+                    public void beforeStart(ClientCallStreamObserver<ProveedorRequest> peticiones) {
+                        peticiones.setOnReadyHandler(() -> {
+                            synchronized (this) {
+                                while (peticiones.isReady() && pendientes.hasNext()) {
+                                    peticiones.onNext(ProveedorRequest.newBuilder()
+                                            .setIdProveedor(pendientes.next())
+                                            .build());
+                                }
+                                if (!pendientes.hasNext() && !cerrado) {
+                                    cerrado = true;
+                                    peticiones.onCompleted();
+                                }
+                            }
+                        });
+                    }
+
+                    @Override
+                    public void onNext(ProveedorNotificacion proveedor) {
+                        if (proveedor.getEncontrado()) {
+                            resueltos.put(proveedor.getIdProveedor(), new ProveedorNotificacionDto(
+                                    proveedor.getIdProveedor(),
+                                    proveedor.getNombre(),
+                                    proveedor.getEmail(),
+                                    proveedor.getActivo()));
+                        }
+                    }
+
+                    @Override
+                    public void onError(Throwable t) {
+                        resultado.completeExceptionally(t);
+                    }
+
+                    @Override
+                    public void onCompleted() {
+                        resultado.complete(resueltos);
+                    }
+                });
+
+        try {
+            return resultado.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new NotificationServiceException("Resolución de proveedores interrumpida", e);
+        } catch (Exception e) {
+            throw new NotificationServiceException("Error en ResolveProveedores: " + e.getMessage(), e);
+        }
+    }
+
+    private static CondicionPagoVencimientoDto aDto(CondicionPagoVencimiento mensaje) {
+        return new CondicionPagoVencimientoDto(
+                mensaje.getIdCondicionPago(),
+                mensaje.getIdProveedor(),
+                mensaje.getNombreProveedor(),
+                mensaje.getEmailProveedor(),
+                mensaje.hasIdUsuario() ? mensaje.getIdUsuario() : null,
+                mensaje.hasDiasCredito() ? mensaje.getDiasCredito() : null,
+                mensaje.hasFechaInicio() ? LocalDate.ofEpochDay(mensaje.getFechaInicio()) : null,
+                LocalDate.ofEpochDay(mensaje.getFechaFin()),
+                mensaje.hasNota() ? mensaje.getNota() : null,
+                mensaje.getDiasRestantes());
+    }
+}
@@ -1,6 +1,7 @@
 package com.petmanager.notification_service.client;
 
 import com.petmanager.notification_service.dto.CondicionPagoVencimientoDto;
+import com.petmanager.notification_service.dto.DirectorioProveedoresDto;
 import com.petmanager.notification_service.dto.ProveedorNotificacionDto;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.http.ResponseEntity;
@@ -12,12 +13,14 @@ import java.util.List;
 
 /**
  * Feign Client para comunicación con supplier-service
- * Consume los endpoints REST que ya tienes implementados
+ * Consume los endpoints REST que ya tienes implementados.
+ * Cada método pasa por circuit breaker + bulkhead (ver ResilienceConfig)
  */
 @FeignClient(
         name = "supplier-service",
         url = "${services.supplier-service.url}",
-        path = "/api"
+        path = "/api",
+        fallbackFactory = SupplierServiceClientFallbackFactory.class
 )
 public interface SupplierServiceClient {
 
@@ -37,6 +40,15 @@ public interface SupplierServiceClient {
     @GetMapping("/proveedores/{id}/info-notificacion")
     ResponseEntity<ProveedorNotificacionDto> obtenerInfoProveedor(@PathVariable("id") Long id);
 
+    /**
+     * Snapshot del directorio de proveedores; con la versión actual no se reenvía la lista
+     * Consume: GET /api/proveedores/directorio?version=...
+     */
+    @GetMapping("/proveedores/directorio")
+    ResponseEntity<DirectorioProveedoresDto> obtenerDirectorio(
+            @RequestParam(value = "version", required = false) String version
+    );
+
     /**
      * Health check del supplier-service
      * Consume: GET /api/health
@@ -0,0 +1,61 @@
+package com.petmanager.notification_service.client;
+
+import com.petmanager.notification_service.dto.CondicionPagoVencimientoDto;
+import com.petmanager.notification_service.dto.DirectorioProveedoresDto;
+import com.petmanager.notification_service.dto.ProveedorNotificacionDto;
+import com.petmanager.notification_service.exception.NotificationServiceException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cloud.openfeign.FallbackFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Respuestas de respaldo cuando supplier-service falla, el circuito está abierto
+ * o el bulkhead está lleno. Se responde al instante en lugar de esperar timeouts.
+ */
+@Component
+@Slf4j
+public class SupplierServiceClientFallbackFactory implements FallbackFactory<SupplierServiceClient> {
+
+    @Autowired
+    private ProveedorInfoCache proveedorInfoCache;
+
+    @Override
+    public SupplierServiceClient create(Throwable cause) {
+        return new SupplierServiceClient() {
+
+            @Override
+            public ResponseEntity<List<CondicionPagoVencimientoDto>> obtenerCondicionesProximasAVencer(String dias) {
+                // Sin datos parciales: el procesamiento debe fallar y ejecutarse de nuevo más tarde
+                throw new NotificationServiceException("supplier-service no disponible: " + cause.getMessage(), cause);
+            }
+
+            @Override
+            public ResponseEntity<ProveedorNotificacionDto> obtenerInfoProveedor(Long id) {
+                return proveedorInfoCache.get(id)
+                        .map(proveedor -> {
+                            log.debug("♻️ Usando info cacheada del proveedor {} ({})", id, cause.getClass().getSimpleName());
+                            return ResponseEntity.ok(proveedor);
+                        })
+                        .orElseThrow(() -> new NotificationServiceException(
+                                "supplier-service no disponible y sin info cacheada del proveedor " + id, cause));
+            }
+
+            @Override
+            public ResponseEntity<DirectorioProveedoresDto> obtenerDirectorio(String version) {
+                // Se conserva la copia local; se reintenta en la próxima sincronización
+                throw new NotificationServiceException("supplier-service no disponible: " + cause.getMessage(), cause);
+            }
+
+            @Override
+            public ResponseEntity<String> healthCheck() {
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                        .body("supplier-service no disponible: " + cause.getMessage());
+            }
+        };
+    }
+}
@@ -0,0 +1,39 @@
+package com.petmanager.notification_service.config;
+
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import feign.RequestInterceptor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+
+/**
+ * Formato de intercambio con supplier-service: JSON (por defecto) o CBOR con fechas epoch-day.
+ * Con supplier.wire-format=cbor se pide CBOR y se acepta JSON como alternativa,
+ * así funciona también contra un supplier-service que aún no lo soporte.
+ */
+@Configuration
+public class CborConfig {
+
+    @Value("${supplier.wire-format:json}")
+    private String wireFormat;
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter() {
+        CBORMapper mapper = CBORMapper.builder()
+                .addModule(new EpochDayModule())
+                .build();
+        return new MappingJackson2CborHttpMessageConverter(mapper);
+    }
+
+    @Bean
+    public RequestInterceptor wireFormatInterceptor() {
+        boolean cbor = "cbor".equalsIgnoreCase(wireFormat);
+        return template -> {
+            if (cbor && !template.headers().containsKey(HttpHeaders.ACCEPT)) {
+                template.header(HttpHeaders.ACCEPT, "application/cbor, application/json;q=0.9");
+            }
+        };
+    }
+}
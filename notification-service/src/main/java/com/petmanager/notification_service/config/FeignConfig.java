@@ -1,10 +1,21 @@
 package com.petmanager.notification_service.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import feign.Logger;
 import feign.Request;
 import feign.Retryer;
+import feign.codec.Decoder;
+import feign.optionals.OptionalDecoder;
+import org.springframework.beans.factory.ObjectFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.cloud.openfeign.support.HttpMessageConverterCustomizer;
+import org.springframework.cloud.openfeign.support.ResponseEntityDecoder;
+import org.springframework.cloud.openfeign.support.SpringDecoder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
 
 import java.util.concurrent.TimeUnit;
 
@@ -14,29 +25,52 @@ import java.util.concurrent.TimeUnit;
 @Configuration
 public class FeignConfig {
 
+    @Value("${spring.cloud.openfeign.client.config.default.connect-timeout:1000}")
+    private long connectTimeoutMs;
+
+    @Value("${spring.cloud.openfeign.client.config.default.read-timeout:2000}")
+    private long readTimeoutMs;
+
     /**
-     * Configuración de timeouts para llamadas a supplier-service
+     * Timeouts para llamadas a supplier-service, los mismos de spring.cloud.openfeign.client.config.default
      */
     @Bean
     public Request.Options feignRequestOptions() {
         return new Request.Options(
-                5000,  // connect timeout
-                10000  // read timeout
+                connectTimeoutMs, TimeUnit.MILLISECONDS,
+                readTimeoutMs, TimeUnit.MILLISECONDS,
+                true
         );
     }
 
     /**
-     * Configuración de reintentos para tolerancia a fallos
+     * Un único reintento rápido: la tolerancia a fallos la da el circuit breaker (ResilienceConfig),
+     * no los reintentos, que multiplicaban la espera cuando supplier-service estaba lento
      */
     @Bean
     public Retryer feignRetryer() {
         return new Retryer.Default(
-                1000,    // Tiempo inicial entre reintentos (1 segundo)
-                3000,    // Tiempo máximo entre reintentos (3 segundos)
-                3        // Máximo número de reintentos
+                100,     // Tiempo inicial entre reintentos
+                500,     // Tiempo máximo entre reintentos
+                2        // Intentos totales (1 reintento)
         );
     }
 
+    /**
+     * Mismo encadenado que el decoder por defecto de Spring Cloud OpenFeign,
+     * con las listas JSON/CBOR leídas en streaming (ver StreamingJacksonDecoder)
+     */
+    @Bean
+    public Decoder feignDecoder(ObjectMapper objectMapper,
+                                MappingJackson2CborHttpMessageConverter cborHttpMessageConverter,
+                                ObjectFactory<HttpMessageConverters> messageConverters,
+                                ObjectProvider<HttpMessageConverterCustomizer> customizers) {
+        return new OptionalDecoder(new ResponseEntityDecoder(new StreamingJacksonDecoder(
+                objectMapper,
+                cborHttpMessageConverter.getObjectMapper(),
+                new SpringDecoder(messageConverters, customizers))));
+    }
+
     /**
      * Logging para debugging (solo en desarrollo)
      */
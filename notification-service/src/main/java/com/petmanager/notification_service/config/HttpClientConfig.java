@@ -0,0 +1,103 @@
+package com.petmanager.notification_service.config;
+
+import feign.Client;
+import feign.hc5.ApacheHttp5Client;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.http.EndpointDetails;
+import org.apache.hc.core5.pool.PoolConcurrencyPolicy;
+import org.apache.hc.core5.pool.PoolReusePolicy;
+import org.apache.hc.core5.util.TimeValue;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cliente HTTP de Feign: Apache HttpClient 5 con pool de conexiones keep-alive
+ * en lugar del HttpURLConnection por defecto.
+ * Los timeouts por petición siguen viniendo de Request.Options (FeignConfig).
+ */
+@Configuration
+public class HttpClientConfig {
+
+    @Value("${supplier.http.max-connections:100}")
+    private int maxConnections;
+
+    @Value("${supplier.http.max-connections-per-route:50}")
+    private int maxConnectionsPerRoute;
+
+    @Value("${supplier.http.idle-eviction-seconds:30}")
+    private long idleEvictionSeconds;
+
+    @Value("${supplier.http.time-to-live-seconds:300}")
+    private long timeToLiveSeconds;
+
+    @Value("${supplier.http.validate-after-inactivity-ms:2000}")
+    private long validateAfterInactivityMs;
+
+    @Bean
+    public PoolingHttpClientConnectionManager supplierConnectionManager() {
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnectionsPerRoute)
+                // LIFO reutiliza las conexiones más recientes y deja caducar las sobrantes
+                .setPoolConcurrencyPolicy(PoolConcurrencyPolicy.STRICT)
+                .setConnPoolPolicy(PoolReusePolicy.LIFO)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setTimeToLive(TimeValue.ofSeconds(timeToLiveSeconds))
+                        .setValidateAfterInactivity(TimeValue.ofMilliseconds(validateAfterInactivityMs))
+                        .build())
+                .build();
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient supplierHttpClient(PoolingHttpClientConnectionManager supplierConnectionManager,
+                                                  MeterRegistry meterRegistry) {
+        Counter reutilizadas = conexiones(meterRegistry, "reused");
+        Counter nuevas = conexiones(meterRegistry, "new");
+
+        return HttpClients.custom()
+                .setConnectionManager(supplierConnectionManager)
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(idleEvictionSeconds, TimeUnit.SECONDS))
+                .disableAutomaticRetries()   // Los reintentos los decide Feign (Retryer)
+                .addResponseInterceptorLast((response, entity, context) -> {
+                    // Una conexión con más de una petición servida es una conexión reutilizada
+                    EndpointDetails endpoint = HttpClientContext.castOrCreate(context).getEndpointDetails();
+                    if (endpoint != null) {
+                        (endpoint.getRequestCount() > 1 ? reutilizadas : nuevas).increment();
+                    }
+                })
+                .build();
+    }
+
+    @Bean
+    public Client feignClient(CloseableHttpClient supplierHttpClient) {
+        return new ApacheHttp5Client(supplierHttpClient);
+    }
+
+    /**
+     * Estado del pool (conexiones disponibles, en uso y peticiones en espera) en /actuator/metrics
+     */
+    @Bean
+    public MeterBinder supplierConnectionPoolMetrics(PoolingHttpClientConnectionManager supplierConnectionManager) {
+        return new PoolingHttpClientConnectionManagerMetricsBinder(supplierConnectionManager, "supplier-service");
+    }
+
+    private static Counter conexiones(MeterRegistry registry, String resultado) {
+        return Counter.builder("supplier.client.connections")
+                .description("Peticiones a supplier-service según si reutilizaron una conexión keep-alive")
+                .tag("connection", resultado)
+                .register(registry);
+    }
+}
@@ -0,0 +1,93 @@
+package com.petmanager.notification_service.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Detecta hilos virtuales anclados a su hilo de plataforma (evento JFR jdk.VirtualThreadPinned).
+ * Un bloqueo dentro de un synchronized o de una llamada nativa deja ocupado el carrier mientras
+ * dura, y con pocos carriers (uno por núcleo) unos cuantos anclajes frenan todo el servicio.
+ *
+ * Cada anclaje que supera el umbral se cuenta en notificaciones.hilos.anclados{origen}, con
+ * origen = primer frame fuera del JDK, y se registra con su pila para localizar el punto caliente.
+ */
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+@Slf4j
+public class MonitorHilosAnclados {
+
+    private static final String EVENTO = "jdk.VirtualThreadPinned";
+    private static final int FRAMES_LOG = 12;
+
+    private final MeterRegistry meterRegistry;
+    private final Duration umbral;
+    private RecordingStream grabacion;
+
+    public MonitorHilosAnclados(MeterRegistry meterRegistry,
+                                @Value("${notifications.hilos-virtuales.umbral-anclaje-ms:20}") long umbralMs) {
+        this.meterRegistry = meterRegistry;
+        this.umbral = Duration.ofMillis(umbralMs);
+    }
+
+    @PostConstruct
+    public void iniciar() {
+        grabacion = new RecordingStream();
+        grabacion.enable(EVENTO).withThreshold(umbral).withStackTrace();
+        grabacion.onEvent(EVENTO, this::registrar);
+        grabacion.startAsync();
+        log.info("📌 Monitor de hilos virtuales anclados activo (umbral {} ms)", umbral.toMillis());
+    }
+
+    @PreDestroy
+    public void detener() {
+        if (grabacion != null) {
+            grabacion.close();
+        }
+    }
+
+    private void registrar(RecordedEvent evento) {
+        List<RecordedFrame> frames = evento.getStackTrace() != null
+                ? evento.getStackTrace().getFrames()
+                : List.of();
+        String origen = origen(frames);
+        Counter.builder("notificaciones.hilos.anclados")
+                .description("Hilos virtuales anclados a su carrier más tiempo que el umbral")
+                .tag("origen", origen)
+                .register(meterRegistry)
+                .increment();
+        log.warn("📌 Hilo virtual anclado {} ms en {}:\n    at {}", evento.getDuration().toMillis(), origen,
+                frames.stream().limit(FRAMES_LOG).map(MonitorHilosAnclados::frame)
+                        .collect(Collectors.joining("\n    at ")));
+    }
+
+    /**
+     * Primer frame de aplicación o de librería: los del JDK (park, VirtualThread...) son comunes a todos
+     */
+    private static String origen(List<RecordedFrame> frames) {
+        for (RecordedFrame frame : frames) {
+            String clase = frame.getMethod().getType().getName();
+            if (!clase.startsWith("java.") && !clase.startsWith("jdk.") && !clase.startsWith("sun.")) {
+                return clase + "." + frame.getMethod().getName();
+            }
+        }
+        return frames.isEmpty() ? "desconocido" : frame(frames.get(0));
+    }
+
+    private static String frame(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + (frame.getLineNumber() > 0 ? ":" + frame.getLineNumber() : "");
+    }
+}
@@ -0,0 +1,83 @@
+package com.petmanager.notification_service.config;
+
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.ThreadPoolBulkheadConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.timelimiter.TimeLimiterConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.circuitbreaker.resilience4j.Resilience4JCircuitBreakerFactory;
+import org.springframework.cloud.circuitbreaker.resilience4j.Resilience4JConfigBuilder;
+import org.springframework.cloud.circuitbreaker.resilience4j.Resilience4jBulkheadConfigurationBuilder;
+import org.springframework.cloud.circuitbreaker.resilience4j.Resilience4jBulkheadProvider;
+import org.springframework.cloud.client.circuitbreaker.Customizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Circuit breaker, time limiter y bulkhead para las llamadas Feign a supplier-service.
+ * Cada método del cliente tiene su propio circuito (p. ej. SupplierServiceClientobtenerInfoProveedorLong).
+ */
+@Configuration
+public class ResilienceConfig {
+
+    @Value("${supplier.resilience.failure-rate-threshold:50}")
+    private float failureRateThreshold;
+
+    @Value("${supplier.resilience.slow-call-threshold-ms:2000}")
+    private long slowCallThresholdMs;
+
+    @Value("${supplier.resilience.open-state-wait-seconds:30}")
+    private long openStateWaitSeconds;
+
+    @Value("${supplier.resilience.timeout-ms:3000}")
+    private long timeoutMs;
+
+    @Value("${supplier.resilience.max-concurrent-calls:10}")
+    private int maxConcurrentCalls;
+
+    @Bean
+    public Customizer<Resilience4JCircuitBreakerFactory> supplierCircuitBreakerCustomizer() {
+        CircuitBreakerConfig circuitBreakerConfig = CircuitBreakerConfig.custom()
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(20)
+                .minimumNumberOfCalls(10)
+                .failureRateThreshold(failureRateThreshold)
+                .slowCallDurationThreshold(Duration.ofMillis(slowCallThresholdMs))
+                .slowCallRateThreshold(50)
+                .waitDurationInOpenState(Duration.ofSeconds(openStateWaitSeconds))
+                .permittedNumberOfCallsInHalfOpenState(3)
+                .build();
+
+        // Techo total por llamada, reintentos de Feign incluidos
+        TimeLimiterConfig timeLimiterConfig = TimeLimiterConfig.custom()
+                .timeoutDuration(Duration.ofMillis(timeoutMs))
+                .cancelRunningFuture(true)
+                .build();
+
+        return factory -> factory.configureDefault(id -> new Resilience4JConfigBuilder(id)
+                .circuitBreakerConfig(circuitBreakerConfig)
+                .timeLimiterConfig(timeLimiterConfig)
+                .build());
+    }
+
+    /**
+     * Limita las llamadas concurrentes a supplier-service: cuando está lento,
+     * las peticiones sobrantes caen al fallback en vez de acumular hilos bloqueados
+     */
+    @Bean
+    public Customizer<Resilience4jBulkheadProvider> supplierBulkheadCustomizer() {
+        return provider -> provider.configureDefault(id -> new Resilience4jBulkheadConfigurationBuilder()
+                .bulkheadConfig(BulkheadConfig.custom()
+                        .maxConcurrentCalls(maxConcurrentCalls)
+                        .maxWaitDuration(Duration.ofMillis(50))
+                        .build())
+                .threadPoolBulkheadConfig(ThreadPoolBulkheadConfig.custom()
+                        .coreThreadPoolSize(maxConcurrentCalls)
+                        .maxThreadPoolSize(maxConcurrentCalls)
+                        .queueCapacity(maxConcurrentCalls)
+                        .build())
+                .build());
+    }
+}
@@ -4,18 +4,32 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.SimpleAsyncTaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
 /**
- * Configuración del sistema de scheduling para notificaciones
+ * Configuración del sistema de scheduling para notificaciones.
+ *
+ * Con spring.threads.virtual.enabled=true las tareas programadas y @Async corren en hilos
+ * virtuales: casi todo su trabajo es E/S bloqueante (Feign, SMTP, JDBC) y un hilo virtual
+ * bloqueado no ocupa un hilo de plataforma. Con false (por defecto) se usan pools de hilos de
+ * plataforma: el envío SMTP de Jakarta Mail es synchronized y ancla el carrier.
  */
 @Configuration
 @EnableScheduling
+@EnableAsync
 @Slf4j
 public class SchedulerConfig {
 
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean hilosVirtuales;
+
     @Value("${notifications.scheduler.pool-size:3}")
     private int poolSize;
 
@@ -25,11 +39,21 @@ public class SchedulerConfig {
     @Value("${notifications.scheduler.await-termination-seconds:60}")
     private int awaitTerminationSeconds;
 
+    @Value("${notifications.async.pool-size:8}")
+    private int asyncPoolSize;
+
+    @Value("${notifications.async.thread-name-prefix:notification-async-}")
+    private String asyncThreadNamePrefix;
+
     /**
      * Configuración del TaskScheduler para las tareas programadas
      */
     @Bean
     public TaskScheduler taskScheduler() {
+        if (hilosVirtuales) {
+            return schedulerVirtual();
+        }
+
         ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
 
         // Configuración del pool de threads
@@ -56,4 +80,49 @@ public class SchedulerConfig {
 
         return scheduler;
     }
-}
\ No newline at end of file
+
+    /**
+     * Un hilo de disparo y cada ejecución en su propio hilo virtual. Las tareas cron y fixedRate
+     * pueden solaparse si una ejecución supera su periodo; las fixedDelay siguen siendo secuenciales.
+     */
+    private TaskScheduler schedulerVirtual() {
+        SimpleAsyncTaskScheduler scheduler = new SimpleAsyncTaskScheduler();
+        scheduler.setVirtualThreads(true);
+        scheduler.setThreadNamePrefix(threadNamePrefix);
+        scheduler.setTaskTerminationTimeout(awaitTerminationSeconds * 1000L);
+        scheduler.setErrorHandler(throwable -> {
+            log.error("💥 Error en tarea programada: {}", throwable.getMessage(), throwable);
+        });
+
+        log.info("⚡ TaskScheduler configurado con hilos virtuales:");
+        log.info("   🏷️ Thread Prefix: {}", threadNamePrefix);
+        log.info("   ⏱️ Await Termination: {} segundos", awaitTerminationSeconds);
+
+        return scheduler;
+    }
+
+    /**
+     * Ejecutor de @Async y del trabajo en segundo plano: un hilo virtual por tarea, o un pool
+     * acotado de hilos de plataforma si los hilos virtuales están desactivados
+     */
+    @Bean(name = {"taskExecutor", "applicationTaskExecutor"})
+    public AsyncTaskExecutor taskExecutor() {
+        if (hilosVirtuales) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(asyncThreadNamePrefix);
+            executor.setVirtualThreads(true);
+            executor.setTaskTerminationTimeout(awaitTerminationSeconds * 1000L);
+            log.info("⚡ TaskExecutor configurado con hilos virtuales ({})", asyncThreadNamePrefix);
+            return executor;
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(asyncPoolSize);
+        executor.setMaxPoolSize(asyncPoolSize);
+        executor.setThreadNamePrefix(asyncThreadNamePrefix);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(awaitTerminationSeconds);
+        executor.initialize();
+        log.info("⚡ TaskExecutor configurado: {} hilos ({})", asyncPoolSize, asyncThreadNamePrefix);
+        return executor;
+    }
+}
@@ -0,0 +1,83 @@
+package com.petmanager.notification_service.config;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import feign.Response;
+import feign.codec.DecodeException;
+import feign.codec.Decoder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Decoder para respuestas JSON o CBOR que son listas (p. ej. condiciones próximas a vencer):
+ * lee el array elemento a elemento desde el stream con un ObjectReader reutilizable,
+ * sin pasar por los HttpMessageConverter. El resto de tipos se delega.
+ */
+public class StreamingJacksonDecoder implements Decoder {
+
+    private final ObjectMapper jsonMapper;
+    private final ObjectMapper cborMapper;
+    private final Decoder delegate;
+
+    public StreamingJacksonDecoder(ObjectMapper jsonMapper, ObjectMapper cborMapper, Decoder delegate) {
+        this.jsonMapper = jsonMapper;
+        this.cborMapper = cborMapper;
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Object decode(Response response, Type type) throws IOException {
+        ObjectMapper objectMapper = mapperPara(response);
+        if (objectMapper == null || !esLista(response, type)) {
+            return delegate.decode(response, type);
+        }
+
+        Type elemento = ((ParameterizedType) type).getActualTypeArguments()[0];
+        ObjectReader reader = objectMapper.readerFor(objectMapper.constructType(elemento));
+
+        try (InputStream in = response.body().asInputStream();
+             JsonParser parser = objectMapper.getFactory().createParser(in)) {
+
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.VALUE_NULL) {
+                return null;
+            }
+            if (token != JsonToken.START_ARRAY) {
+                throw new DecodeException(response.status(), "Se esperaba un array", response.request());
+            }
+
+            List<Object> lista = new ArrayList<>();
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                lista.add(reader.readValue(parser));
+            }
+            return lista;
+        }
+    }
+
+    private ObjectMapper mapperPara(Response response) {
+        Collection<String> contentType = response.headers().get("Content-Type");
+        if (contentType == null || contentType.stream().anyMatch(ct -> ct.contains("json"))) {
+            return jsonMapper;
+        }
+        if (cborMapper != null && contentType.stream().anyMatch(ct -> ct.contains("cbor"))) {
+            return cborMapper;
+        }
+        return null;
+    }
+
+    private static boolean esLista(Response response, Type type) {
+        if (response.body() == null || response.status() == 204) return false;
+        if (!(type instanceof ParameterizedType parameterized)) return false;
+        return parameterized.getRawType() instanceof Class<?> raw
+                && raw.isAssignableFrom(ArrayList.class)
+                && Collection.class.isAssignableFrom(raw);
+    }
+}
@@ -0,0 +1,34 @@
+package com.petmanager.notification_service.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Evento de CondicionPago publicado por supplier-service (outbox + NOTIFY condicion_pago_eventos)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class CondicionPagoEvento {
+    public static final String CREADA = "CONDICION_PAGO_CREADA";
+    public static final String ACTUALIZADA = "CONDICION_PAGO_ACTUALIZADA";
+    public static final String ELIMINADA = "CONDICION_PAGO_ELIMINADA";
+
+    private Long idEvento;
+    private String tipo;
+    private Long idCondicionPago;
+    private Long idProveedor;
+    private String nombreProveedor;
+    private String emailProveedor;
+    private Boolean proveedorActivo;
+    private Long idUsuario;
+    private Integer diasCredito;
+    private LocalDate fechaInicio;
+    private LocalDate fechaFin;
+    private String nota;
+}
@@ -0,0 +1,20 @@
+package com.petmanager.notification_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Snapshot del directorio de proveedores devuelto por supplier-service.
+ * sinCambios = true cuando la versión enviada coincide (proveedores va vacío).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DirectorioProveedoresDto {
+    private String version;
+    private boolean sinCambios;
+    private List<ProveedorNotificacionDto> proveedores;
+}
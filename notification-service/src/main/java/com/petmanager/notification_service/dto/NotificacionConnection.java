@@ -0,0 +1,38 @@
+package com.petmanager.notification_service.dto;
+
+import com.petmanager.notification_service.model.NotificacionPago;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Página de notificaciones con paginación keyset (convención Relay: edges + pageInfo)
+ * Usado en la query notificacionesConnection
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NotificacionConnection {
+    private List<Edge> edges;
+    private PageInfo pageInfo;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Edge {
+        private String cursor;
+        private NotificacionPago node;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PageInfo {
+        private Boolean hasNextPage;
+        private String endCursor;
+    }
+}
@@ -0,0 +1,212 @@
+package com.petmanager.notification_service.events;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.petmanager.notification_service.dto.CondicionPagoEvento;
+import com.petmanager.notification_service.repository.EventoProcesadoRepository;
+import com.petmanager.notification_service.service.NotificacionPagoService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+
+/**
+ * Consume en tiempo (casi) real los eventos de CondicionPago que supplier-service publica
+ * con NOTIFY. Usa una conexión dedicada fuera del pool de Hikari, porque LISTEN la ocupa
+ * de forma permanente.
+ *
+ * Cada evento se aplica una sola vez (evento_procesado). Tras una reconexión, y cada
+ * notifications.eventos.recuperacion-ms, se leen del outbox los eventos sin procesar:
+ * los emitidos sin conexión y los que fallaron al aplicarse, que así se reintentan.
+ */
+@Component
+@Slf4j
+public class CondicionPagoEventListener {
+
+    private static final String CANAL = "condicion_pago_eventos";
+
+    @Autowired
+    private NotificacionPagoService notificacionPagoService;
+
+    @Autowired
+    private EventoProcesadoRepository eventoProcesadoRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${spring.datasource.url}")
+    private String url;
+
+    @Value("${spring.datasource.username}")
+    private String username;
+
+    @Value("${spring.datasource.password}")
+    private String password;
+
+    @Value("${notifications.eventos.enabled:true}")
+    private boolean enabled;
+
+    @Value("${notifications.eventos.recuperacion-ms:60000}")
+    private long recuperacionMs;
+
+    @Value("${notifications.eventos.asentado-segundos:60}")
+    private long asentadoSegundos;
+
+    // Mayor que la retención del outbox: un id olvidado no debe seguir en outbox_evento
+    @Value("${notifications.eventos.retencion-dias:14}")
+    private int retencionDias;
+
+    private volatile boolean activo = true;
+
+    // Todos los eventos del outbox con id <= marca están procesados; -1 hasta la primera lectura
+    private long marca = -1;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void iniciar() {
+        if (!enabled) {
+            log.info("Eventos de CondicionPago desactivados (notifications.eventos.enabled=false)");
+            return;
+        }
+        Thread hilo = new Thread(this::escuchar, "condicion-pago-listener");
+        hilo.setDaemon(true);
+        hilo.start();
+    }
+
+    @PreDestroy
+    public void detener() {
+        activo = false;
+    }
+
+    private void escuchar() {
+        long espera = 1000;
+        while (activo) {
+            try (Connection conexion = DriverManager.getConnection(url, username, password)) {
+                try (Statement st = conexion.createStatement()) {
+                    st.execute("LISTEN " + CANAL);
+                }
+                log.info("👂 Escuchando eventos en el canal {}", CANAL);
+                recuperarPendientes(conexion);
+                long proximaRecuperacion = System.currentTimeMillis() + recuperacionMs;
+                espera = 1000;
+
+                PGConnection pg = conexion.unwrap(PGConnection.class);
+                while (activo) {
+                    PGNotification[] notificaciones = pg.getNotifications(10_000);
+                    if (notificaciones != null) {
+                        for (PGNotification notificacion : notificaciones) {
+                            procesar(notificacion.getParameter(), null);
+                        }
+                    }
+                    if (System.currentTimeMillis() >= proximaRecuperacion) {
+                        recuperarPendientes(conexion);
+                        proximaRecuperacion = System.currentTimeMillis() + recuperacionMs;
+                    }
+                }
+            } catch (SQLException e) {
+                log.warn("⚠️ Conexión LISTEN perdida ({}). Reintentando en {} ms", e.getMessage(), espera);
+                dormir(espera);
+                espera = Math.min(espera * 2, 60_000);
+            }
+        }
+    }
+
+    /**
+     * NOTIFY no es durable: los eventos emitidos sin conexión, o que fallaron, se leen del outbox.
+     * El id del evento sale de la columna id_evento (el payload guardado no lo lleva).
+     *
+     * La marca solo avanza sobre eventos procesados, sin huecos por debajo y con más de
+     * notifications.eventos.asentado-segundos: un id IDENTITY se asigna al insertar, no al hacer
+     * commit, y una transacción lenta puede hacer visible después un id menor.
+     */
+    private void recuperarPendientes(Connection conexion) throws SQLException {
+        if (marca < 0) {
+            marca = marcaInicial(conexion);
+        }
+        LocalDateTime asentado = LocalDateTime.now().minusSeconds(asentadoSegundos);
+        try (PreparedStatement ps = conexion.prepareStatement(
+                "SELECT o.id_evento, o.creado_en, CASE WHEN p.id_evento IS NULL THEN o.payload END "
+                        + "FROM outbox_evento o LEFT JOIN evento_procesado p ON p.id_evento = o.id_evento "
+                        + "WHERE o.id_evento > ? ORDER BY o.id_evento")) {
+            ps.setLong(1, marca);
+            try (ResultSet rs = ps.executeQuery()) {
+                int recuperados = 0;
+                boolean contiguo = true;
+                while (rs.next()) {
+                    long idEvento = rs.getLong(1);
+                    String payload = rs.getString(3);
+                    boolean procesado = payload == null || procesar(payload, idEvento);
+                    if (payload != null && procesado) {
+                        recuperados++;
+                    }
+                    contiguo = contiguo && procesado && rs.getObject(2, LocalDateTime.class).isBefore(asentado);
+                    if (contiguo) {
+                        marca = idEvento;
+                    }
+                }
+                if (recuperados > 0) {
+                    log.info("🔁 Recuperados {} eventos del outbox", recuperados);
+                }
+            }
+        }
+    }
+
+    /**
+     * En el primer arranque (evento_procesado vacía) no hay punto de partida y el cron diario hace
+     * la reconciliación; después se revisa todo lo que conserva el outbox
+     */
+    private long marcaInicial(Connection conexion) throws SQLException {
+        try (Statement st = conexion.createStatement();
+             ResultSet rs = st.executeQuery("SELECT CASE WHEN EXISTS (SELECT 1 FROM evento_procesado) THEN 0 "
+                     + "ELSE (SELECT COALESCE(MAX(id_evento), 0) FROM outbox_evento) END")) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    /**
+     * @param idEvento id leído del outbox, o null si viene en el payload (NOTIFY)
+     * @return true si el evento quedó procesado (aplicado, repetido o superado)
+     */
+    private boolean procesar(String payload, Long idEvento) {
+        try {
+            CondicionPagoEvento evento = objectMapper.readValue(payload, CondicionPagoEvento.class);
+            if (idEvento != null) {
+                evento.setIdEvento(idEvento);
+            }
+            notificacionPagoService.aplicarEventoCondicionPagoUnaVez(evento);
+            return true;
+        } catch (Exception e) {
+            log.error("❌ Error procesando evento de CondicionPago (se reintentará desde el outbox): {}",
+                    e.getMessage());
+            return false;
+        }
+    }
+
+    // Limpieza diaria de ids ya procesados
+    @Scheduled(cron = "${notifications.eventos.limpieza.cron:0 45 3 * * ?}")
+    public void limpiarProcesados() {
+        int eliminados = eventoProcesadoRepository.deleteProcesadosAntesDe(LocalDateTime.now().minusDays(retencionDias));
+        log.info("🧹 Eliminados {} eventos procesados", eliminados);
+    }
+
+    private static void dormir(long ms) {
+        try {
+            Thread.sleep(ms);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.petmanager.notification_service.exception;
+
+import graphql.GraphQLError;
+import graphql.GraphqlErrorBuilder;
+import graphql.schema.DataFetchingEnvironment;
+import org.springframework.graphql.execution.DataFetcherExceptionResolverAdapter;
+import org.springframework.graphql.execution.ErrorType;
+import org.springframework.stereotype.Component;
+
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+
+/**
+ * Errores de entrada del cliente en GraphQL (cursor mal formado, fecha que no es yyyy-MM-dd)
+ * como BAD_REQUEST en lugar de INTERNAL_ERROR. El resto sigue el tratamiento por defecto.
+ */
+@Component
+public class GraphQlExceptionHandler extends DataFetcherExceptionResolverAdapter {
+
+    @Override
+    protected GraphQLError resolveToSingleError(Throwable ex, DataFetchingEnvironment env) {
+        if (!(ex instanceof IllegalArgumentException) && !(ex instanceof DateTimeParseException)) {
+            return null;
+        }
+        return GraphqlErrorBuilder.newError(env)
+                .errorType(ErrorType.BAD_REQUEST)
+                .message("Datos de entrada inválidos: " + ex.getMessage())
+                .extensions(Map.of("errorCode", "INVALID_INPUT"))
+                .build();
+    }
+}
@@ -1,10 +1,14 @@
 package com.petmanager.notification_service.graphql;
 
+import com.petmanager.notification_service.dto.NotificacionConnection;
 import com.petmanager.notification_service.dto.ResultadoProcesamiento;
 import com.petmanager.notification_service.model.NotificacionPago;
 import com.petmanager.notification_service.service.NotificacionPagoService;
+import com.petmanager.notification_service.service.ProveedorInfoService;
 import com.petmanager.notification_service.service.EmailService;
+import com.petmanager.notification_service.repository.NotificacionEnvioRepository;
 import com.petmanager.notification_service.repository.NotificacionPagoRepository;
+import graphql.schema.DataFetchingFieldSelectionSet;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.graphql.data.method.annotation.Argument;
@@ -12,6 +16,7 @@ import org.springframework.graphql.data.method.annotation.MutationMapping;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
 import org.springframework.stereotype.Controller;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
@@ -28,9 +33,15 @@ public class NotificacionResolver {
     @Autowired
     private NotificacionPagoService notificacionPagoService;
 
+    @Autowired
+    private ProveedorInfoService proveedorInfoService;
+
     @Autowired
     private NotificacionPagoRepository notificacionPagoRepository;
 
+    @Autowired
+    private NotificacionEnvioRepository notificacionEnvioRepository;
+
     @Autowired
     private EmailService emailService;
 
@@ -39,9 +50,25 @@ public class NotificacionResolver {
     // ================================================
 
     @QueryMapping
-    public List<NotificacionPago> getNotificaciones() {
+    public List<NotificacionPago> getNotificaciones(DataFetchingFieldSelectionSet seleccion) {
         log.info("🔍 GraphQL Query: getNotificaciones");
-        return notificacionPagoService.obtenerTodasLasNotificaciones();
+        // Solo se consulta supplier-service si el cliente pidió datos del proveedor
+        return notificacionPagoService.obtenerTodasLasNotificaciones(
+                seleccion.containsAnyOf("nombreProveedor", "emailProveedor"));
+    }
+
+    @QueryMapping
+    public NotificacionConnection notificacionesConnection(@Argument Integer first, @Argument String after,
+                                                           @Argument String estado, @Argument Integer idProveedor,
+                                                           @Argument String desde, @Argument String hasta,
+                                                           DataFetchingFieldSelectionSet seleccion) {
+        log.info("🔍 GraphQL Query: notificacionesConnection - first: {}, estado: {}, proveedor: {}",
+                first, estado, idProveedor);
+        return notificacionPagoService.buscarNotificaciones(
+                first != null ? first : 20, after, estado, idProveedor,
+                desde != null ? LocalDate.parse(desde) : null,
+                hasta != null ? LocalDate.parse(hasta) : null,
+                seleccion.containsAnyOf("edges/node/nombreProveedor", "edges/node/emailProveedor"));
     }
 
     @QueryMapping
@@ -59,20 +86,18 @@ public class NotificacionResolver {
     }
 
     @QueryMapping
-    public List<NotificacionPago> getNotificacionesByProveedor(@Argument Integer idProveedor) {
+    public List<NotificacionPago> getNotificacionesByProveedor(@Argument Integer idProveedor,
+                                                               DataFetchingFieldSelectionSet seleccion) {
         log.info("🔍 GraphQL Query: getNotificacionesByProveedor - Proveedor: {}", idProveedor);
-        return notificacionPagoService.obtenerNotificacionesPorProveedor(idProveedor);
+        return notificacionPagoService.obtenerNotificacionesPorProveedor(idProveedor,
+                seleccion.containsAnyOf("nombreProveedor", "emailProveedor"));
     }
 
     @QueryMapping
-    public List<NotificacionPago> getNotificacionesPendientes() {
+    public List<NotificacionPago> getNotificacionesPendientes(DataFetchingFieldSelectionSet seleccion) {
         log.info("🔍 GraphQL Query: getNotificacionesPendientes");
-
-        List<NotificacionPago> pendientes = notificacionPagoRepository.findByNotificadoFalse();
-
-        return pendientes.stream()
-                .map(notificacion -> notificacionPagoService.enriquecerNotificacionPublico(notificacion))
-                .toList();
+        return notificacionPagoService.obtenerNotificacionesPendientes(
+                seleccion.containsAnyOf("nombreProveedor", "emailProveedor"));
     }
 
     @QueryMapping
@@ -151,6 +176,7 @@ public class NotificacionResolver {
                 notificacion.setEstado("Enviada");
 
                 NotificacionPago guardada = notificacionPagoRepository.save(notificacion);
+                notificacionEnvioRepository.marcarEnviadosByIdNotificacionPago(guardada.getIdNotificacionPago());
                 log.info("✅ Notificación marcada como enviada: ID {}", id);
 
                 return notificacionPagoService.enriquecerNotificacionPublico(guardada);
@@ -238,14 +264,9 @@ public class NotificacionResolver {
     private NotificacionPago enriquecerNotificacion(NotificacionPago notificacion) {
         try {
             // Obtener información del proveedor desde supplier-service
-            var response = notificacionPagoService.getSupplierServiceClient()
-                    .obtenerInfoProveedor(notificacion.getIdProveedor().longValue());
-
-            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                var proveedor = response.getBody();
-                notificacion.setNombreProveedor(proveedor.getNombre());
-                notificacion.setEmailProveedor(proveedor.getEmail());
-            }
+            var proveedor = proveedorInfoService.obtenerInfoProveedor(notificacion.getIdProveedor().longValue());
+            notificacion.setNombreProveedor(proveedor.getNombre());
+            notificacion.setEmailProveedor(proveedor.getEmail());
 
             // Calcular campos transient
             notificacion.setDiasRestantes(notificacion.calcularDiasRestantes());
@@ -0,0 +1,37 @@
+package com.petmanager.notification_service.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Copia local de los datos de contacto de un proveedor (fuente: supplier-service)
+ */
+@Entity
+@Table(name = "directorio_proveedor")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DirectorioProveedor {
+
+    @Id
+    @Column(name = "id_proveedor")
+    private Long idProveedor;
+
+    @Column(name = "nombre", length = 100)
+    private String nombre;
+
+    @Column(name = "email", length = 150)
+    private String email;
+
+    @Column(name = "activo")
+    private Boolean activo;
+
+    @Column(name = "sincronizado_en", nullable = false)
+    private LocalDateTime sincronizadoEn;
+}
@@ -0,0 +1,31 @@
+package com.petmanager.notification_service.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Evento de CondicionPago del outbox de supplier-service que ya se aplicó
+ */
+@Entity
+@Table(name = "evento_procesado")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EventoProcesado {
+
+    @Id
+    @Column(name = "id_evento")
+    private Long idEvento;
+
+    @Column(name = "id_condicion_pago", nullable = false)
+    private Long idCondicionPago;
+
+    @Column(name = "procesado_en", nullable = false)
+    private LocalDateTime procesadoEn;
+}
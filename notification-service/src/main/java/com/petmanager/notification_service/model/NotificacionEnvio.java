@@ -0,0 +1,45 @@
+package com.petmanager.notification_service.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Envío programado de una NotificacionPago para un umbral concreto de días de alerta.
+ * fechaEnvio = fechaVencimiento - diasAlerta, precalculada para consultar por rango.
+ */
+@Entity
+@Table(name = "notificacion_envio")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NotificacionEnvio {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notificacion_envio_seq")
+    @SequenceGenerator(name = "notificacion_envio_seq", sequenceName = "notificacion_envio_id_notificacion_envio_seq", allocationSize = 50)
+    @Column(name = "id_notificacion_envio")
+    private Integer idNotificacionEnvio;
+
+    @Column(name = "id_notificacion_pago", nullable = false)
+    private Integer idNotificacionPago;
+
+    @Column(name = "dias_alerta", nullable = false)
+    private Integer diasAlerta;
+
+    @Column(name = "fecha_envio", nullable = false)
+    private LocalDate fechaEnvio;
+
+    @Builder.Default
+    @Column(name = "notificado", nullable = false)
+    private Boolean notificado = false;
+
+    @Column(name = "fecha_notificacion")
+    private LocalDateTime fechaNotificacion;
+}
@@ -1,5 +1,6 @@
 package com.petmanager.notification_service.model;
 
+import com.petmanager.common.cache.GatewayCacheListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -14,6 +15,7 @@ import java.time.LocalDateTime;
  * Respeta completamente el esquema original
  */
 @Entity
+@EntityListeners(GatewayCacheListener.class)
 @Table(name = "notificacion_pago")
 @Data
 @NoArgsConstructor
@@ -22,7 +24,8 @@ import java.time.LocalDateTime;
 public class NotificacionPago {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notificacion_pago_seq")
+    @SequenceGenerator(name = "notificacion_pago_seq", sequenceName = "notificacion_pago_id_seq", allocationSize = 50)
     @Column(name = "id_notificacion_pago")
     private Integer idNotificacionPago;
 
@@ -0,0 +1,12 @@
+package com.petmanager.notification_service.repository;
+
+import com.petmanager.notification_service.model.DirectorioProveedor;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository de la réplica local del directorio de proveedores
+ */
+@Repository
+public interface DirectorioProveedorRepository extends JpaRepository<DirectorioProveedor, Long> {
+}
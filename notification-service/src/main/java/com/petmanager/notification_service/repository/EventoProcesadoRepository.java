@@ -0,0 +1,28 @@
+package com.petmanager.notification_service.repository;
+
+import com.petmanager.notification_service.model.EventoProcesado;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Repository de los eventos de CondicionPago ya aplicados
+ */
+@Repository
+public interface EventoProcesadoRepository extends JpaRepository<EventoProcesado, Long> {
+
+    /**
+     * Si ya se aplicó un evento posterior de la misma condición
+     */
+    boolean existsByIdCondicionPagoAndIdEventoGreaterThan(Long idCondicionPago, Long idEvento);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM EventoProcesado e WHERE e.procesadoEn < :limite")
+    int deleteProcesadosAntesDe(@Param("limite") LocalDateTime limite);
+}
@@ -0,0 +1,64 @@
+package com.petmanager.notification_service.repository;
+
+import com.petmanager.notification_service.model.NotificacionEnvio;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Repository de notificacion_envio (un registro por notificación y umbral).
+ * Las consultas de pendientes usan el literal "notificado = false" para que
+ * Postgres pueda usar el índice parcial ix_notificacion_envio_pendientes.
+ */
+@Repository
+public interface NotificacionEnvioRepository extends JpaRepository<NotificacionEnvio, Integer> {
+
+    /**
+     * Envíos pendientes con fecha de envío en el rango (qué enviar hoy)
+     */
+    @Query("SELECT e FROM NotificacionEnvio e WHERE e.notificado = false " +
+            "AND e.fechaEnvio BETWEEN :desde AND :hasta ORDER BY e.fechaEnvio")
+    List<NotificacionEnvio> findPendientesEntre(@Param("desde") LocalDate desde,
+                                                @Param("hasta") LocalDate hasta);
+
+    /**
+     * Envíos pendientes desde una fecha (reconstrucción del timing wheel)
+     */
+    @Query("SELECT e FROM NotificacionEnvio e WHERE e.notificado = false AND e.fechaEnvio >= :desde")
+    List<NotificacionEnvio> findPendientesDesde(@Param("desde") LocalDate desde);
+
+    /**
+     * Todos los envíos de una notificación
+     */
+    List<NotificacionEnvio> findByIdNotificacionPago(Integer idNotificacionPago);
+
+    /**
+     * Eliminar los envíos pendientes de una notificación (reprogramación)
+     */
+    @Modifying
+    @Query("DELETE FROM NotificacionEnvio e WHERE e.idNotificacionPago = :idNotificacionPago AND e.notificado = false")
+    int deletePendientesByIdNotificacionPago(@Param("idNotificacionPago") Integer idNotificacionPago);
+
+    /**
+     * Eliminar los envíos pendientes de todas las notificaciones de una condición de pago
+     */
+    @Modifying
+    @Query("DELETE FROM NotificacionEnvio e WHERE e.notificado = false AND e.idNotificacionPago IN " +
+            "(SELECT n.idNotificacionPago FROM NotificacionPago n WHERE n.idCondicionPago = :idCondicionPago)")
+    int deletePendientesByIdCondicionPago(@Param("idCondicionPago") Integer idCondicionPago);
+
+    /**
+     * Marcar como enviados todos los envíos pendientes de una notificación
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE NotificacionEnvio e SET e.notificado = true, e.fechaNotificacion = CURRENT_TIMESTAMP " +
+            "WHERE e.idNotificacionPago = :idNotificacionPago AND e.notificado = false")
+    int marcarEnviadosByIdNotificacionPago(@Param("idNotificacionPago") Integer idNotificacionPago);
+}
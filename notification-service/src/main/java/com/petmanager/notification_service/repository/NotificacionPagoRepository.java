@@ -2,6 +2,8 @@ package com.petmanager.notification_service.repository;
 
 import com.petmanager.notification_service.model.NotificacionPago;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -14,7 +16,8 @@ import java.util.Optional;
  * Repository para gestionar operaciones CRUD en la tabla notificacion_pago
  */
 @Repository
-public interface NotificacionPagoRepository extends JpaRepository<NotificacionPago, Integer> {
+public interface NotificacionPagoRepository extends JpaRepository<NotificacionPago, Integer>,
+        JpaSpecificationExecutor<NotificacionPago> {
 
     /**
      * Buscar notificaciones por proveedor
@@ -69,6 +72,14 @@ public interface NotificacionPagoRepository extends JpaRepository<NotificacionPa
      */
     Optional<NotificacionPago> findByIdProveedorAndIdCondicionPago(Integer idProveedor, Integer idCondicionPago);
 
+    /**
+     * Eliminar las notificaciones de una condición de pago que no llegaron a enviarse
+     * (condición eliminada o fuera de la ventana de alerta)
+     */
+    @Modifying
+    @Query("DELETE FROM NotificacionPago n WHERE n.idCondicionPago = :idCondicionPago AND n.notificado = false")
+    int deletePendientesByIdCondicionPago(@Param("idCondicionPago") Integer idCondicionPago);
+
     /**
      * Verificar si ya existe notificación para una condición de pago
      */
@@ -80,16 +91,6 @@ public interface NotificacionPagoRepository extends JpaRepository<NotificacionPa
     @Query("SELECT COUNT(n) FROM NotificacionPago n WHERE n.idProveedor = :idProveedor AND n.notificado = false")
     Long countNotificacionesPendientesByProveedor(@Param("idProveedor") Integer idProveedor);
 
-    /**
-     * Buscar notificaciones que deben enviarse hoy
-     * (aquellas cuyo vencimiento coincide con los días de alerta configurados)
-     */
-    @Query("SELECT n FROM NotificacionPago n WHERE " +
-            "n.notificado = false AND " +
-            "n.estado = 'Pendiente' AND " +
-            "(FUNCTION('DATE_PART', 'day', n.fechaVencimiento - CURRENT_DATE) IN :diasAlerta)")
-    List<NotificacionPago> findNotificacionesParaEnviarHoy(@Param("diasAlerta") List<Integer> diasAlerta);
-
     /**
      * Buscar notificaciones por fecha de vencimiento específica y estado
      */
@@ -0,0 +1,51 @@
+package com.petmanager.notification_service.repository;
+
+import com.petmanager.notification_service.model.NotificacionPago;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+
+/**
+ * Filtros dinámicos de notificacionesConnection.
+ * Cada filtro nulo no añade predicado, así el SQL final solo lleva las condiciones usadas.
+ */
+public final class NotificacionPagoSpecifications {
+
+    private NotificacionPagoSpecifications() {
+    }
+
+    public static Specification<NotificacionPago> conEstado(String estado) {
+        return (root, query, cb) -> estado == null ? null : cb.equal(root.get("estado"), estado);
+    }
+
+    public static Specification<NotificacionPago> deProveedor(Integer idProveedor) {
+        return (root, query, cb) -> idProveedor == null ? null : cb.equal(root.get("idProveedor"), idProveedor);
+    }
+
+    public static Specification<NotificacionPago> venceDesde(LocalDate desde) {
+        return (root, query, cb) -> desde == null ? null
+                : cb.greaterThanOrEqualTo(root.get("fechaVencimiento"), desde);
+    }
+
+    public static Specification<NotificacionPago> venceHasta(LocalDate hasta) {
+        return (root, query, cb) -> hasta == null ? null
+                : cb.lessThanOrEqualTo(root.get("fechaVencimiento"), hasta);
+    }
+
+    /**
+     * Keyset sobre (fecha_vencimiento, id): filas estrictamente posteriores al cursor.
+     * El "fecha >= :fecha" redundante permite a Postgres posicionarse en el índice
+     * en lugar de filtrar desde el principio.
+     */
+    public static Specification<NotificacionPago> despuesDe(LocalDate fecha, Integer id) {
+        return (root, query, cb) -> {
+            if (fecha == null || id == null) return null;
+            return cb.and(
+                    cb.greaterThanOrEqualTo(root.get("fechaVencimiento"), fecha),
+                    cb.or(
+                            cb.greaterThan(root.get("fechaVencimiento"), fecha),
+                            cb.and(cb.equal(root.get("fechaVencimiento"), fecha),
+                                    cb.greaterThan(root.get("idNotificacionPago"), id))));
+        };
+    }
+}
@@ -0,0 +1,224 @@
+package com.petmanager.notification_service.scheduler;
+
+import com.petmanager.notification_service.model.NotificacionEnvio;
+import com.petmanager.notification_service.repository.NotificacionEnvioRepository;
+import com.petmanager.notification_service.service.NotificacionPagoService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Programa cada recordatorio en un timing wheel jerárquico en lugar de re-escanear la tabla
+ * una vez al día. Cada fila de notificacion_envio se dispara en su propio instante
+ * (fechaEnvio dentro de la ventana de envío), repartido por id de notificación
+ * para no concentrar todo el SMTP a las 8:00.
+ *
+ * La rueda vive en memoria y se reconstruye desde la BD al arrancar, incluidos los envíos de
+ * los últimos notifications.envio.dias-recuperacion días que no llegaron a salir; el cron
+ * diario sigue creando las notificaciones y actúa como reconciliación.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(value = "notifications.wheel.enabled", havingValue = "true")
+public class AlertaWheelScheduler {
+
+    /**
+     * Recordatorio programado: envío, notificación a la que pertenece e intento de envío
+     */
+    record Recordatorio(Integer idEnvio, Integer idNotificacion, int intento) {}
+
+    @Autowired
+    private NotificacionEnvioRepository notificacionEnvioRepository;
+
+    @Autowired
+    private NotificacionPagoService notificacionPagoService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${notifications.wheel.tick-ms:60000}")
+    private long tickMs;
+
+    @Value("${notifications.wheel.slots:60}")
+    private int slots;
+
+    // Inicio y duración de la ventana diaria en la que se reparten los envíos
+    @Value("${notifications.wheel.hora-inicio:08:00}")
+    private String horaInicio;
+
+    @Value("${notifications.wheel.ventana-minutos:600}")
+    private int ventanaMinutos;
+
+    @Value("${notifications.max-intentos:3}")
+    private int maxIntentos;
+
+    // Minutos entre reintentos de un envío fallido
+    @Value("${notifications.intervalo-reintento:30}")
+    private int intervaloReintento;
+
+    // Días hacia atrás cuyos envíos pendientes aún se recuperan (p. ej. tras una caída)
+    @Value("${notifications.envio.dias-recuperacion:1}")
+    private int diasRecuperacion;
+
+    private TimingWheel<Recordatorio> wheel;
+    // Listas inmutables: se sustituyen con compute, así tick y programar/cancelar no se pisan
+    private final Map<Integer, List<TimingWheel.Timeout<Recordatorio>>> programados = new ConcurrentHashMap<>();
+
+    // ================================================
+    // RECONSTRUCCIÓN AL ARRANCAR
+    // ================================================
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconstruir() {
+        synchronized (this) {
+            wheel = new TimingWheel<>(tickMs, slots, System.currentTimeMillis());
+        }
+        Map<Integer, List<NotificacionEnvio>> pendientes = notificacionEnvioRepository
+                .findPendientesDesde(LocalDate.now().minusDays(diasRecuperacion)).stream()
+                .collect(Collectors.groupingBy(NotificacionEnvio::getIdNotificacionPago));
+        pendientes.forEach(this::programar);
+        Gauge.builder("notificaciones.wheel.programados", programados, Map::size)
+                .description("Notificaciones con recordatorios programados en el timing wheel")
+                .register(meterRegistry);
+        log.info("🎡 Timing wheel reconstruido: {} notificaciones pendientes programadas", programados.size());
+    }
+
+    // ================================================
+    // PROGRAMACIÓN
+    // ================================================
+
+    /**
+     * (Re)programa los envíos pendientes de una notificación; cancela los anteriores.
+     * Los atrasados dentro de los días de recuperación salen en el siguiente tick.
+     */
+    public void programar(Integer idNotificacion, List<NotificacionEnvio> envios) {
+        cancelar(idNotificacion);
+
+        LocalDate desde = LocalDate.now().minusDays(diasRecuperacion);
+        List<TimingWheel.Timeout<Recordatorio>> timeouts = new ArrayList<>();
+        synchronized (this) {
+            if (wheel == null) return; // aún no arrancó: reconstruir() los recogerá de la BD
+            for (NotificacionEnvio envio : envios) {
+                if (Boolean.TRUE.equals(envio.getNotificado()) || envio.getFechaEnvio().isBefore(desde)) continue;
+                long instante = instanteEnvio(envio.getFechaEnvio(), idNotificacion);
+                timeouts.add(wheel.add(instante,
+                        new Recordatorio(envio.getIdNotificacionEnvio(), idNotificacion, 1)));
+            }
+        }
+        if (!timeouts.isEmpty()) {
+            programados.put(idNotificacion, List.copyOf(timeouts));
+        }
+    }
+
+    public void cancelar(Integer idNotificacion) {
+        if (idNotificacion == null) return;
+        List<TimingWheel.Timeout<Recordatorio>> anteriores = programados.remove(idNotificacion);
+        if (anteriores != null) {
+            anteriores.forEach(TimingWheel.Timeout::cancel);
+        }
+    }
+
+    // ================================================
+    // TICK
+    // ================================================
+
+    /**
+     * Avanza la rueda; el trabajo es proporcional a los recordatorios que vencen en este tick.
+     * fixedDelay: un tick con muchos envíos SMTP no se solapa con el siguiente (con el scheduler
+     * de hilos virtuales las tareas fixedRate sí pueden solaparse); advance() recupera los slots
+     * que pasaron mientras tanto.
+     */
+    @Scheduled(fixedDelayString = "${notifications.wheel.tick-ms:60000}")
+    public void tick() {
+        List<Recordatorio> vencidos;
+        synchronized (this) {
+            if (wheel == null) return;
+            vencidos = wheel.advance(System.currentTimeMillis());
+        }
+        for (Recordatorio recordatorio : vencidos) {
+            disparar(recordatorio);
+        }
+    }
+
+    private void disparar(Recordatorio recordatorio) {
+        retirar(recordatorio);
+        boolean enviado;
+        try {
+            enviado = notificacionPagoService.enviarRecordatorio(recordatorio.idEnvio());
+        } catch (Exception e) {
+            log.error("❌ Error enviando recordatorio de notificación ID {}: {}",
+                    recordatorio.idNotificacion(), e.getMessage());
+            enviado = false;
+        }
+
+        if (enviado) {
+            log.debug("⏰ Recordatorio ID {} procesado para notificación ID {}",
+                    recordatorio.idEnvio(), recordatorio.idNotificacion());
+            return;
+        }
+        if (recordatorio.intento() < maxIntentos) {
+            long reintento = System.currentTimeMillis() + intervaloReintento * 60_000L;
+            Recordatorio siguiente = new Recordatorio(recordatorio.idEnvio(),
+                    recordatorio.idNotificacion(), recordatorio.intento() + 1);
+            TimingWheel.Timeout<Recordatorio> timeout;
+            synchronized (this) {
+                timeout = wheel.add(reintento, siguiente);
+            }
+            programados.compute(recordatorio.idNotificacion(), (id, lista) -> {
+                List<TimingWheel.Timeout<Recordatorio>> nueva = lista == null ? new ArrayList<>() : new ArrayList<>(lista);
+                nueva.add(timeout);
+                return List.copyOf(nueva);
+            });
+        } else {
+            log.warn("⚠️ Notificación ID {} agotó {} intentos de envío", recordatorio.idNotificacion(), maxIntentos);
+        }
+    }
+
+    /**
+     * Quita de programados el recordatorio que acaba de vencer; la notificación sale del mapa
+     * (y del gauge) cuando no le quedan recordatorios
+     */
+    private void retirar(Recordatorio recordatorio) {
+        programados.computeIfPresent(recordatorio.idNotificacion(), (id, lista) -> {
+            List<TimingWheel.Timeout<Recordatorio>> restantes = lista.stream()
+                    .filter(t -> !t.getItem().equals(recordatorio))
+                    .toList();
+            return restantes.isEmpty() ? null : restantes;
+        });
+    }
+
+    // ================================================
+    // MÉTODOS DE UTILIDAD
+    // ================================================
+
+    /**
+     * Instante de envío dentro de la ventana diaria, desplazado de forma estable por id
+     */
+    private long instanteEnvio(LocalDate fecha, Integer idNotificacion) {
+        int desplazamiento = ventanaMinutos > 0 ? Math.floorMod(idNotificacion * 31, ventanaMinutos) : 0;
+        long instante = fecha.atTime(LocalTime.parse(horaInicio)).plusMinutes(desplazamiento)
+                .atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        // Umbral cuyo turno ya pasó (hoy o un día en recuperación): sale en el siguiente tick
+        return Math.max(instante, System.currentTimeMillis());
+    }
+
+    public int getProgramados() {
+        return programados.size();
+    }
+}
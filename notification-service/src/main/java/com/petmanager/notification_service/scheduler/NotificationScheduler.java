@@ -1,5 +1,6 @@
 package com.petmanager.notification_service.scheduler;
 
+import com.petmanager.notification_service.service.NotificacionArchivoService;
 import com.petmanager.notification_service.service.NotificacionPagoService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -27,9 +28,15 @@ public class NotificationScheduler {
     @Autowired
     private NotificacionPagoService notificacionPagoService;
 
+    @Autowired
+    private NotificacionArchivoService notificacionArchivoService;
+
     @Value("${notifications.scheduler.enabled:true}")
     private boolean schedulerEnabled;
 
+    @Value("${notifications.wheel.enabled:false}")
+    private boolean wheelEnabled;
+
     @Value("${spring.application.name:notification-service}")
     private String applicationName;
 
@@ -112,6 +119,11 @@ public class NotificationScheduler {
             return;
         }
 
+        if (wheelEnabled) {
+            log.debug("Timing wheel activo: los envíos, reintentos y atrasados de los días de recuperación salen en su propio umbral");
+            return;
+        }
+
         try {
             long startTime = System.currentTimeMillis();
             notificacionPagoService.enviarNotificacionesPendientes();
@@ -147,15 +159,11 @@ public class NotificationScheduler {
         }
 
         try {
-            // lógica de limpieza:
-            // - Archivar notificaciones muy antiguas
-            // - Limpiar logs
-            // - Generar reportes semanales
-            // - Verificar integridad de datos
-
             log.info("Ejecutando limpieza semanal...");
 
-            // Por ahora solo logear
+            // Particiones mensuales de notificacion_pago: crear futuras, archivar/eliminar antiguas
+            notificacionArchivoService.mantenerParticiones();
+
             log.info("Limpieza semanal completada");
 
         } catch (Exception e) {
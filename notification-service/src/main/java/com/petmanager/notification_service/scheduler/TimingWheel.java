@@ -0,0 +1,157 @@
+package com.petmanager.notification_service.scheduler;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Timing wheel jerárquico (estilo Kafka/Netty) para programar recordatorios.
+ * Cada nivel tiene {@code wheelSize} ranuras; el nivel n+1 usa como tick el intervalo completo
+ * del nivel n y se crea solo cuando hace falta. Al avanzar el reloj, cada ranura de un nivel
+ * superior que llega a su turno se redistribuye hacia los niveles inferiores.
+ *
+ * Insertar y cancelar es O(1); avanzar un tick cuesta O(1) más los elementos que vencen.
+ * No es thread-safe por sí mismo: el llamador sincroniza.
+ */
+public class TimingWheel<T> {
+
+    /**
+     * Elemento programado. Cancelar solo lo marca; se descarta cuando su ranura se procesa.
+     */
+    public static final class Timeout<T> {
+        private final long expirationMs;
+        // Vencimiento redondeado al siguiente tick: nunca se dispara antes de tiempo
+        private final long slotMs;
+        private final T item;
+        private volatile boolean cancelado;
+
+        private Timeout(long expirationMs, long slotMs, T item) {
+            this.expirationMs = expirationMs;
+            this.slotMs = slotMs;
+            this.item = item;
+        }
+
+        public long getExpirationMs() {
+            return expirationMs;
+        }
+
+        public T getItem() {
+            return item;
+        }
+
+        public void cancel() {
+            cancelado = true;
+        }
+
+        public boolean isCancelado() {
+            return cancelado;
+        }
+    }
+
+    private final long tickMs;
+    private final int wheelSize;
+    private final long intervalMs;
+    private final List<LinkedList<Timeout<T>>> ranuras;
+    private long currentTime;
+    private TimingWheel<T> overflow;
+
+    // Elementos cuyo vencimiento ya pasó al insertarlos: salen en el siguiente advance
+    private final List<Timeout<T>> vencidos = new ArrayList<>();
+
+    public TimingWheel(long tickMs, int wheelSize, long startMs) {
+        if (tickMs <= 0 || wheelSize <= 0) {
+            throw new IllegalArgumentException("tickMs y wheelSize deben ser positivos");
+        }
+        this.tickMs = tickMs;
+        this.wheelSize = wheelSize;
+        this.intervalMs = tickMs * wheelSize;
+        this.currentTime = startMs - (startMs % tickMs);
+        this.ranuras = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            ranuras.add(new LinkedList<>());
+        }
+    }
+
+    /**
+     * Programa un elemento para el instante indicado (epoch ms)
+     */
+    public Timeout<T> add(long expirationMs, T item) {
+        long slotMs = Math.floorDiv(expirationMs + tickMs - 1, tickMs) * tickMs;
+        Timeout<T> timeout = new Timeout<>(expirationMs, slotMs, item);
+        if (!colocar(timeout)) {
+            vencidos.add(timeout);
+        }
+        return timeout;
+    }
+
+    /**
+     * Avanza el reloj hasta {@code nowMs} y devuelve los elementos vencidos (no cancelados)
+     */
+    public List<T> advance(long nowMs) {
+        List<T> due = new ArrayList<>();
+        drenar(vencidos, due);
+        while (currentTime + tickMs <= nowMs) {
+            currentTime += tickMs;
+            if (overflow != null && currentTime % intervalMs == 0) {
+                // Vuelta completa de este nivel: la ranura del nivel superior baja un escalón
+                overflow.tick(this);
+                drenar(vencidos, due);
+            }
+            drenar(ranuras.get(indice(currentTime)), due);
+        }
+        return due;
+    }
+
+    // ================================================
+    // INTERNOS
+    // ================================================
+
+    private boolean colocar(Timeout<T> timeout) {
+        long expiration = timeout.slotMs;
+        if (expiration < currentTime + tickMs) {
+            return false;
+        }
+        if (expiration < currentTime + intervalMs) {
+            ranuras.get(indice(expiration)).add(timeout);
+            return true;
+        }
+        if (overflow == null) {
+            overflow = new TimingWheel<>(intervalMs, wheelSize, currentTime);
+        }
+        return overflow.colocar(timeout);
+    }
+
+    /**
+     * Avanza un tick de este nivel (llamado por el nivel inferior) y reinserta su ranura
+     * desde la rueda raíz, que ya tiene el reloj actualizado
+     */
+    private void tick(TimingWheel<T> raiz) {
+        currentTime += tickMs;
+        if (overflow != null && currentTime % intervalMs == 0) {
+            overflow.tick(raiz);
+        }
+        LinkedList<Timeout<T>> ranura = ranuras.get(indice(currentTime));
+        Iterator<Timeout<T>> it = ranura.iterator();
+        while (it.hasNext()) {
+            Timeout<T> timeout = it.next();
+            it.remove();
+            if (!timeout.cancelado && !raiz.colocar(timeout)) {
+                raiz.vencidos.add(timeout);
+            }
+        }
+    }
+
+    private void drenar(List<Timeout<T>> origen, List<T> destino) {
+        for (Timeout<T> timeout : origen) {
+            if (!timeout.cancelado) {
+                destino.add(timeout.item);
+            }
+        }
+        origen.clear();
+    }
+
+    private int indice(long timeMs) {
+        return (int) ((timeMs / tickMs) % wheelSize);
+    }
+}
@@ -0,0 +1,136 @@
+package com.petmanager.notification_service.service;
+
+import com.petmanager.notification_service.client.SupplierServiceClient;
+import com.petmanager.notification_service.dto.DirectorioProveedoresDto;
+import com.petmanager.notification_service.dto.ProveedorNotificacionDto;
+import com.petmanager.notification_service.model.DirectorioProveedor;
+import com.petmanager.notification_service.repository.DirectorioProveedorRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Réplica local del directorio de proveedores de supplier-service.
+ * La tabla directorio_proveedor sobrevive a reinicios y el mapa en memoria es el que se
+ * consulta al enriquecer notificaciones, sin salto de red en el camino caliente.
+ *
+ * Se sincroniza con un snapshot periódico versionado (solo viaja la lista si cambió)
+ * y con los datos de proveedor que traen los eventos de CondicionPago.
+ */
+@Service
+@Slf4j
+public class DirectorioProveedorService {
+
+    @Autowired
+    private DirectorioProveedorRepository directorioProveedorRepository;
+
+    @Autowired
+    private SupplierServiceClient supplierServiceClient;
+
+    private final Map<Long, ProveedorNotificacionDto> directorio = new ConcurrentHashMap<>();
+    private volatile String version;
+
+    // ================================================
+    // CONSULTA
+    // ================================================
+
+    public Optional<ProveedorNotificacionDto> buscar(Long idProveedor) {
+        return Optional.ofNullable(directorio.get(idProveedor));
+    }
+
+    public int size() {
+        return directorio.size();
+    }
+
+    // ================================================
+    // SINCRONIZACIÓN
+    // ================================================
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void cargar() {
+        directorioProveedorRepository.findAll().forEach(p -> directorio.put(p.getIdProveedor(),
+                new ProveedorNotificacionDto(p.getIdProveedor(), p.getNombre(), p.getEmail(), p.getActivo())));
+        log.info("📇 Directorio de proveedores cargado desde BD: {} proveedores", directorio.size());
+        sincronizar();
+    }
+
+    /**
+     * Snapshot periódico: si la versión no cambió supplier-service no reenvía la lista
+     */
+    @Scheduled(fixedDelayString = "${notifications.directorio.intervalo-ms:300000}",
+            initialDelayString = "${notifications.directorio.intervalo-ms:300000}")
+    public void sincronizar() {
+        try {
+            ResponseEntity<DirectorioProveedoresDto> response = supplierServiceClient.obtenerDirectorio(version);
+            DirectorioProveedoresDto snapshot = response.getBody();
+            if (!response.getStatusCode().is2xxSuccessful() || snapshot == null || snapshot.isSinCambios()) {
+                return;
+            }
+            aplicarSnapshot(snapshot.getProveedores());
+            version = snapshot.getVersion();
+        } catch (Exception e) {
+            // Se sigue sirviendo la última copia conocida
+            log.warn("⚠️ No se pudo sincronizar el directorio de proveedores: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Upsert de un proveedor recibido por otra vía (eventos de CondicionPago)
+     */
+    public void actualizar(ProveedorNotificacionDto proveedor) {
+        if (proveedor == null || proveedor.getIdProveedor() == null) return;
+        if (proveedor.equals(directorio.put(proveedor.getIdProveedor(), proveedor))) return;
+        directorioProveedorRepository.save(aEntidad(proveedor, LocalDateTime.now()));
+    }
+
+    /**
+     * Solo se escriben las filas que cambiaron y se borran las que desaparecieron del origen
+     */
+    private void aplicarSnapshot(List<ProveedorNotificacionDto> proveedores) {
+        LocalDateTime ahora = LocalDateTime.now();
+        List<DirectorioProveedor> cambiados = new ArrayList<>();
+        Set<Long> vigentes = new HashSet<>();
+        for (ProveedorNotificacionDto proveedor : proveedores) {
+            vigentes.add(proveedor.getIdProveedor());
+            if (!Objects.equals(directorio.get(proveedor.getIdProveedor()), proveedor)) {
+                cambiados.add(aEntidad(proveedor, ahora));
+            }
+        }
+        Set<Long> eliminados = new HashSet<>(directorio.keySet());
+        eliminados.removeAll(vigentes);
+
+        directorioProveedorRepository.saveAll(cambiados);
+        if (!eliminados.isEmpty()) {
+            directorioProveedorRepository.deleteAllByIdInBatch(eliminados);
+        }
+        proveedores.forEach(p -> directorio.put(p.getIdProveedor(), p));
+        eliminados.forEach(directorio::remove);
+
+        log.info("📇 Directorio de proveedores sincronizado: {} proveedores ({} cambios, {} eliminados)",
+                directorio.size(), cambiados.size(), eliminados.size());
+    }
+
+    private static DirectorioProveedor aEntidad(ProveedorNotificacionDto proveedor, LocalDateTime sincronizadoEn) {
+        return DirectorioProveedor.builder()
+                .idProveedor(proveedor.getIdProveedor())
+                .nombre(proveedor.getNombre())
+                .email(proveedor.getEmail())
+                .activo(proveedor.getActivo())
+                .sincronizadoEn(sincronizadoEn)
+                .build();
+    }
+}
@@ -1,6 +1,8 @@
 package com.petmanager.notification_service.service;
 
 import com.petmanager.notification_service.model.NotificacionPago;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import lombok.extern.slf4j.Slf4j;
@@ -22,6 +24,12 @@ public class EmailService {
     @Autowired
     private JavaMailSender mailSender;
 
+    @Autowired
+    private NotificacionMetricas metricas;
+
+    @Autowired
+    private ObservationRegistry observationRegistry;
+
     @Value("${brevo.sender.email:notificaciones@petmanager.com}")
     private String senderEmail;
 
@@ -38,21 +46,23 @@ public class EmailService {
      * Envía notificación de vencimiento de condición de pago usando Brevo
      */
     public boolean enviarNotificacionVencimiento(NotificacionPago notificacion) {
+        long inicio = System.nanoTime();
+        String tipo = notificacion.getTipoNotificacion();
+        String destinatario = null;
         try {
-            log.info("📧 Preparando envío de email...");
-            log.info("   🏢 Proveedor: {} (ID: {})",
-                    notificacion.getNombreProveedor(), notificacion.getIdProveedor());
-            log.info("   📅 Vencimiento: {}", notificacion.getFechaVencimiento());
-            log.info("   🎯 Tipo: {}", notificacion.getTipoNotificacion());
-
             // Generar contenido del email
             String asunto = generarAsunto(notificacion);
-            String contenidoHtml = generarContenidoEmail(notificacion);
-            String destinatario = determinarDestinatario(notificacion);
+            String contenidoHtml = metricas.medir(NotificacionMetricas.RENDERIZAR, tipo,
+                    () -> generarContenidoEmail(notificacion));
+            destinatario = determinarDestinatario(notificacion);
 
             // Validar destinatario
             if (destinatario == null || destinatario.trim().isEmpty()) {
-                log.error("❌ No se puede enviar email: destinatario vacío");
+                metricas.contarEmail("sin_destinatario", tipo);
+                log.atError().setMessage("❌ No se puede enviar email: destinatario vacío")
+                        .addKeyValue("idNotificacion", notificacion.getIdNotificacionPago())
+                        .addKeyValue("idProveedor", notificacion.getIdProveedor())
+                        .log();
                 return false;
             }
 
@@ -66,34 +76,45 @@ public class EmailService {
             helper.setSubject(asunto);
             helper.setText(contenidoHtml, true); // true = es HTML
 
-            // Log del email a enviar
-            log.info("📨 ENVIANDO EMAIL VIA BREVO:");
-            log.info("   📤 De: {} <{}>", senderName, senderEmail);
-            log.info("   📥 Para: {}", destinatario);
-            log.info("   📋 Asunto: {}", asunto);
-            log.info("   📄 Tipo: HTML");
-            log.info("   🔢 Tamaño contenido: {} caracteres", contenidoHtml.length());
-
             // Enviar email
-            mailSender.send(message);
-
-            log.info("✅ EMAIL ENVIADO EXITOSAMENTE VIA BREVO");
-            log.info("   ✉️ Destinatario: {}", destinatario);
-            log.info("   🏷️ Proveedor: {}", notificacion.getNombreProveedor());
-            log.info("   📊 Días restantes: {}", notificacion.getDiasRestantes());
+            metricas.ejecutar(NotificacionMetricas.SMTP, tipo, () -> Observation
+                    .createNotStarted("smtp.send", observationRegistry)
+                    .contextualName("smtp send")
+                    .lowCardinalityKeyValue("tipo", tipo != null ? tipo : NotificacionMetricas.SIN_TIPO)
+                    .observe(() -> mailSender.send(message)));
+            metricas.contarEmail("enviado", tipo);
+
+            // Un solo evento por envío; los detalles viajan como pares clave-valor
+            log.atInfo().setMessage("✅ Email de vencimiento enviado")
+                    .addKeyValue("idNotificacion", notificacion.getIdNotificacionPago())
+                    .addKeyValue("idProveedor", notificacion.getIdProveedor())
+                    .addKeyValue("tipo", notificacion.getTipoNotificacion())
+                    .addKeyValue("vencimiento", notificacion.getFechaVencimiento())
+                    .addKeyValue("diasRestantes", notificacion.getDiasRestantes())
+                    .addKeyValue("destinatario", destinatario)
+                    .addKeyValue("bytes", contenidoHtml.length())
+                    .addKeyValue("ms", (System.nanoTime() - inicio) / 1_000_000)
+                    .log();
 
             return true;
 
         } catch (MessagingException e) {
-            log.error("❌ Error de configuración del mensaje: {}", e.getMessage());
-            log.error("   📧 Destinatario: {}", notificacion.getEmailProveedor());
-            log.error("   🔧 Verificar configuración SMTP");
+            metricas.contarEmail("error_mensaje", tipo);
+            log.atError().setMessage("❌ Error de configuración del mensaje (verificar SMTP)")
+                    .addKeyValue("idNotificacion", notificacion.getIdNotificacionPago())
+                    .addKeyValue("destinatario", destinatario)
+                    .addKeyValue("error", e.getMessage())
+                    .log();
             return false;
 
         } catch (Exception e) {
-            log.error("💥 Error general enviando email: {}", e.getMessage(), e);
-            log.error("   📧 Destinatario: {}", notificacion.getEmailProveedor());
-            log.error("   🏢 Proveedor: {}", notificacion.getNombreProveedor());
+            metricas.contarEmail("error", tipo);
+            log.atError().setMessage("💥 Error general enviando email")
+                    .addKeyValue("idNotificacion", notificacion.getIdNotificacionPago())
+                    .addKeyValue("idProveedor", notificacion.getIdProveedor())
+                    .addKeyValue("destinatario", destinatario)
+                    .setCause(e)
+                    .log();
             return false;
         }
     }
@@ -103,7 +124,7 @@ public class EmailService {
      */
     private String determinarDestinatario(NotificacionPago notificacion) {
         if (testMode && testEmail != null && !testEmail.trim().isEmpty()) {
-            log.info("🧪 MODO TEST: Enviando a {} en lugar de {}",
+            log.debug("🧪 MODO TEST: Enviando a {} en lugar de {}",
                     testEmail, notificacion.getEmailProveedor());
             return testEmail;
         }
@@ -266,13 +287,8 @@ public class EmailService {
      */
     public boolean verificarServicioEmail() {
         try {
-            log.info("🔍 Verificando conexión con Brevo SMTP...");
-
             // Solo validar configuración, no enviar
-            log.info("✅ Configuración SMTP válida");
-            log.info("   📤 Servidor: smtp-relay.brevo.com:587");
-            log.info("   👤 Usuario: configurado");
-            log.info("   🔐 Autenticación: habilitada");
+            log.info("✅ Configuración SMTP válida (smtp-relay.brevo.com:587, autenticación habilitada)");
 
             return true;
 
@@ -287,8 +303,6 @@ public class EmailService {
      */
     public boolean enviarEmailPrueba(String destinatario) {
         try {
-            log.info("🧪 Enviando email de prueba a: {}", destinatario);
-
             MimeMessage message = mailSender.createMimeMessage();
             MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
 
@@ -325,15 +339,13 @@ public class EmailService {
             // Enviar email
             mailSender.send(message);
 
-            log.info("✅ EMAIL DE PRUEBA ENVIADO EXITOSAMENTE VIA BREVO");
-            log.info("   📧 Destinatario: {}", destinatario);
-            log.info("   📤 Remitente: {} <{}>", senderName, senderEmail);
+            log.info("✅ Email de prueba enviado a {} desde {} <{}>", destinatario, senderName, senderEmail);
 
             return true;
 
         } catch (MessagingException e) {
-            log.error("❌ Error de configuración SMTP: {}", e.getMessage());
-            log.error("   🔧 Verificar credenciales SMTP en variables de entorno");
+            log.error("❌ Error de configuración SMTP (verificar credenciales en variables de entorno): {}",
+                    e.getMessage());
             return false;
 
         } catch (Exception e) {
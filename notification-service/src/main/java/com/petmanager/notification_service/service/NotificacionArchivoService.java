@@ -0,0 +1,200 @@
+package com.petmanager.notification_service.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Mantenimiento de las particiones mensuales de notificacion_pago (ver migración V4):
+ * crea los meses futuros y separa los meses fuera de la ventana de retención,
+ * archivándolos junto con sus envíos en CSV comprimido en disco local o eliminándolos.
+ */
+@Service
+@Slf4j
+public class NotificacionArchivoService {
+
+    private static final String TABLA = "notificacion_pago";
+    private static final String PREFIJO = TABLA + "_p";
+    private static final String DEFAULT = TABLA + "_default";
+    private static final DateTimeFormatter SUFIJO = DateTimeFormatter.ofPattern("yyyyMM");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${notifications.archivo.meses-adelante:12}")
+    private int mesesAdelante;
+
+    @Value("${notifications.archivo.retencion-meses:12}")
+    private int retencionMeses;
+
+    // archivar | eliminar
+    @Value("${notifications.archivo.modo:archivar}")
+    private String modo;
+
+    @Value("${notifications.archivo.directorio:./archivo}")
+    private String directorio;
+
+    // ================================================
+    // MANTENIMIENTO SEMANAL
+    // ================================================
+
+    /**
+     * Crea las particiones futuras, retira las antiguas y limpia envíos huérfanos
+     */
+    public void mantenerParticiones() {
+        int creadas = crearParticionesFuturas();
+        int retiradas = retirarParticionesAntiguas();
+        int huerfanos = jdbcTemplate.update("""
+                DELETE FROM notificacion_envio e
+                WHERE NOT EXISTS (SELECT 1 FROM notificacion_pago n
+                                  WHERE n.id_notificacion_pago = e.id_notificacion_pago)
+                """);
+        log.info("🗂️ Particiones: {} creadas, {} retiradas ({}); {} envíos huérfanos eliminados",
+                creadas, retiradas, modo, huerfanos);
+    }
+
+    private int crearParticionesFuturas() {
+        YearMonth actual = YearMonth.now();
+        int creadas = 0;
+        for (int i = 0; i <= mesesAdelante; i++) {
+            YearMonth mes = actual.plusMonths(i);
+            String particion = PREFIJO + mes.format(SUFIJO);
+            if (existe(particion)) continue;
+            try {
+                int movidas = transactionTemplate.execute(estado -> crearParticion(particion, mes));
+                if (movidas > 0) {
+                    log.info("🗂️ Partición {} creada con {} filas movidas desde {}", particion, movidas, DEFAULT);
+                }
+                creadas++;
+            } catch (Exception e) {
+                log.warn("⚠️ No se pudo crear la partición {}: {}", particion, e.getMessage());
+            }
+        }
+        return creadas;
+    }
+
+    /**
+     * Postgres no deja crear la partición de un mes si la DEFAULT ya tiene filas de ese mes.
+     * En ese caso, en una sola transacción: DETACH de la DEFAULT, CREATE de la partición,
+     * traslado de las filas y ATTACH de nuevo. Devuelve las filas trasladadas.
+     */
+    private int crearParticion(String particion, YearMonth mes) {
+        LocalDate desde = mes.atDay(1);
+        LocalDate hasta = mes.plusMonths(1).atDay(1);
+        String crear = String.format("CREATE TABLE %s PARTITION OF %s FOR VALUES FROM ('%s') TO ('%s')",
+                particion, TABLA, desde, hasta);
+
+        boolean hayFilas = existe(DEFAULT) && Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM " + DEFAULT + " WHERE fecha_vencimiento >= ? AND fecha_vencimiento < ?)",
+                Boolean.class, desde, hasta));
+        if (!hayFilas) {
+            jdbcTemplate.execute(crear);
+            return 0;
+        }
+
+        jdbcTemplate.execute("ALTER TABLE " + TABLA + " DETACH PARTITION " + DEFAULT);
+        jdbcTemplate.execute(crear);
+        int movidas = jdbcTemplate.update("WITH movidas AS (DELETE FROM " + DEFAULT
+                + " WHERE fecha_vencimiento >= ? AND fecha_vencimiento < ? RETURNING *) "
+                + "INSERT INTO " + particion + " SELECT * FROM movidas", desde, hasta);
+        jdbcTemplate.execute("ALTER TABLE " + TABLA + " ATTACH PARTITION " + DEFAULT + " DEFAULT");
+        return movidas;
+    }
+
+    private int retirarParticionesAntiguas() {
+        LocalDate limite = YearMonth.now().minusMonths(retencionMeses).atDay(1);
+        // Incluye particiones ya separadas en una ejecución anterior que falló al archivar;
+        // la DEFAULT no sigue el patrón y nunca se retira
+        List<Map<String, Object>> particiones = jdbcTemplate.queryForList("""
+                SELECT c.relname AS nombre, i.inhparent IS NOT NULL AS adjunta
+                FROM pg_class c LEFT JOIN pg_inherits i ON i.inhrelid = c.oid
+                WHERE c.relkind = 'r' AND c.relname ~ '^notificacion_pago_p[0-9]{6}$'
+                ORDER BY c.relname
+                """);
+
+        int retiradas = 0;
+        for (Map<String, Object> fila : particiones) {
+            String particion = (String) fila.get("nombre");
+            YearMonth mes = YearMonth.parse(particion.substring(PREFIJO.length()), SUFIJO);
+            if (!mes.plusMonths(1).atDay(1).isAfter(limite)
+                    && retirar(particion, Boolean.TRUE.equals(fila.get("adjunta")))) {
+                retiradas++;
+            }
+        }
+        return retiradas;
+    }
+
+    /**
+     * (COPY a .csv.gz de la partición y de sus envíos) + DELETE de los envíos + DETACH + DROP.
+     * Se archiva antes de tocar nada: si el archivado falla, la partición y sus envíos siguen
+     * intactos en la BD y se reintenta la próxima semana.
+     */
+    private boolean retirar(String particion, boolean adjunta) {
+        try {
+            if ("archivar".equalsIgnoreCase(modo)) {
+                Path archivo = archivar(particion, particion);
+                Path envios = archivar(particion + "_envios", "(SELECT e.* FROM notificacion_envio e "
+                        + "WHERE e.id_notificacion_pago IN (SELECT id_notificacion_pago FROM " + particion + "))");
+                log.info("📦 Partición {} archivada en {} y {}", particion, archivo, envios);
+            }
+            transactionTemplate.executeWithoutResult(estado -> {
+                jdbcTemplate.update("DELETE FROM notificacion_envio WHERE id_notificacion_pago IN "
+                        + "(SELECT id_notificacion_pago FROM " + particion + ")");
+                if (adjunta) {
+                    jdbcTemplate.execute("ALTER TABLE " + TABLA + " DETACH PARTITION " + particion);
+                }
+                jdbcTemplate.execute("DROP TABLE " + particion);
+            });
+            return true;
+        } catch (Exception e) {
+            log.error("❌ Error retirando la partición {}: {}", particion, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * COPY de una tabla o consulta a {directorio}/{nombre}.csv.gz
+     */
+    private Path archivar(String nombre, String origen) throws IOException {
+        Path destino = Paths.get(directorio);
+        Files.createDirectories(destino);
+        Path archivo = destino.resolve(nombre + ".csv.gz");
+
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(archivo))) {
+            jdbcTemplate.execute((ConnectionCallback<Long>) con -> {
+                try {
+                    return con.unwrap(PGConnection.class).getCopyAPI()
+                            .copyOut("COPY " + origen + " TO STDOUT WITH (FORMAT csv, HEADER)", out);
+                } catch (IOException e) {
+                    throw new IllegalStateException("Error escribiendo " + archivo, e);
+                }
+            });
+        }
+        return archivo;
+    }
+
+    private boolean existe(String tabla) {
+        Boolean existe = jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, tabla);
+        return Boolean.TRUE.equals(existe);
+    }
+}
@@ -0,0 +1,128 @@
+package com.petmanager.notification_service.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Métricas Micrometer del pipeline de notificaciones, publicadas en /actuator/metrics
+ * y /actuator/prometheus:
+ *
+ * - notificaciones.etapa (timer): duración de cada etapa, con tags etapa, resultado y tipo
+ *   (tipoNotificacion, o "ninguno" si la etapa no trabaja sobre una notificación concreta)
+ * - notificaciones.condiciones (counter): qué se hizo con cada condición recibida
+ * - notificaciones.emails (counter): emails de vencimiento por resultado y tipo
+ * - notificaciones.ultima.* (gauges): tamaño de la última ejecución
+ */
+@Component
+public class NotificacionMetricas {
+
+    // Etapas de procesarNotificacionesVencimiento / enviarNotificacionesPendientes
+    public static final String PROCESAMIENTO = "procesamiento";
+    public static final String OBTENER_CONDICIONES = "obtener_condiciones";
+    public static final String VERIFICAR_EXISTENTE = "verificar_existente";
+    public static final String INSERTAR = "insertar";
+    public static final String ENRIQUECER = "enriquecer";
+    public static final String RENDERIZAR = "renderizar";
+    public static final String SMTP = "smtp";
+    public static final String MARCAR_ENVIADA = "marcar_enviada";
+
+    public static final String EXITO = "exito";
+    public static final String ERROR = "error";
+    public static final String SIN_TIPO = "ninguno";
+
+    private final MeterRegistry registry;
+    private final AtomicInteger ultimasCondiciones = new AtomicInteger();
+    private final AtomicInteger ultimosEnviosPendientes = new AtomicInteger();
+
+    public NotificacionMetricas(MeterRegistry registry) {
+        this.registry = registry;
+        Gauge.builder("notificaciones.ultima.condiciones", ultimasCondiciones, AtomicInteger::get)
+                .description("Condiciones recibidas de supplier-service en la última ejecución")
+                .register(registry);
+        Gauge.builder("notificaciones.ultima.envios.pendientes", ultimosEnviosPendientes, AtomicInteger::get)
+                .description("Envíos pendientes encontrados en el último envío masivo")
+                .register(registry);
+    }
+
+    // ================================================
+    // TIMERS POR ETAPA
+    // ================================================
+
+    /**
+     * Mide la acción; el resultado es "error" si lanza excepción
+     */
+    public <T> T medir(String etapa, String tipo, Supplier<T> accion) {
+        long inicio = System.nanoTime();
+        String resultado = ERROR;
+        try {
+            T valor = accion.get();
+            resultado = EXITO;
+            return valor;
+        } finally {
+            registrar(etapa, tipo, resultado, System.nanoTime() - inicio);
+        }
+    }
+
+    public void ejecutar(String etapa, String tipo, Runnable accion) {
+        medir(etapa, tipo, () -> {
+            accion.run();
+            return null;
+        });
+    }
+
+    /**
+     * Para etapas cuyo resultado no se reduce a "lanzó o no lanzó" (p. ej. enriquecer con fallback)
+     */
+    public void registrar(String etapa, String tipo, String resultado, long nanos) {
+        Timer.builder("notificaciones.etapa")
+                .description("Duración de cada etapa del pipeline de notificaciones")
+                .tag("etapa", etapa)
+                .tag("resultado", resultado)
+                .tag("tipo", tipo != null ? tipo : SIN_TIPO)
+                .register(registry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    // ================================================
+    // CONTADORES Y GAUGES
+    // ================================================
+
+    /**
+     * resultado: creada | existente | descartada | error
+     */
+    public void contarCondicion(String resultado, String tipo) {
+        Counter.builder("notificaciones.condiciones")
+                .description("Condiciones de pago procesadas por resultado")
+                .tag("resultado", resultado)
+                .tag("tipo", tipo != null ? tipo : SIN_TIPO)
+                .register(registry)
+                .increment();
+    }
+
+    /**
+     * resultado: enviado | sin_destinatario | error_mensaje | error
+     */
+    public void contarEmail(String resultado, String tipo) {
+        Counter.builder("notificaciones.emails")
+                .description("Emails de vencimiento por resultado")
+                .tag("resultado", resultado)
+                .tag("tipo", tipo != null ? tipo : SIN_TIPO)
+                .register(registry)
+                .increment();
+    }
+
+    public void ultimaEjecucion(int condiciones) {
+        ultimasCondiciones.set(condiciones);
+    }
+
+    public void ultimoEnvio(int enviosPendientes) {
+        ultimosEnviosPendientes.set(enviosPendientes);
+    }
+}
@@ -1,22 +1,45 @@
 package com.petmanager.notification_service.service;
 
+import com.petmanager.notification_service.client.SupplierGrpcClient;
 import com.petmanager.notification_service.client.SupplierServiceClient;
+import com.petmanager.notification_service.dto.CondicionPagoEvento;
 import com.petmanager.notification_service.dto.CondicionPagoVencimientoDto;
+import com.petmanager.notification_service.dto.NotificacionConnection;
 import com.petmanager.notification_service.dto.ProveedorNotificacionDto;
+import com.petmanager.notification_service.model.EventoProcesado;
+import com.petmanager.notification_service.model.NotificacionEnvio;
 import com.petmanager.notification_service.model.NotificacionPago;
+import com.petmanager.notification_service.repository.EventoProcesadoRepository;
+import com.petmanager.notification_service.repository.NotificacionEnvioRepository;
 import com.petmanager.notification_service.repository.NotificacionPagoRepository;
+import com.petmanager.notification_service.repository.NotificacionPagoSpecifications;
+import com.petmanager.notification_service.scheduler.AlertaWheelScheduler;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Servicio principal para la gestión de notificaciones de pago
@@ -29,18 +52,53 @@ public class NotificacionPagoService {
     @Autowired
     private SupplierServiceClient supplierServiceClient;
 
+    @Autowired
+    private ProveedorInfoService proveedorInfoService;
+
+    @Autowired
+    private SupplierGrpcClient supplierGrpcClient;
+
+    @Autowired
+    private DirectorioProveedorService directorioProveedorService;
+
+    // Presente solo con notifications.wheel.enabled=true
+    @Autowired
+    private ObjectProvider<AlertaWheelScheduler> alertaWheel;
+
     @Autowired
     private NotificacionPagoRepository notificacionPagoRepository;
 
+    @Autowired
+    private NotificacionEnvioRepository notificacionEnvioRepository;
+
+    @Autowired
+    private EventoProcesadoRepository eventoProcesadoRepository;
+
     @Autowired
     private EmailService emailService;
 
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private NotificacionMetricas metricas;
+
     @Value("${notifications.dias-alerta:7,3,1,0}")
     private String diasAlertaConfig;
 
     @Value("${notifications.max-intentos:3}")
     private int maxIntentos;
 
+    @Value("${notifications.envio.dias-recuperacion:1}")
+    private int diasRecuperacion;
+
+    @Value("${notifications.graphql.max-page-size:100}")
+    private int maxPageSize;
+
+    // rest | grpc
+    @Value("${supplier.transport:rest}")
+    private String supplierTransport;
+
     // ================================================
     // MÉTODO PRINCIPAL - PROCESAMIENTO DE NOTIFICACIONES
     // ================================================
@@ -51,10 +109,14 @@ public class NotificacionPagoService {
     @Transactional
     public void procesarNotificacionesVencimiento() {
         log.info("🚀 Iniciando procesamiento de notificaciones de vencimiento...");
+        long inicio = System.nanoTime();
+        String resultado = NotificacionMetricas.ERROR;
 
         try {
             // Paso 1: Obtener condiciones próximas a vencer desde supplier-service
-            List<CondicionPagoVencimientoDto> condicionesProximas = obtenerCondicionesProximasAVencer();
+            List<CondicionPagoVencimientoDto> condicionesProximas = metricas.medir(
+                    NotificacionMetricas.OBTENER_CONDICIONES, null, this::obtenerCondicionesProximasAVencer);
+            metricas.ultimaEjecucion(condicionesProximas.size());
             log.info("📋 Encontradas {} condiciones próximas a vencer", condicionesProximas.size());
 
             // Paso 2: Procesar cada condición
@@ -66,6 +128,7 @@ public class NotificacionPagoService {
                         notificacionesCreadas.add(notificacion);
                     }
                 } catch (Exception e) {
+                    metricas.contarCondicion("error", condicion.determinarTipoNotificacion());
                     log.error("❌ Error procesando condición ID {}: {}",
                             condicion.getIdCondicionPago(), e.getMessage());
                 }
@@ -73,12 +136,17 @@ public class NotificacionPagoService {
 
             log.info("✅ Procesamiento completado. Notificaciones creadas: {}", notificacionesCreadas.size());
 
-            // Paso 3: Enviar notificaciones pendientes
-            enviarNotificacionesPendientes();
+            // Paso 3: Enviar notificaciones pendientes (con timing wheel, cada una sale en su umbral)
+            if (alertaWheel.getIfAvailable() == null) {
+                enviarNotificacionesPendientes();
+            }
+            resultado = NotificacionMetricas.EXITO;
 
         } catch (Exception e) {
             log.error("💥 Error en procesamiento de notificaciones: {}", e.getMessage(), e);
             throw new RuntimeException("Error procesando notificaciones de vencimiento", e);
+        } finally {
+            metricas.registrar(NotificacionMetricas.PROCESAMIENTO, null, resultado, System.nanoTime() - inicio);
         }
     }
 
@@ -89,21 +157,26 @@ public class NotificacionPagoService {
         log.debug("🔍 Procesando condición ID: {} - Proveedor: {} - Días restantes: {}",
                 condicion.getIdCondicionPago(), condicion.getNombreProveedor(), condicion.getDiasRestantes());
 
+        String tipo = condicion.determinarTipoNotificacion();
+
         // Verificar si ya existe notificación para esta condición
-        Optional<NotificacionPago> notificacionExistente = notificacionPagoRepository
-                .findByIdProveedorAndIdCondicionPago(
+        Optional<NotificacionPago> notificacionExistente = metricas.medir(NotificacionMetricas.VERIFICAR_EXISTENTE, tipo,
+                () -> notificacionPagoRepository.findByIdProveedorAndIdCondicionPago(
                         condicion.getIdProveedor().intValue(),
                         condicion.getIdCondicionPago().intValue()
-                );
+                ));
 
         if (notificacionExistente.isPresent()) {
+            metricas.contarCondicion("existente", tipo);
             log.debug("⚠️ Ya existe notificación para condición ID: {}", condicion.getIdCondicionPago());
-            // Actualizar campos transient y retornar existente
+            // Completar umbrales que falten (idempotente) y retornar existente
+            programarEnvios(notificacionExistente.get());
             return enriquecerNotificacion(notificacionExistente.get(), condicion);
         }
 
         // Verificar si debe crear notificación
         if (!condicion.debeCrearNotificacion()) {
+            metricas.contarCondicion("descartada", tipo);
             log.debug("🚫 No debe crear notificación para condición ID: {} (días restantes: {})",
                     condicion.getIdCondicionPago(), condicion.getDiasRestantes());
             return null;
@@ -117,7 +190,7 @@ public class NotificacionPagoService {
      * Crea una nueva notificación basada en la condición de pago
      */
     private NotificacionPago crearNuevaNotificacion(CondicionPagoVencimientoDto condicion) {
-        log.info("✨ Creando nueva notificación para condición ID: {} - Proveedor: {}",
+        log.debug("✨ Creando nueva notificación para condición ID: {} - Proveedor: {}",
                 condicion.getIdCondicionPago(), condicion.getNombreProveedor());
 
         NotificacionPago notificacion = NotificacionPago.builder()
@@ -132,13 +205,70 @@ public class NotificacionPagoService {
         // Enriquecer con datos transient
         notificacion = enriquecerNotificacion(notificacion, condicion);
 
-        // Guardar en BD
-        NotificacionPago notificacionGuardada = notificacionPagoRepository.save(notificacion);
-        log.info("💾 Notificación creada con ID: {}", notificacionGuardada.getIdNotificacionPago());
+        // Guardar en BD (notificación + sus envíos)
+        NotificacionPago aGuardar = notificacion;
+        NotificacionPago notificacionGuardada = metricas.medir(NotificacionMetricas.INSERTAR,
+                notificacion.getTipoNotificacion(), () -> {
+                    NotificacionPago guardada = notificacionPagoRepository.save(aGuardar);
+                    programarEnvios(guardada);
+                    return guardada;
+                });
+        metricas.contarCondicion("creada", notificacion.getTipoNotificacion());
+        log.debug("💾 Notificación creada con ID: {}", notificacionGuardada.getIdNotificacionPago());
 
         return notificacionGuardada;
     }
 
+    /**
+     * Crea un registro de envío por cada umbral de días de alerta que aún no haya pasado
+     * y programa los pendientes en el timing wheel (si está activo)
+     */
+    private List<NotificacionEnvio> programarEnvios(NotificacionPago notificacion) {
+        LocalDate hoy = LocalDate.now();
+        List<NotificacionEnvio> existentes =
+                notificacionEnvioRepository.findByIdNotificacionPago(notificacion.getIdNotificacionPago());
+        Set<LocalDate> fechasExistentes = existentes.stream()
+                .map(NotificacionEnvio::getFechaEnvio)
+                .collect(Collectors.toSet());
+
+        List<NotificacionEnvio> nuevos = new ArrayList<>();
+        for (Integer dias : parsearDiasAlerta()) {
+            LocalDate fechaEnvio = notificacion.getFechaVencimiento().minusDays(dias);
+            if (fechaEnvio.isBefore(hoy) || !fechasExistentes.add(fechaEnvio)) continue;
+            nuevos.add(NotificacionEnvio.builder()
+                    .idNotificacionPago(notificacion.getIdNotificacionPago())
+                    .diasAlerta(dias)
+                    .fechaEnvio(fechaEnvio)
+                    .build());
+        }
+
+        List<NotificacionEnvio> pendientes = new ArrayList<>(notificacionEnvioRepository.saveAll(nuevos));
+        existentes.stream().filter(e -> !Boolean.TRUE.equals(e.getNotificado())).forEach(pendientes::add);
+        if (!nuevos.isEmpty()) {
+            log.debug("🗓️ {} envíos programados para notificación ID {}", nuevos.size(), notificacion.getIdNotificacionPago());
+        }
+        alertaWheel.ifAvailable(wheel -> despuesDelCommit(
+                () -> wheel.programar(notificacion.getIdNotificacionPago(), pendientes)));
+        return pendientes;
+    }
+
+    /**
+     * Un recordatorio atrasado sale en el siguiente tick: si se programara antes del commit,
+     * enviarRecordatorio aún no vería el envío y lo daría por resuelto sin enviarlo
+     */
+    private static void despuesDelCommit(Runnable accion) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            accion.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                accion.run();
+            }
+        });
+    }
+
     /**
      * Enriquece la notificación con datos transient del supplier-service
      */
@@ -154,21 +284,124 @@ public class NotificacionPagoService {
         return notificacion;
     }
 
+    // ================================================
+    // EVENTOS DE CONDICIÓN DE PAGO (TIEMPO REAL)
+    // ================================================
+
+    /**
+     * Aplica el evento una sola vez: su id queda en evento_procesado en la misma transacción.
+     * Los eventos llevan el estado completo de la condición, así que uno anterior a otro ya
+     * aplicado de la misma condición se registra sin aplicarlo (no debe pisar el más reciente).
+     *
+     * @return false si el evento ya estaba procesado o superado
+     */
+    @Transactional
+    public boolean aplicarEventoCondicionPagoUnaVez(CondicionPagoEvento evento) {
+        if (evento.getIdEvento() == null) {
+            aplicarEventoCondicionPago(evento);
+            return true;
+        }
+        if (eventoProcesadoRepository.existsById(evento.getIdEvento())) {
+            return false;
+        }
+        boolean superado = eventoProcesadoRepository.existsByIdCondicionPagoAndIdEventoGreaterThan(
+                evento.getIdCondicionPago(), evento.getIdEvento());
+        if (superado) {
+            log.debug("⏭️ Evento {} superado por otro posterior de la condición ID {}",
+                    evento.getIdEvento(), evento.getIdCondicionPago());
+        } else {
+            aplicarEventoCondicionPago(evento);
+        }
+        eventoProcesadoRepository.save(new EventoProcesado(evento.getIdEvento(), evento.getIdCondicionPago(),
+                LocalDateTime.now()));
+        return !superado;
+    }
+
+    /**
+     * Aplica un evento de supplier-service: crea, reprograma o elimina la notificación
+     * pendiente de la condición en cuanto cambia, sin esperar al cron diario
+     */
+    @Transactional
+    public void aplicarEventoCondicionPago(CondicionPagoEvento evento) {
+        Integer idCondicion = evento.getIdCondicionPago().intValue();
+        Integer idProveedor = evento.getIdProveedor().intValue();
+
+        if (evento.getNombreProveedor() != null) {
+            directorioProveedorService.actualizar(new ProveedorNotificacionDto(evento.getIdProveedor(),
+                    evento.getNombreProveedor(), evento.getEmailProveedor(), evento.getProveedorActivo()));
+        }
+
+        Integer diasRestantes = evento.getFechaFin() == null ? null
+                : (int) ChronoUnit.DAYS.between(LocalDate.now(), evento.getFechaFin());
+        boolean aplica = !CondicionPagoEvento.ELIMINADA.equals(evento.getTipo())
+                && Boolean.TRUE.equals(evento.getProveedorActivo())
+                && diasRestantes != null
+                && diasRestantes >= -7
+                && diasRestantes <= Collections.max(parsearDiasAlerta());
+
+        if (!aplica) {
+            notificacionEnvioRepository.deletePendientesByIdCondicionPago(idCondicion);
+            int eliminadas = notificacionPagoRepository.deletePendientesByIdCondicionPago(idCondicion);
+            log.debug("🗑️ Evento {} condición ID {}: {} notificaciones pendientes eliminadas",
+                    evento.getTipo(), idCondicion, eliminadas);
+            return;
+        }
+
+        Optional<NotificacionPago> existente =
+                notificacionPagoRepository.findByIdProveedorAndIdCondicionPago(idProveedor, idCondicion);
+        if (existente.isPresent()) {
+            NotificacionPago notificacion = existente.get();
+            if (!evento.getFechaFin().equals(notificacion.getFechaVencimiento())) {
+                // Nueva fecha de vencimiento: se vuelve a avisar
+                notificacion.setFechaVencimiento(evento.getFechaFin());
+                notificacion.setFechaNotificacion(LocalDateTime.now());
+                notificacion.setNotificado(false);
+                notificacion.setEstado("Pendiente");
+                notificacionPagoRepository.save(notificacion);
+                notificacionEnvioRepository.deletePendientesByIdNotificacionPago(notificacion.getIdNotificacionPago());
+                programarEnvios(notificacion);
+                log.info("🔄 Notificación ID {} reprogramada al {}",
+                        notificacion.getIdNotificacionPago(), evento.getFechaFin());
+            }
+            return;
+        }
+
+        CondicionPagoVencimientoDto condicion = new CondicionPagoVencimientoDto(
+                evento.getIdCondicionPago(), evento.getIdProveedor(), evento.getNombreProveedor(),
+                evento.getEmailProveedor(), evento.getIdUsuario(), evento.getDiasCredito(),
+                evento.getFechaInicio(), evento.getFechaFin(), evento.getNota(), diasRestantes);
+        crearNuevaNotificacion(condicion);
+    }
+
     // ================================================
     // ENVÍO DE NOTIFICACIONES
     // ================================================
 
     /**
-     * Envía todas las notificaciones pendientes
+     * Envía los recordatorios cuya fecha de envío es hoy (o de los últimos
+     * notifications.envio.dias-recuperacion días si no llegaron a salir)
      */
     @Transactional
     public void enviarNotificacionesPendientes() {
         log.info("📧 Iniciando envío de notificaciones pendientes...");
 
-        // Por ahora, enviar TODAS las notificaciones pendientes (simplificado)
-        List<NotificacionPago> notificacionesPendientes = notificacionPagoRepository.findByNotificadoFalse();
+        LocalDate hoy = LocalDate.now();
+        List<NotificacionEnvio> envios =
+                notificacionEnvioRepository.findPendientesEntre(hoy.minusDays(diasRecuperacion), hoy);
+
+        // Varios umbrales atrasados de la misma notificación salen en un único email
+        Map<Integer, List<NotificacionEnvio>> enviosPorNotificacion = envios.stream()
+                .collect(Collectors.groupingBy(NotificacionEnvio::getIdNotificacionPago));
+        List<NotificacionPago> notificacionesPendientes =
+                notificacionPagoRepository.findAllById(enviosPorNotificacion.keySet());
+
+        metricas.ultimoEnvio(envios.size());
+        log.info("📬 Encontradas {} notificaciones pendientes para enviar ({} envíos)",
+                notificacionesPendientes.size(), envios.size());
 
-        log.info("📬 Encontradas {} notificaciones pendientes para enviar", notificacionesPendientes.size());
+        // Con gRPC, todos los proveedores del lote se resuelven en un único stream
+        Map<Long, ProveedorNotificacionDto> proveedores = proveedorInfoService.obtenerInfoProveedores(
+                notificacionesPendientes.stream().map(n -> n.getIdProveedor().longValue()).collect(Collectors.toSet()));
 
         int exitosos = 0;
         int fallidos = 0;
@@ -176,18 +409,16 @@ public class NotificacionPagoService {
         for (NotificacionPago notificacion : notificacionesPendientes) {
             try {
                 // Enriquecer notificación con datos del supplier-service
-                NotificacionPago notificacionEnriquecida = enriquecerNotificacionPublico(notificacion);
+                NotificacionPago notificacionEnriquecida =
+                        enriquecerConProveedor(notificacion, proveedores.get(notificacion.getIdProveedor().longValue()));
 
                 // Enviar email
                 boolean enviado = emailService.enviarNotificacionVencimiento(notificacionEnriquecida);
 
                 if (enviado) {
-                    // Marcar como enviada
-                    notificacion.setNotificado(true);
-                    notificacion.setEstado("Enviada");
-                    notificacionPagoRepository.save(notificacion);
+                    marcarEnviada(notificacion, enviosPorNotificacion.get(notificacion.getIdNotificacionPago()));
                     exitosos++;
-                    log.info("✅ Notificación enviada: ID {} - Proveedor: {}",
+                    log.debug("✅ Notificación enviada: ID {} - Proveedor: {}",
                             notificacion.getIdNotificacionPago(), notificacionEnriquecida.getNombreProveedor());
                 } else {
                     fallidos++;
@@ -204,6 +435,54 @@ public class NotificacionPagoService {
         log.info("📊 Envío completado - Exitosos: {} | Fallidos: {}", exitosos, fallidos);
     }
 
+    /**
+     * Envía un recordatorio concreto (disparado por el timing wheel).
+     * Devuelve true si se envió o si ya no hay nada que enviar.
+     *
+     * Sin transacción durante el envío SMTP: no retiene una conexión del pool mientras espera
+     * al servidor de correo. El cambio de estado va después en su propia transacción.
+     */
+    public boolean enviarRecordatorio(Integer idNotificacionEnvio) {
+        Optional<NotificacionEnvio> envio = notificacionEnvioRepository.findById(idNotificacionEnvio);
+        if (envio.isEmpty() || Boolean.TRUE.equals(envio.get().getNotificado())) {
+            return true;
+        }
+        Optional<NotificacionPago> pendiente = notificacionPagoRepository.findById(envio.get().getIdNotificacionPago());
+        if (pendiente.isEmpty()) {
+            return true;
+        }
+
+        NotificacionPago notificacion = enriquecerConProveedor(pendiente.get(), null);
+        if (!emailService.enviarNotificacionVencimiento(notificacion)) {
+            log.warn("⚠️ Falló envío de notificación ID: {}", notificacion.getIdNotificacionPago());
+            return false;
+        }
+
+        transactionTemplate.executeWithoutResult(estado -> marcarEnviada(notificacion, List.of(envio.get())));
+        log.debug("✅ Recordatorio de {} días enviado: notificación ID {} - Proveedor: {}",
+                envio.get().getDiasAlerta(), notificacion.getIdNotificacionPago(), notificacion.getNombreProveedor());
+        return true;
+    }
+
+    /**
+     * notificado/estado de NotificacionPago indican que salió al menos un recordatorio;
+     * el detalle por umbral queda en notificacion_envio
+     */
+    private void marcarEnviada(NotificacionPago notificacion, List<NotificacionEnvio> envios) {
+        metricas.ejecutar(NotificacionMetricas.MARCAR_ENVIADA, notificacion.getTipoNotificacion(), () -> {
+            LocalDateTime ahora = LocalDateTime.now();
+            for (NotificacionEnvio envio : envios) {
+                envio.setNotificado(true);
+                envio.setFechaNotificacion(ahora);
+            }
+            notificacionEnvioRepository.saveAll(envios);
+
+            notificacion.setNotificado(true);
+            notificacion.setEstado("Enviada");
+            notificacionPagoRepository.save(notificacion);
+        });
+    }
+
     // ================================================
     // MÉTODOS PÚBLICOS PARA GRAPHQL RESOLVER
     // ================================================
@@ -213,22 +492,28 @@ public class NotificacionPagoService {
      * (método público para usar desde el resolver)
      */
     public NotificacionPago enriquecerNotificacionPublico(NotificacionPago notificacion) {
-        try {
-            // Obtener información del proveedor
-            ResponseEntity<ProveedorNotificacionDto> response =
-                    supplierServiceClient.obtenerInfoProveedor(notificacion.getIdProveedor().longValue());
+        return enriquecerConProveedor(notificacion, null);
+    }
 
-            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                var proveedor = response.getBody();
-                notificacion.setNombreProveedor(proveedor.getNombre());
-                notificacion.setEmailProveedor(proveedor.getEmail());
-            }
+    /**
+     * Enriquece con el proveedor ya resuelto o, si es null, consultándolo a supplier-service
+     */
+    private NotificacionPago enriquecerConProveedor(NotificacionPago notificacion, ProveedorNotificacionDto precargado) {
+        long inicio = System.nanoTime();
+        String resultado = NotificacionMetricas.EXITO;
+        try {
+            // Obtener información del proveedor (circuit breaker + caché de último valor conocido)
+            ProveedorNotificacionDto proveedor = precargado != null ? precargado
+                    : proveedorInfoService.obtenerInfoProveedor(notificacion.getIdProveedor().longValue());
+            notificacion.setNombreProveedor(proveedor.getNombre());
+            notificacion.setEmailProveedor(proveedor.getEmail());
 
             // Calcular días restantes y tipo
             notificacion.setDiasRestantes(notificacion.calcularDiasRestantes());
             notificacion.setTipoNotificacion(notificacion.determinarTipoNotificacion());
 
         } catch (Exception e) {
+            resultado = "fallback";
             log.warn("⚠️ No se pudo enriquecer notificación ID {}: {}",
                     notificacion.getIdNotificacionPago(), e.getMessage());
 
@@ -244,6 +529,8 @@ public class NotificacionPagoService {
             notificacion.setTipoNotificacion(notificacion.determinarTipoNotificacion());
         }
 
+        metricas.registrar(NotificacionMetricas.ENRIQUECER, notificacion.getTipoNotificacion(), resultado,
+                System.nanoTime() - inicio);
         return notificacion;
     }
 
@@ -251,26 +538,108 @@ public class NotificacionPagoService {
      * Obtiene todas las notificaciones con información enriquecida
      */
     public List<NotificacionPago> obtenerTodasLasNotificaciones() {
-        List<NotificacionPago> notificaciones = notificacionPagoRepository.findAllByOrderByFechaVencimientoAsc();
+        return obtenerTodasLasNotificaciones(true);
+    }
 
-        // Enriquecer cada notificación
-        return notificaciones.stream()
-                .map(this::enriquecerNotificacionPublico)
-                .toList();
+    /**
+     * Igual que la anterior; sin datos de proveedor si el cliente no los pidió
+     */
+    public List<NotificacionPago> obtenerTodasLasNotificaciones(boolean conProveedor) {
+        return enriquecerLote(notificacionPagoRepository.findAllByOrderByFechaVencimientoAsc(), conProveedor);
     }
 
     /**
-     * Obtiene notificaciones por proveedor
+     * Página keyset de notificaciones ordenada por (fechaVencimiento, id).
+     * Se pide una fila de más para saber si hay página siguiente sin contar el total.
      */
-    public List<NotificacionPago> obtenerNotificacionesPorProveedor(Integer idProveedor) {
-        List<NotificacionPago> notificaciones =
-                notificacionPagoRepository.findByIdProveedorOrderByFechaVencimientoAsc(idProveedor);
+    @Transactional(readOnly = true)
+    public NotificacionConnection buscarNotificaciones(int first, String after, String estado, Integer idProveedor,
+                                                       LocalDate desde, LocalDate hasta, boolean conProveedor) {
+        int limite = Math.max(1, Math.min(first, maxPageSize));
+        Cursor cursor = after != null && !after.isBlank() ? decodificarCursor(after) : Cursor.INICIO;
+
+        Specification<NotificacionPago> filtro = Specification.allOf(
+                NotificacionPagoSpecifications.conEstado(estado),
+                NotificacionPagoSpecifications.deProveedor(idProveedor),
+                NotificacionPagoSpecifications.venceDesde(desde),
+                NotificacionPagoSpecifications.venceHasta(hasta),
+                NotificacionPagoSpecifications.despuesDe(cursor.fecha(), cursor.id()));
+        Sort orden = Sort.by("fechaVencimiento", "idNotificacionPago");
+
+        List<NotificacionPago> filas = notificacionPagoRepository.findBy(filtro,
+                q -> q.sortBy(orden).limit(limite + 1).all());
+        boolean hayMas = filas.size() > limite;
+        List<NotificacionPago> pagina = enriquecerLote(hayMas ? filas.subList(0, limite) : filas, conProveedor);
+
+        List<NotificacionConnection.Edge> edges = pagina.stream()
+                .map(n -> new NotificacionConnection.Edge(codificarCursor(n), n))
+                .toList();
+        String endCursor = edges.isEmpty() ? null : edges.get(edges.size() - 1).getCursor();
+        return NotificacionConnection.builder()
+                .edges(edges)
+                .pageInfo(new NotificacionConnection.PageInfo(hayMas, endCursor))
+                .build();
+    }
 
+    /**
+     * Completa campos calculados; los datos de proveedor se resuelven en un único lote
+     * y solo si se solicitaron
+     */
+    private List<NotificacionPago> enriquecerLote(List<NotificacionPago> notificaciones, boolean conProveedor) {
+        if (!conProveedor) {
+            notificaciones.forEach(n -> {
+                n.setDiasRestantes(n.calcularDiasRestantes());
+                n.setTipoNotificacion(n.determinarTipoNotificacion());
+            });
+            return notificaciones;
+        }
+        Map<Long, ProveedorNotificacionDto> proveedores = proveedorInfoService.obtenerInfoProveedores(
+                notificaciones.stream().map(n -> n.getIdProveedor().longValue()).collect(Collectors.toSet()));
         return notificaciones.stream()
-                .map(this::enriquecerNotificacionPublico)
+                .map(n -> enriquecerConProveedor(n, proveedores.get(n.getIdProveedor().longValue())))
                 .toList();
     }
 
+    private static String codificarCursor(NotificacionPago notificacion) {
+        String clave = notificacion.getFechaVencimiento() + "|" + notificacion.getIdNotificacionPago();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(clave.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Clave (fechaVencimiento, id) de la última fila devuelta; INICIO = primera página
+     */
+    private record Cursor(LocalDate fecha, Integer id) {
+        static final Cursor INICIO = new Cursor(null, null);
+    }
+
+    /**
+     * Cualquier cursor mal formado (Base64, separador, fecha o id) es un error del cliente
+     */
+    private static Cursor decodificarCursor(String cursor) {
+        try {
+            String[] partes = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+            if (partes.length != 2) throw new IllegalArgumentException("formato");
+            return new Cursor(LocalDate.parse(partes[0]), Integer.valueOf(partes[1]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Cursor inválido: " + cursor, e);
+        }
+    }
+
+    /**
+     * Obtiene notificaciones por proveedor; sin datos de proveedor si el cliente no los pidió
+     */
+    public List<NotificacionPago> obtenerNotificacionesPorProveedor(Integer idProveedor, boolean conProveedor) {
+        return enriquecerLote(notificacionPagoRepository.findByIdProveedorOrderByFechaVencimientoAsc(idProveedor),
+                conProveedor);
+    }
+
+    /**
+     * Notificaciones aún no enviadas, con los proveedores resueltos en un único lote
+     */
+    public List<NotificacionPago> obtenerNotificacionesPendientes(boolean conProveedor) {
+        return enriquecerLote(notificacionPagoRepository.findByNotificadoFalse(), conProveedor);
+    }
+
     // ================================================
     // MÉTODOS DE UTILIDAD
     // ================================================
@@ -280,6 +649,10 @@ public class NotificacionPagoService {
      */
     private List<CondicionPagoVencimientoDto> obtenerCondicionesProximasAVencer() {
         try {
+            if ("grpc".equalsIgnoreCase(supplierTransport)) {
+                return supplierGrpcClient.streamCondicionesProximas(parsearDiasAlerta());
+            }
+
             ResponseEntity<List<CondicionPagoVencimientoDto>> response =
                     supplierServiceClient.obtenerCondicionesProximasAVencer(diasAlertaConfig);
 
@@ -336,11 +709,4 @@ public class NotificacionPagoService {
             return "❌ Error en procesamiento: " + e.getMessage();
         }
     }
-
-    /**
-     * Getter para el SupplierServiceClient (usado por NotificacionResolver)
-     */
-    public SupplierServiceClient getSupplierServiceClient() {
-        return supplierServiceClient;
-    }
 }
\ No newline at end of file
@@ -0,0 +1,178 @@
+package com.petmanager.notification_service.service;
+
+import com.petmanager.notification_service.client.ProveedorInfoCache;
+import com.petmanager.notification_service.client.SupplierGrpcClient;
+import com.petmanager.notification_service.client.SupplierServiceClient;
+import com.petmanager.notification_service.dto.ProveedorNotificacionDto;
+import com.petmanager.notification_service.exception.NotificationServiceException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+/**
+ * Consulta de la información de un proveedor: primero en el directorio replicado localmente
+ * y, solo si no está, en supplier-service.
+ * Mantiene la caché de último valor conocido que usa el fallback del circuit breaker
+ * y, opcionalmente, lanza una petición de cobertura (hedge) si la primera tarda demasiado.
+ */
+@Service
+@Slf4j
+public class ProveedorInfoService {
+
+    @Autowired
+    private SupplierServiceClient supplierServiceClient;
+
+    @Autowired
+    private ProveedorInfoCache proveedorInfoCache;
+
+    @Autowired
+    private SupplierGrpcClient supplierGrpcClient;
+
+    @Autowired
+    private DirectorioProveedorService directorioProveedorService;
+
+    @Value("${supplier.transport:rest}")
+    private String transport;
+
+    @Value("${supplier.hedging.enabled:false}")
+    private boolean hedgingEnabled;
+
+    // Idealmente cercano al p95 de http.client.requests para obtenerInfoProveedor
+    @Value("${supplier.hedging.delay-ms:300}")
+    private long hedgingDelayMs;
+
+    private final ExecutorService hedgingExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Counter hedgesLanzados;
+
+    public ProveedorInfoService(MeterRegistry meterRegistry) {
+        this.hedgesLanzados = Counter.builder("supplier.client.hedged.requests")
+                .description("Peticiones de cobertura lanzadas hacia supplier-service")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        hedgingExecutor.shutdown();
+    }
+
+    /**
+     * Devuelve la info del proveedor o lanza NotificationServiceException si no hay respuesta ni caché
+     */
+    public ProveedorNotificacionDto obtenerInfoProveedor(Long idProveedor) {
+        Optional<ProveedorNotificacionDto> local = directorioProveedorService.buscar(idProveedor);
+        if (local.isPresent()) {
+            return local.get();
+        }
+        ProveedorNotificacionDto proveedor = hedgingEnabled ? llamarConHedge(idProveedor) : llamar(idProveedor);
+        proveedorInfoCache.put(proveedor);
+        return proveedor;
+    }
+
+    /**
+     * Resolución en bloque: directorio local y, para los que falten, el stream gRPC
+     * ResolveProveedores (solo con supplier.transport=grpc).
+     * Los que no se resuelvan aquí se consultan después uno a uno.
+     */
+    public Map<Long, ProveedorNotificacionDto> obtenerInfoProveedores(Collection<Long> idsProveedor) {
+        Map<Long, ProveedorNotificacionDto> proveedores = new HashMap<>();
+        List<Long> faltantes = new ArrayList<>();
+        for (Long id : idsProveedor) {
+            directorioProveedorService.buscar(id).ifPresentOrElse(p -> proveedores.put(id, p), () -> faltantes.add(id));
+        }
+        if (!"grpc".equalsIgnoreCase(transport) || faltantes.isEmpty()) {
+            return proveedores;
+        }
+        try {
+            Map<Long, ProveedorNotificacionDto> remotos = supplierGrpcClient.resolverProveedores(faltantes);
+            remotos.values().forEach(proveedorInfoCache::put);
+            proveedores.putAll(remotos);
+        } catch (Exception e) {
+            log.warn("⚠️ ResolveProveedores falló, se consultará cada proveedor por REST: {}", e.getMessage());
+        }
+        return proveedores;
+    }
+
+    private ProveedorNotificacionDto llamar(Long idProveedor) {
+        ResponseEntity<ProveedorNotificacionDto> response = supplierServiceClient.obtenerInfoProveedor(idProveedor);
+        if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
+            return response.getBody();
+        }
+        throw new NotificationServiceException("supplier-service devolvió estado " + response.getStatusCode()
+                + " para el proveedor " + idProveedor);
+    }
+
+    /**
+     * Si la primera petición no responde en hedgingDelayMs se lanza una segunda y gana la primera que termine bien.
+     * Solo es seguro porque la consulta es idempotente.
+     */
+    private ProveedorNotificacionDto llamarConHedge(Long idProveedor) {
+        CompletableFuture<ProveedorNotificacionDto> primaria =
+                CompletableFuture.supplyAsync(() -> llamar(idProveedor), hedgingExecutor);
+        try {
+            return primaria.get(hedgingDelayMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            hedgesLanzados.increment();
+            CompletableFuture<ProveedorNotificacionDto> hedge =
+                    CompletableFuture.supplyAsync(() -> llamar(idProveedor), hedgingExecutor);
+
+            CompletableFuture<ProveedorNotificacionDto> ganadora = new CompletableFuture<>();
+            // Solo falla si fallan ambas: el contador evita depender del orden en que se ejecutan los callbacks
+            AtomicInteger fallos = new AtomicInteger();
+            BiConsumer<ProveedorNotificacionDto, Throwable> resolver = (proveedor, ex) -> {
+                if (ex == null) {
+                    ganadora.complete(proveedor);
+                } else if (fallos.incrementAndGet() == 2) {
+                    ganadora.completeExceptionally(ex);
+                }
+            };
+            primaria.whenComplete(resolver);
+            hedge.whenComplete(resolver);
+            return esperar(ganadora, idProveedor);
+        } catch (ExecutionException | InterruptedException e) {
+            return relanzar(e, idProveedor);
+        }
+    }
+
+    private ProveedorNotificacionDto esperar(CompletableFuture<ProveedorNotificacionDto> future, Long idProveedor) {
+        try {
+            return future.get();
+        } catch (ExecutionException | InterruptedException e) {
+            return relanzar(e, idProveedor);
+        }
+    }
+
+    private ProveedorNotificacionDto relanzar(Exception e, Long idProveedor) {
+        if (e instanceof InterruptedException) {
+            Thread.currentThread().interrupt();
+        }
+        Throwable causa = e.getCause() != null ? e.getCause() : e;
+        if (causa instanceof CompletionException && causa.getCause() != null) {
+            causa = causa.getCause();
+        }
+        if (causa instanceof RuntimeException runtime) {
+            throw runtime;
+        }
+        throw new NotificationServiceException("Error consultando proveedor " + idProveedor, causa);
+    }
+}
@@ -0,0 +1,14 @@
+-- ========================================
+-- V1: tabla original notificacion_pago
+-- IF NOT EXISTS: en la BD existente la tabla ya está creada
+-- ========================================
+
+CREATE TABLE IF NOT EXISTS notificacion_pago (
+    id_notificacion_pago SERIAL PRIMARY KEY,
+    id_proveedor         INTEGER      NOT NULL,
+    id_condicion_pago    INTEGER      NOT NULL,
+    fecha_vencimiento    DATE         NOT NULL,
+    fecha_notificacion   TIMESTAMP(6),
+    notificado           BOOLEAN      DEFAULT FALSE,
+    estado               VARCHAR(20)  DEFAULT 'Pendiente'
+);
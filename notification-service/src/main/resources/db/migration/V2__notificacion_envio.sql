@@ -0,0 +1,26 @@
+-- ========================================
+-- V2: notificacion_envio, un registro por notificación y umbral de notifications.dias-alerta
+-- Idempotente: la tabla pudo crearse antes con spring.sql.init
+-- ========================================
+
+CREATE TABLE IF NOT EXISTS notificacion_envio (
+    id_notificacion_envio INTEGER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    id_notificacion_pago  INTEGER      NOT NULL REFERENCES notificacion_pago (id_notificacion_pago) ON DELETE CASCADE,
+    dias_alerta           INTEGER      NOT NULL,
+    fecha_envio           DATE         NOT NULL,
+    notificado            BOOLEAN      NOT NULL DEFAULT FALSE,
+    fecha_notificacion    TIMESTAMP(6),
+    CONSTRAINT ux_notificacion_envio_fecha UNIQUE (id_notificacion_pago, fecha_envio)
+);
+
+-- "Qué enviar hoy": range scan sobre las filas aún no enviadas
+CREATE INDEX IF NOT EXISTS ix_notificacion_envio_pendientes
+    ON notificacion_envio (fecha_envio) WHERE notificado = FALSE;
+
+-- Notificaciones anteriores al modelo por umbral que siguen pendientes: un envío para hoy
+INSERT INTO notificacion_envio (id_notificacion_pago, dias_alerta, fecha_envio, notificado)
+SELECT n.id_notificacion_pago, n.fecha_vencimiento - CURRENT_DATE, CURRENT_DATE, FALSE
+FROM notificacion_pago n
+WHERE n.notificado = FALSE
+  AND NOT EXISTS (SELECT 1 FROM notificacion_envio e WHERE e.id_notificacion_pago = n.id_notificacion_pago)
+ON CONFLICT DO NOTHING;
@@ -0,0 +1,21 @@
+-- ========================================
+-- V3: índices para los accesos de NotificacionPagoRepository
+-- Verificados con EXPLAIN en NotificacionPagoQueryPlanTest
+-- ========================================
+
+-- findByNotificadoFalse, findByEstadoAndNotificadoFalse, countNotificacionesPendientesByProveedor:
+-- solo las filas pendientes (una fracción pequeña de la tabla)
+CREATE INDEX IF NOT EXISTS ix_notificacion_pago_pendientes
+    ON notificacion_pago (estado, id_proveedor) WHERE notificado = FALSE;
+
+-- findByIdProveedorOrderByFechaVencimientoAsc, findByIdProveedor: filtro + orden desde el índice
+CREATE INDEX IF NOT EXISTS ix_notificacion_pago_proveedor_vencimiento
+    ON notificacion_pago (id_proveedor, fecha_vencimiento);
+
+-- findProximasAVencer, findVencidas, findByFechaVencimiento*, findAllByOrderByFechaVencimientoAsc
+CREATE INDEX IF NOT EXISTS ix_notificacion_pago_vencimiento
+    ON notificacion_pago (fecha_vencimiento);
+
+-- findByIdProveedorAndIdCondicionPago (reconciliación diaria y eventos), findByIdCondicionPago
+CREATE INDEX IF NOT EXISTS ix_notificacion_pago_condicion
+    ON notificacion_pago (id_condicion_pago, id_proveedor);
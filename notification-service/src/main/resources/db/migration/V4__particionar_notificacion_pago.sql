@@ -0,0 +1,68 @@
+-- ========================================
+-- V4: notificacion_pago particionada por mes de fecha_vencimiento
+-- La limpieza semanal crea los meses futuros y archiva/elimina los antiguos
+-- (NotificacionArchivoService). Idempotente: no hace nada si ya está particionada.
+-- ========================================
+
+DO $$
+DECLARE
+    mes        DATE;
+    ultimo_mes DATE := date_trunc('month', CURRENT_DATE + INTERVAL '12 months')::date;
+BEGIN
+    IF EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = 'notificacion_pago'::regclass) THEN
+        RETURN;
+    END IF;
+
+    -- Una FK hacia una tabla particionada tendría que incluir fecha_vencimiento;
+    -- los envíos huérfanos se limpian en el job semanal
+    ALTER TABLE notificacion_envio DROP CONSTRAINT IF EXISTS notificacion_envio_id_notificacion_pago_fkey;
+
+    ALTER TABLE notificacion_pago RENAME TO notificacion_pago_legacy;
+    ALTER INDEX IF EXISTS notificacion_pago_pkey RENAME TO notificacion_pago_legacy_pkey;
+
+    CREATE SEQUENCE IF NOT EXISTS notificacion_pago_id_seq AS INTEGER;
+    PERFORM setval('notificacion_pago_id_seq',
+                   COALESCE((SELECT max(id_notificacion_pago) FROM notificacion_pago_legacy), 0) + 1, false);
+
+    CREATE TABLE notificacion_pago (
+        id_notificacion_pago INTEGER      NOT NULL DEFAULT nextval('notificacion_pago_id_seq'),
+        id_proveedor         INTEGER      NOT NULL,
+        id_condicion_pago    INTEGER      NOT NULL,
+        fecha_vencimiento    DATE         NOT NULL,
+        fecha_notificacion   TIMESTAMP(6),
+        notificado           BOOLEAN      DEFAULT FALSE,
+        estado               VARCHAR(20)  DEFAULT 'Pendiente',
+        PRIMARY KEY (id_notificacion_pago, fecha_vencimiento)
+    ) PARTITION BY RANGE (fecha_vencimiento);
+
+    ALTER SEQUENCE notificacion_pago_id_seq OWNED BY notificacion_pago.id_notificacion_pago;
+
+    -- Meses con datos hasta 12 meses hacia adelante; lo que quede fuera cae en la DEFAULT
+    mes := COALESCE((SELECT date_trunc('month', min(fecha_vencimiento))::date FROM notificacion_pago_legacy),
+                    date_trunc('month', CURRENT_DATE)::date);
+    WHILE mes <= ultimo_mes LOOP
+        EXECUTE format('CREATE TABLE %I PARTITION OF notificacion_pago FOR VALUES FROM (%L) TO (%L)',
+                       'notificacion_pago_p' || to_char(mes, 'YYYYMM'), mes, (mes + INTERVAL '1 month')::date);
+        mes := (mes + INTERVAL '1 month')::date;
+    END LOOP;
+    CREATE TABLE notificacion_pago_default PARTITION OF notificacion_pago DEFAULT;
+
+    INSERT INTO notificacion_pago (id_notificacion_pago, id_proveedor, id_condicion_pago, fecha_vencimiento,
+                                   fecha_notificacion, notificado, estado)
+    SELECT id_notificacion_pago, id_proveedor, id_condicion_pago, fecha_vencimiento,
+           fecha_notificacion, notificado, estado
+    FROM notificacion_pago_legacy;
+
+    DROP TABLE notificacion_pago_legacy;
+END
+$$;
+
+-- Índices de V3, ahora definidos sobre la tabla particionada (se propagan a cada partición)
+CREATE INDEX IF NOT EXISTS ix_notificacion_pago_pendientes
+    ON notificacion_pago (estado, id_proveedor) WHERE notificado = FALSE;
+CREATE INDEX IF NOT EXISTS ix_notificacion_pago_proveedor_vencimiento
+    ON notificacion_pago (id_proveedor, fecha_vencimiento);
+CREATE INDEX IF NOT EXISTS ix_notificacion_pago_vencimiento
+    ON notificacion_pago (fecha_vencimiento);
+CREATE INDEX IF NOT EXISTS ix_notificacion_pago_condicion
+    ON notificacion_pago (id_condicion_pago, id_proveedor);
@@ -0,0 +1,12 @@
+-- ========================================
+-- V5: índices para la paginación keyset de notificacionesConnection
+-- ORDER BY (fecha_vencimiento, id_notificacion_pago); reemplazan a los de V3 de los que son superconjunto
+-- ========================================
+
+CREATE INDEX IF NOT EXISTS ix_notificacion_pago_vencimiento_id
+    ON notificacion_pago (fecha_vencimiento, id_notificacion_pago);
+DROP INDEX IF EXISTS ix_notificacion_pago_vencimiento;
+
+CREATE INDEX IF NOT EXISTS ix_notificacion_pago_proveedor_vencimiento_id
+    ON notificacion_pago (id_proveedor, fecha_vencimiento, id_notificacion_pago);
+DROP INDEX IF EXISTS ix_notificacion_pago_proveedor_vencimiento;
@@ -0,0 +1,12 @@
+-- ========================================
+-- V6: réplica local del directorio de proveedores de supplier-service
+-- Sincronizada por DirectorioProveedorService (snapshot periódico + eventos de CondicionPago)
+-- ========================================
+
+CREATE TABLE IF NOT EXISTS directorio_proveedor (
+    id_proveedor     BIGINT       PRIMARY KEY,
+    nombre           VARCHAR(100),
+    email            VARCHAR(150),
+    activo           BOOLEAN,
+    sincronizado_en  TIMESTAMP(6) NOT NULL
+);
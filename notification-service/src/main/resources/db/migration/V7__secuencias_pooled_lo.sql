@@ -0,0 +1,10 @@
+-- ========================================
+-- V7: secuencias de id con incremento 50 para los generadores pooled-lo de Hibernate
+-- Los ids existentes no cambian y el siguiente bloque empieza por encima del último asignado.
+-- Las columnas conservan su DEFAULT: cada nextval reserva un bloque completo, así los
+-- INSERT ... SELECT sin id no chocan con los ids que Hibernate tiene en memoria.
+-- ========================================
+
+ALTER SEQUENCE notificacion_pago_id_seq INCREMENT BY 50;
+
+ALTER TABLE notificacion_envio ALTER COLUMN id_notificacion_envio SET INCREMENT BY 50;
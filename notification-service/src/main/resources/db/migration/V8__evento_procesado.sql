@@ -0,0 +1,15 @@
+-- ========================================
+-- V8: eventos de CondicionPago ya aplicados (idempotencia de CondicionPagoEventListener)
+-- Un evento llega por NOTIFY y puede volver a leerse del outbox: su id se registra en la
+-- misma transacción que lo aplica. La condición permite descartar un evento anterior a
+-- otro ya aplicado de la misma condición.
+-- ========================================
+
+CREATE TABLE IF NOT EXISTS evento_procesado (
+    id_evento          BIGINT       PRIMARY KEY,
+    id_condicion_pago  BIGINT       NOT NULL,
+    procesado_en       TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS ix_evento_procesado_condicion
+    ON evento_procesado (id_condicion_pago, id_evento);
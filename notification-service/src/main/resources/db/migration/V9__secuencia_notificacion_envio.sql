@@ -0,0 +1,31 @@
+-- ========================================
+-- V9: id de notificacion_envio con una secuencia propia en lugar de IDENTITY
+-- La secuencia interna de una columna IDENTITY no aparece en information_schema.sequences,
+-- así que la validación de esquema de Hibernate no la encuentra para el generador pooled-lo.
+-- Se conserva el nombre, el incremento de 50 y la posición de la secuencia (no solo el
+-- máximo id: Hibernate puede tener reservado en memoria el bloque ya entregado).
+-- Idempotente: no hace nada si la columna ya no es IDENTITY.
+-- ========================================
+
+DO $$
+DECLARE
+    ultimo   BIGINT;
+    llamada  BOOLEAN;
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM information_schema.columns
+                   WHERE table_name = 'notificacion_envio' AND column_name = 'id_notificacion_envio'
+                     AND is_identity = 'YES') THEN
+        RETURN;
+    END IF;
+
+    SELECT last_value, is_called INTO ultimo, llamada FROM notificacion_envio_id_notificacion_envio_seq;
+
+    ALTER TABLE notificacion_envio ALTER COLUMN id_notificacion_envio DROP IDENTITY;
+
+    CREATE SEQUENCE notificacion_envio_id_notificacion_envio_seq AS INTEGER INCREMENT BY 50
+        OWNED BY notificacion_envio.id_notificacion_envio;
+    PERFORM setval('notificacion_envio_id_notificacion_envio_seq', ultimo, llamada);
+
+    ALTER TABLE notificacion_envio ALTER COLUMN id_notificacion_envio
+        SET DEFAULT nextval('notificacion_envio_id_notificacion_envio_seq');
+END $$;
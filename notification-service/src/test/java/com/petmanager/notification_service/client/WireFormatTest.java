@@ -0,0 +1,49 @@
+package com.petmanager.notification_service.client;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.petmanager.notification_service.config.EpochDayModule;
+import com.petmanager.notification_service.dto.CondicionPagoVencimientoDto;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Ida y vuelta de la lista de condiciones próximas a vencer en JSON (fechas ISO) y en CBOR (epoch-day).
+ * Tamaño y tiempos: benchmarks/WireFormatBenchmark.
+ */
+class WireFormatTest {
+
+    @Test
+    void jsonYCborConservanLasCondiciones() throws Exception {
+        ObjectMapper json = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        ObjectMapper cbor = CBORMapper.builder().addModule(new EpochDayModule()).build();
+
+        List<CondicionPagoVencimientoDto> condiciones = generarCondiciones(1_000);
+        JavaType tipo = json.getTypeFactory().constructCollectionType(List.class, CondicionPagoVencimientoDto.class);
+
+        assertEquals(condiciones, json.readValue(json.writeValueAsBytes(condiciones), tipo));
+        assertEquals(condiciones, cbor.readValue(cbor.writeValueAsBytes(condiciones), tipo));
+    }
+
+    private static List<CondicionPagoVencimientoDto> generarCondiciones(int filas) {
+        LocalDate hoy = LocalDate.now();
+        List<CondicionPagoVencimientoDto> condiciones = new ArrayList<>(filas);
+        for (long i = 1; i <= filas; i++) {
+            long proveedor = i % 500 + 1;
+            condiciones.add(new CondicionPagoVencimientoDto(
+                    i, proveedor, "Proveedor " + proveedor, "proveedor" + proveedor + "@example.com",
+                    1L, 30, hoy.minusDays(30), hoy.plusDays(i % 8), "Condición de pago " + i, (int) (i % 8)));
+        }
+        return condiciones;
+    }
+}
@@ -0,0 +1,124 @@
+package com.petmanager.notification_service.graphql;
+
+import com.petmanager.notification_service.exception.GraphQlExceptionHandler;
+import com.petmanager.notification_service.model.NotificacionPago;
+import com.petmanager.notification_service.repository.NotificacionEnvioRepository;
+import com.petmanager.notification_service.repository.NotificacionPagoRepository;
+import com.petmanager.notification_service.service.EmailService;
+import com.petmanager.notification_service.service.NotificacionPagoService;
+import com.petmanager.notification_service.service.ProveedorInfoService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.graphql.GraphQlTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.graphql.execution.ErrorType;
+import org.springframework.graphql.test.tester.GraphQlTester;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@GraphQlTest(NotificacionResolver.class)
+@Import(GraphQlExceptionHandler.class)
+class NotificacionResolverTest {
+
+    @Autowired
+    private GraphQlTester graphQlTester;
+
+    @MockitoBean
+    private NotificacionPagoService notificacionPagoService;
+
+    @MockitoBean
+    private ProveedorInfoService proveedorInfoService;
+
+    @MockitoBean
+    private NotificacionPagoRepository notificacionPagoRepository;
+
+    @MockitoBean
+    private NotificacionEnvioRepository notificacionEnvioRepository;
+
+    @MockitoBean
+    private EmailService emailService;
+
+    // ==============================================
+    // notificacionesConnection: errores del cliente
+    // ==============================================
+
+    @Test
+    void cursorInvalidoEsBadRequest() {
+        when(notificacionPagoService.buscarNotificaciones(anyInt(), eq("no-es-un-cursor"), any(), any(), any(), any(),
+                anyBoolean())).thenThrow(new IllegalArgumentException("Cursor inválido: no-es-un-cursor"));
+
+        graphQlTester.document("{ notificacionesConnection(after: \"no-es-un-cursor\") { pageInfo { hasNextPage } } }")
+                .execute()
+                .errors()
+                .satisfy(errores -> {
+                    assertThat(errores).hasSize(1);
+                    assertThat(errores.get(0).getErrorType()).isEqualTo(ErrorType.BAD_REQUEST);
+                    assertThat(errores.get(0).getMessage()).contains("Cursor inválido");
+                    assertThat(errores.get(0).getExtensions()).containsEntry("errorCode", "INVALID_INPUT");
+                });
+    }
+
+    @Test
+    void fechaInvalidaEsBadRequestSinLlegarAlServicio() {
+        graphQlTester.document("{ notificacionesConnection(desde: \"31/12/2025\") { pageInfo { hasNextPage } } }")
+                .execute()
+                .errors()
+                .satisfy(errores -> {
+                    assertThat(errores).hasSize(1);
+                    assertThat(errores.get(0).getErrorType()).isEqualTo(ErrorType.BAD_REQUEST);
+                    assertThat(errores.get(0).getMessage()).contains("31/12/2025");
+                });
+
+        verifyNoInteractions(notificacionPagoService);
+    }
+
+    // ==============================================
+    // Enriquecimiento en lote según la selección
+    // ==============================================
+
+    @Test
+    void pendientesSinCamposDeProveedorNoPidenProveedores() {
+        when(notificacionPagoService.obtenerNotificacionesPendientes(false)).thenReturn(List.of(notificacion()));
+
+        graphQlTester.document("{ getNotificacionesPendientes { idNotificacionPago estado } }")
+                .execute()
+                .path("getNotificacionesPendientes[0].estado").entity(String.class).isEqualTo("Pendiente");
+
+        verify(notificacionPagoService).obtenerNotificacionesPendientes(false);
+    }
+
+    @Test
+    void porProveedorConNombreResuelveProveedoresEnLote() {
+        NotificacionPago notificacion = notificacion();
+        notificacion.setNombreProveedor("Acme");
+        when(notificacionPagoService.obtenerNotificacionesPorProveedor(7, true)).thenReturn(List.of(notificacion));
+
+        graphQlTester.document("{ getNotificacionesByProveedor(idProveedor: 7) { nombreProveedor } }")
+                .execute()
+                .path("getNotificacionesByProveedor[0].nombreProveedor").entity(String.class).isEqualTo("Acme");
+
+        verify(notificacionPagoService).obtenerNotificacionesPorProveedor(7, true);
+    }
+
+    private static NotificacionPago notificacion() {
+        NotificacionPago notificacion = new NotificacionPago();
+        notificacion.setIdNotificacionPago(1);
+        notificacion.setIdProveedor(7);
+        notificacion.setIdCondicionPago(70);
+        notificacion.setFechaVencimiento(LocalDate.now().plusDays(3));
+        notificacion.setNotificado(false);
+        notificacion.setEstado("Pendiente");
+        return notificacion;
+    }
+}
@@ -0,0 +1,254 @@
+package com.petmanager.notification_service.repository;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.petmanager.notification_service.model.NotificacionPago;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Regresión de planes de ejecución sobre el SQL que genera Hibernate para NotificacionPagoRepository
+ * y NotificacionEnvioRepository: se ejecuta cada método, se captura su sentencia con un
+ * StatementInspector y se pasa por EXPLAIN con los mismos parámetros (PREPARE + EXPLAIN EXECUTE).
+ *
+ * Las migraciones de Flyway se aplican sobre un Postgres real con datos parecidos a producción
+ * (pocas filas pendientes) y estadísticas al día (ANALYZE), con el planner sin restricciones:
+ * el test comprueba qué índice elige, no solo que evite Seq Scan. Los índices de las particiones
+ * se traducen a su índice padre para comparar con los nombres de las migraciones.
+ * Las lecturas completas (findAll*) no se comprueban: ahí el Seq Scan es el plan correcto.
+ * Requiere Docker; sin él el test se omite.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.petmanager.notification_service.repository.NotificacionPagoQueryPlanTest$SqlCapturado")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Testcontainers(disabledWithoutDocker = true)
+class NotificacionPagoQueryPlanTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    /**
+     * Guarda cada sentencia que Hibernate envía a JDBC
+     */
+    public static class SqlCapturado implements StatementInspector {
+        static final List<String> SENTENCIAS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            SENTENCIAS.add(sql);
+            return sql;
+        }
+    }
+
+    private static boolean datosCargados;
+
+    private static final LocalDate HOY = LocalDate.now();
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    @Autowired
+    private NotificacionPagoRepository notificacionPagoRepository;
+
+    @Autowired
+    private NotificacionEnvioRepository notificacionEnvioRepository;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    private String plan;
+
+    @BeforeEach
+    void cargarDatos() {
+        if (!datosCargados) {
+            // 200k notificaciones, ~2% pendientes, 500 proveedores
+            jdbc.execute("""
+                    INSERT INTO notificacion_pago (id_proveedor, id_condicion_pago, fecha_vencimiento,
+                                                   fecha_notificacion, notificado, estado)
+                    SELECT g % 500, g, CURRENT_DATE - 365 + (g % 730), now(),
+                           g % 50 <> 0, CASE WHEN g % 50 = 0 THEN 'Pendiente' ELSE 'Enviada' END
+                    FROM generate_series(1, 200000) g
+                    """);
+            jdbc.execute("""
+                    INSERT INTO notificacion_envio (id_notificacion_pago, dias_alerta, fecha_envio, notificado)
+                    SELECT n.id_notificacion_pago, d, n.fecha_vencimiento - d, n.fecha_vencimiento - d >= CURRENT_DATE
+                    FROM notificacion_pago n CROSS JOIN (VALUES (7), (3), (1), (0)) AS dias(d)
+                    ON CONFLICT DO NOTHING
+                    """);
+            jdbc.execute("ANALYZE notificacion_pago");
+            jdbc.execute("ANALYZE notificacion_envio");
+            datosCargados = true;
+        }
+        SqlCapturado.SENTENCIAS.clear();
+    }
+
+    // ==============================================
+    // NotificacionPagoRepository
+    // ==============================================
+
+    @Test
+    void findByNotificadoFalse() {
+        notificacionPagoRepository.findByNotificadoFalse();
+        usaIndice("ix_notificacion_pago_pendientes");
+    }
+
+    @Test
+    void findByEstadoAndNotificadoFalse() {
+        notificacionPagoRepository.findByEstadoAndNotificadoFalse("Pendiente");
+        usaIndice("ix_notificacion_pago_pendientes", "Pendiente");
+    }
+
+    @Test
+    void countNotificacionesPendientesByProveedor() {
+        notificacionPagoRepository.countNotificacionesPendientesByProveedor(0);
+        usaIndice("ix_notificacion_pago_pendientes", 0);
+    }
+
+    @Test
+    void findByIdProveedorOrderByFechaVencimientoAsc() {
+        notificacionPagoRepository.findByIdProveedorOrderByFechaVencimientoAsc(42);
+        usaIndice("ix_notificacion_pago_proveedor_vencimiento_id", 42);
+    }
+
+    @Test
+    void findByIdProveedorAndIdCondicionPago() {
+        notificacionPagoRepository.findByIdProveedorAndIdCondicionPago(42, 1042);
+        usaIndice("ix_notificacion_pago_condicion", 42, 1042);
+    }
+
+    @Test
+    void findProximasAVencer() {
+        notificacionPagoRepository.findProximasAVencer(HOY, HOY.plusDays(7));
+        usaIndice("ix_notificacion_pago_vencimiento_id", HOY, HOY.plusDays(7));
+    }
+
+    @Test
+    void notificacionesConnectionKeyset() {
+        // Mismos filtros y orden que NotificacionPagoService.buscarNotificaciones
+        paginaKeyset(null);
+        usaIndice("ix_notificacion_pago_vencimiento_id", HOY, HOY, HOY, 1000, 21);
+    }
+
+    @Test
+    void notificacionesConnectionKeysetPorProveedor() {
+        paginaKeyset(42);
+        usaIndice("ix_notificacion_pago_proveedor_vencimiento_id", 42, HOY, HOY, HOY, 1000, 21);
+    }
+
+    // ==============================================
+    // NotificacionEnvioRepository
+    // ==============================================
+
+    @Test
+    void findPendientesEntre() {
+        notificacionEnvioRepository.findPendientesEntre(HOY.minusDays(1), HOY);
+        usaIndice("ix_notificacion_envio_pendientes", HOY.minusDays(1), HOY);
+    }
+
+    // ==============================================
+    // EXPLAIN del SQL capturado
+    // ==============================================
+
+    private void paginaKeyset(Integer idProveedor) {
+        Specification<NotificacionPago> filtro = Specification.allOf(
+                NotificacionPagoSpecifications.conEstado(null),
+                NotificacionPagoSpecifications.deProveedor(idProveedor),
+                NotificacionPagoSpecifications.venceDesde(null),
+                NotificacionPagoSpecifications.venceHasta(null),
+                NotificacionPagoSpecifications.despuesDe(HOY, 1000));
+        notificacionPagoRepository.findBy(filtro,
+                q -> q.sortBy(Sort.by("fechaVencimiento", "idNotificacionPago")).limit(21).all());
+    }
+
+    private void usaIndice(String indice, Object... parametros) {
+        Set<String> indices = indicesUsados(parametros);
+        assertThat(indices).as("índices de %s%nplan: %s", SqlCapturado.SENTENCIAS.get(0), plan).contains(indice);
+    }
+
+    /**
+     * Índices (padre, no de partición) del plan de la única sentencia capturada,
+     * con los parámetros en el orden en que Hibernate los enlaza
+     */
+    private Set<String> indicesUsados(Object... parametros) {
+        assertThat(SqlCapturado.SENTENCIAS).hasSize(1);
+        String sql = SqlCapturado.SENTENCIAS.get(0);
+
+        StringBuilder preparada = new StringBuilder();
+        int n = 0;
+        for (char c : sql.toCharArray()) {
+            if (c == '?') {
+                preparada.append('$').append(++n);
+            } else {
+                preparada.append(c);
+            }
+        }
+        assertThat(n).as("parámetros de: %s", sql).isEqualTo(parametros.length);
+        String argumentos = parametros.length == 0 ? "" : List.of(parametros).stream()
+                .map(p -> "'" + p + "'")
+                .collect(Collectors.joining(", ", "(", ")"));
+
+        plan = jdbc.execute((ConnectionCallback<String>) con -> {
+            try (Statement st = con.createStatement()) {
+                st.execute("PREPARE consulta AS " + preparada);
+                try (ResultSet rs = st.executeQuery("EXPLAIN (FORMAT JSON) EXECUTE consulta" + argumentos)) {
+                    rs.next();
+                    return rs.getString(1);
+                } finally {
+                    st.execute("DEALLOCATE consulta");
+                }
+            }
+        });
+
+        List<String> indices = new ArrayList<>();
+        try {
+            recogerIndices(JSON.readTree(plan), indices);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        Set<String> padres = new TreeSet<>();
+        for (String indice : indices) {
+            padres.add(jdbc.queryForObject("SELECT COALESCE(pg_partition_root(?::regclass), ?::regclass)::text", String.class, indice, indice));
+        }
+        return padres;
+    }
+
+    private static void recogerIndices(JsonNode nodo, List<String> indices) {
+        if (nodo.has("Index Name")) {
+            indices.add(nodo.get("Index Name").asText());
+        }
+        nodo.forEach(hijo -> recogerIndices(hijo, indices));
+    }
+}
@@ -0,0 +1,73 @@
+package com.petmanager.notification_service.service;
+
+import com.petmanager.notification_service.client.ProveedorInfoCache;
+import com.petmanager.notification_service.client.SupplierServiceClient;
+import com.petmanager.notification_service.dto.ProveedorNotificacionDto;
+import com.petmanager.notification_service.exception.NotificationServiceException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ProveedorInfoServiceTest {
+
+    private static final long ID = 7L;
+
+    private final SupplierServiceClient supplierServiceClient = mock(SupplierServiceClient.class);
+    private final DirectorioProveedorService directorio = mock(DirectorioProveedorService.class);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private ProveedorInfoService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ProveedorInfoService(registry);
+        ReflectionTestUtils.setField(service, "supplierServiceClient", supplierServiceClient);
+        ReflectionTestUtils.setField(service, "proveedorInfoCache", mock(ProveedorInfoCache.class));
+        ReflectionTestUtils.setField(service, "directorioProveedorService", directorio);
+        ReflectionTestUtils.setField(service, "hedgingEnabled", true);
+        ReflectionTestUtils.setField(service, "hedgingDelayMs", 50L);
+        when(directorio.buscar(anyLong())).thenReturn(Optional.empty());
+    }
+
+    @Test
+    void primariaLentaQueFallaYHedgeQueRespondeDevuelveElHedge() {
+        ProveedorNotificacionDto proveedor = new ProveedorNotificacionDto(ID, "Acme", "acme@test.com", true);
+        AtomicInteger llamadas = new AtomicInteger();
+        when(supplierServiceClient.obtenerInfoProveedor(ID)).thenAnswer(inv -> {
+            if (llamadas.incrementAndGet() == 1) {
+                Thread.sleep(100);
+                throw new IllegalStateException("primaria caída");
+            }
+            Thread.sleep(150);
+            return ResponseEntity.ok(proveedor);
+        });
+
+        for (int i = 0; i < 10; i++) {
+            llamadas.set(0);
+            assertThat(service.obtenerInfoProveedor(ID)).isEqualTo(proveedor);
+        }
+        assertThat(registry.counter("supplier.client.hedged.requests").count()).isEqualTo(10);
+    }
+
+    @Test
+    void fallaSoloCuandoFallanPrimariaYHedge() {
+        when(supplierServiceClient.obtenerInfoProveedor(ID)).thenAnswer(inv -> {
+            Thread.sleep(100);
+            return ResponseEntity.internalServerError().build();
+        });
+
+        assertThatThrownBy(() -> service.obtenerInfoProveedor(ID))
+                .isInstanceOf(NotificationServiceException.class)
+                .hasMessageContaining("proveedor " + ID);
+    }
+}
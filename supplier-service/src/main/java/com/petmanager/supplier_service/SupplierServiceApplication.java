@@ -2,8 +2,10 @@ package com.petmanager.supplier_service;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling    // Relay del outbox de eventos
 public class SupplierServiceApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,22 @@
+package com.petmanager.supplier_service.config;
+
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+
+/**
+ * Formato binario CBOR para la API REST interna (/api) consumida por notification-service.
+ * Se negocia con Accept: application/cbor; sin esa cabecera se sigue respondiendo JSON.
+ */
+@Configuration
+public class CborConfig {
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter() {
+        CBORMapper mapper = CBORMapper.builder()
+                .addModule(new EpochDayModule())
+                .build();
+        return new MappingJackson2CborHttpMessageConverter(mapper);
+    }
+}
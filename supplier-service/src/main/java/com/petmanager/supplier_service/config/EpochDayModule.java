@@ -0,0 +1,39 @@
+package com.petmanager.supplier_service.config;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.time.LocalDate;
+
+/**
+ * LocalDate como entero de días desde 1970-01-01 (epoch-day) en el formato binario.
+ * Al leer también acepta la fecha ISO por compatibilidad.
+ */
+public class EpochDayModule extends SimpleModule {
+
+    public EpochDayModule() {
+        super("EpochDayModule");
+        addSerializer(LocalDate.class, new StdSerializer<>(LocalDate.class) {
+            @Override
+            public void serialize(LocalDate value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+                gen.writeNumber(value.toEpochDay());
+            }
+        });
+        addDeserializer(LocalDate.class, new StdDeserializer<>(LocalDate.class) {
+            @Override
+            public LocalDate deserialize(JsonParser parser, DeserializationContext ctxt) throws IOException {
+                if (parser.currentToken() == JsonToken.VALUE_NUMBER_INT) {
+                    return LocalDate.ofEpochDay(parser.getLongValue());
+                }
+                return LocalDate.parse(parser.getValueAsString());
+            }
+        });
+    }
+}
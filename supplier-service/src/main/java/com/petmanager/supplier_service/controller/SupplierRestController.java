@@ -1,27 +1,28 @@
 package com.petmanager.supplier_service.controller;
 
 import com.petmanager.supplier_service.dto.CondicionPagoVencimientoDto;
+import com.petmanager.supplier_service.dto.DirectorioProveedoresDto;
 import com.petmanager.supplier_service.dto.ProveedorNotificacionDto;
-import com.petmanager.supplier_service.model.CondicionPago;
-import com.petmanager.supplier_service.repository.CondicionPagoRepository;
+import com.petmanager.supplier_service.service.CondicionPagoService;
 import com.petmanager.supplier_service.service.ProveedorService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.time.LocalDate;
 import java.util.List;
 import java.util.stream.Collectors;
 
 /**
  * REST Controller para comunicación entre microservicios
+ * Responde JSON o CBOR según la cabecera Accept (ver CborConfig)
  */
 @RestController
-@RequestMapping("/api")
+@RequestMapping(value = "/api", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE})
 public class SupplierRestController {
 
     @Autowired
-    private CondicionPagoRepository condicionPagoRepository;
+    private CondicionPagoService condicionPagoService;
 
     @Autowired
     private ProveedorService proveedorService;
@@ -42,31 +43,8 @@ public class SupplierRestController {
                     .map(Integer::parseInt)
                     .collect(Collectors.toList());
 
-            // Obtener todas las condiciones directamente del repository
-            LocalDate hoy = LocalDate.now();
-            List<CondicionPago> todasCondiciones = condicionPagoRepository.findAll();
-
-            // Filtrar por fechas próximas a vencer
-            List<CondicionPagoVencimientoDto> condicionesProximas = todasCondiciones.stream()
-                    .filter(c -> c.getFechaFin() != null && c.getProveedor() != null)
-                    .filter(c -> c.getProveedor().getActivo()) // Solo proveedores activos
-                    .map(c -> {
-                        long diasRestantes = java.time.temporal.ChronoUnit.DAYS.between(hoy, c.getFechaFin());
-                        return new CondicionPagoVencimientoDto(
-                                c.getIdCondicionPago(),
-                                c.getProveedor().getIdProveedor(),
-                                c.getProveedor().getNombre(),
-                                c.getProveedor().getEmail(),
-                                c.getIdUsuario(),
-                                c.getDiasCredito(),
-                                c.getFechaInicio(),
-                                c.getFechaFin(),
-                                c.getNota(),
-                                (int) diasRestantes
-                        );
-                    })
-                    .filter(dto -> diasAlerta.contains(dto.getDiasRestantes()))
-                    .collect(Collectors.toList());
+            // Solo las condiciones que vencen en los días pedidos (filtrado en la base de datos)
+            List<CondicionPagoVencimientoDto> condicionesProximas = condicionPagoService.obtenerProximasAVencer(diasAlerta);
 
             return ResponseEntity.ok(condicionesProximas);
 
@@ -95,10 +73,20 @@ public class SupplierRestController {
         }
     }
 
+    /**
+     * Directorio completo de proveedores (id, nombre, email, activo) para la réplica local
+     * de notification-service. Con ?version= igual a la actual no se reenvía la lista.
+     */
+    @GetMapping("/proveedores/directorio")
+    public ResponseEntity<DirectorioProveedoresDto> obtenerDirectorio(
+            @RequestParam(value = "version", required = false) String version) {
+        return ResponseEntity.ok(proveedorService.getDirectorio(version));
+    }
+
     /**
      * Health check para el notification-service
      */
-    @GetMapping("/health")
+    @GetMapping(value = "/health", produces = MediaType.TEXT_PLAIN_VALUE)
     public ResponseEntity<String> health() {
         return ResponseEntity.ok("Supplier Service REST API OK");
     }
@@ -0,0 +1,34 @@
+package com.petmanager.supplier_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Payload de los eventos de CondicionPago publicados en el canal condicion_pago_eventos
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CondicionPagoEvento {
+    public static final String CREADA = "CONDICION_PAGO_CREADA";
+    public static final String ACTUALIZADA = "CONDICION_PAGO_ACTUALIZADA";
+    public static final String ELIMINADA = "CONDICION_PAGO_ELIMINADA";
+
+    private Long idEvento;
+    private String tipo;
+    private Long idCondicionPago;
+    private Long idProveedor;
+    private String nombreProveedor;
+    private String emailProveedor;
+    private Boolean proveedorActivo;
+    private Long idUsuario;
+    private Integer diasCredito;
+    private LocalDate fechaInicio;
+    private LocalDate fechaFin;
+    private String nota;
+}
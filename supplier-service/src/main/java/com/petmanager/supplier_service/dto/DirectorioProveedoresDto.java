@@ -0,0 +1,20 @@
+package com.petmanager.supplier_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Snapshot del directorio de proveedores que replica notification-service.
+ * Si la versión enviada por el cliente coincide, proveedores va vacío y sinCambios = true.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DirectorioProveedoresDto {
+    private String version;
+    private boolean sinCambios;
+    private List<ProveedorNotificacionDto> proveedores;
+}
@@ -0,0 +1,21 @@
+package com.petmanager.supplier_service.exception;
+
+import java.util.List;
+
+/**
+ * Reglas de negocio incumplidas por una entrada cuyos datos son válidos, recogidas en una sola pasada.
+ * Sigue clasificándose como BUSINESS_VALIDATION_ERROR; con una única regla el mensaje es esa regla.
+ */
+public class BusinessValidationErrorsException extends BusinessValidationException {
+
+    private final List<String> errores;
+
+    public BusinessValidationErrorsException(List<String> errores) {
+        super(ValidationErrorsException.mensaje(errores));
+        this.errores = List.copyOf(errores);
+    }
+
+    public List<String> getErrores() {
+        return errores;
+    }
+}
@@ -53,6 +53,9 @@ public class GlobalExceptionHandler extends DataFetcherExceptionResolverAdapter
             extensions.put("errorCode", errorCode);
             extensions.put("suggestion", "Revise las reglas de negocio aplicables");
             extensions.put("severity", "MEDIUM");
+            if (ex instanceof BusinessValidationErrorsException reglas) {
+                extensions.put("errores", reglas.getErrores());
+            }
 
         } else if (ex instanceof InvalidDataException) {
             errorType = ErrorType.BAD_REQUEST;
@@ -61,6 +64,10 @@ public class GlobalExceptionHandler extends DataFetcherExceptionResolverAdapter
             extensions.put("errorCode", errorCode);
             extensions.put("suggestion", "Verifique que todos los campos tengan valores válidos");
             extensions.put("severity", "HIGH");
+            if (ex instanceof ValidationErrorsException validacion) {
+                // Todos los errores de la entrada, no solo el primero
+                extensions.put("errores", validacion.getErrores());
+            }
 
         } else if (ex instanceof IllegalArgumentException) {
             errorType = ErrorType.BAD_REQUEST;
@@ -0,0 +1,27 @@
+package com.petmanager.supplier_service.exception;
+
+import java.util.List;
+
+/**
+ * Todos los errores de validación de una entrada, recogidos en una sola pasada.
+ * Con un único error el mensaje es ese error, igual que un InvalidDataException normal.
+ */
+public class ValidationErrorsException extends InvalidDataException {
+
+    private final List<String> errores;
+
+    public ValidationErrorsException(List<String> errores) {
+        super(mensaje(errores));
+        this.errores = List.copyOf(errores);
+    }
+
+    static String mensaje(List<String> errores) {
+        return errores.size() == 1
+                ? errores.get(0)
+                : "Se encontraron " + errores.size() + " errores de validación: " + String.join("; ", errores);
+    }
+
+    public List<String> getErrores() {
+        return errores;
+    }
+}
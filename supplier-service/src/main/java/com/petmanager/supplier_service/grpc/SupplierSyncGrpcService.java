@@ -0,0 +1,165 @@
+package com.petmanager.supplier_service.grpc;
+
+import com.petmanager.supplier_service.dto.CondicionPagoVencimientoDto;
+import com.petmanager.supplier_service.grpc.v1.CondicionPagoVencimiento;
+import com.petmanager.supplier_service.grpc.v1.CondicionesProximasRequest;
+import com.petmanager.supplier_service.grpc.v1.ProveedorNotificacion;
+import com.petmanager.supplier_service.grpc.v1.ProveedorRequest;
+import com.petmanager.supplier_service.grpc.v1.SupplierSyncGrpc;
+import com.petmanager.supplier_service.repository.ProveedorRepository;
+import com.petmanager.supplier_service.service.CondicionPagoService;
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import lombok.extern.slf4j.Slf4j;
+import net.devh.boot.grpc.server.service.GrpcService;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Servicio gRPC expuesto junto a SupplierRestController para notification-service.
+ * Ambos streams respetan el control de flujo de gRPC: solo se escribe mientras el cliente
+ * puede recibir (isReady) y solo se piden nuevos ids cuando la respuesta anterior salió.
+ */
+@GrpcService
+@Slf4j
+public class SupplierSyncGrpcService extends SupplierSyncGrpc.SupplierSyncImplBase {
+
+    @Autowired
+    private CondicionPagoService condicionPagoService;
+
+    @Autowired
+    private ProveedorRepository proveedorRepository;
+
+    @Override
+    public void streamCondicionesProximas(CondicionesProximasRequest request,
+                                          StreamObserver<CondicionPagoVencimiento> responseObserver) {
+        ServerCallStreamObserver<CondicionPagoVencimiento> servidor =
+                (ServerCallStreamObserver<CondicionPagoVencimiento>) responseObserver;
+
+        List<Integer> dias = request.getDiasCount() > 0 ? request.getDiasList() : List.of(7, 3, 1, 0);
+        Iterator<CondicionPagoVencimientoDto> pendientes = condicionPagoService.obtenerProximasAVencer(dias).iterator();
+
+        // Se invoca cada vez que el buffer de transporte vuelve a tener espacio
+        Runnable enviar = new Runnable() {
+            private boolean completado;
+
+            @Override
+            public synchronized void run() {
+                if (completado || servidor.isCancelled()) return;
+                while (servidor.isReady() && pendientes.hasNext()) {
+                    servidor.onNext(aMensaje(pendientes.next()));
+                }
+                if (!pendientes.hasNext()) {
+                    completado = true;
+                    servidor.onCompleted();
+                }
+            }
+        };
+
+        servidor.setOnCancelHandler(() -> log.debug("StreamCondicionesProximas cancelado por el cliente"));
+        servidor.setOnReadyHandler(enviar);
+    }
+
+    @Override
+    public StreamObserver<ProveedorRequest> resolveProveedores(StreamObserver<ProveedorNotificacion> responseObserver) {
+        ServerCallStreamObserver<ProveedorNotificacion> servidor =
+                (ServerCallStreamObserver<ProveedorNotificacion>) responseObserver;
+        servidor.disableAutoRequest();
+
+        // Pide el primer id cuando el cliente está listo para recibir
+        OnReady onReady = new OnReady(servidor);
+        servidor.setOnReadyHandler(onReady);
+
+        // Los ids se repiten entre condiciones del mismo proveedor: memo por llamada
+        Map<Long, ProveedorNotificacion> resueltos = new HashMap<>();
+
+        return new StreamObserver<>() {
+            @Override
+            public void onNext(ProveedorRequest request) {
+                long id = request.getIdProveedor();
+                servidor.onNext(resueltos.computeIfAbsent(id, SupplierSyncGrpcService.this::resolver));
+
+                if (servidor.isReady()) {
+                    servidor.request(1);
+                } else {
+                    onReady.esperando = true;
+                }
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                log.warn("ResolveProveedores terminado por el cliente: {}", Status.fromThrowable(t));
+            }
+
+            @Override
+            public void onCompleted() {
+                servidor.onCompleted();
+            }
+        };
+    }
+
+    private ProveedorNotificacion resolver(Long idProveedor) {
+        return proveedorRepository.findById(idProveedor)
+                .map(p -> ProveedorNotificacion.newBuilder()
+                        .setIdProveedor(idProveedor)
+                        .setEncontrado(true)
+                        .setNombre(valorOVacio(p.getNombre()))
+                        .setEmail(valorOVacio(p.getEmail()))
+                        .setActivo(Boolean.TRUE.equals(p.getActivo()))
+                        .build())
+                .orElseGet(() -> ProveedorNotificacion.newBuilder()
+                        .setIdProveedor(idProveedor)
+                        .setEncontrado(false)
+                        .build());
+    }
+
+    private static CondicionPagoVencimiento aMensaje(CondicionPagoVencimientoDto dto) {
+        CondicionPagoVencimiento.Builder builder = CondicionPagoVencimiento.newBuilder()
+                .setIdCondicionPago(dto.getIdCondicionPago())
+                .setIdProveedor(dto.getIdProveedor())
+                .setNombreProveedor(valorOVacio(dto.getNombreProveedor()))
+                .setEmailProveedor(valorOVacio(dto.getEmailProveedor()))
+                .setFechaFin(dto.getFechaFin().toEpochDay())
+                .setDiasRestantes(dto.getDiasRestantes());
+
+        if (dto.getIdUsuario() != null) builder.setIdUsuario(dto.getIdUsuario());
+        if (dto.getDiasCredito() != null) builder.setDiasCredito(dto.getDiasCredito());
+        if (dto.getFechaInicio() != null) builder.setFechaInicio(dto.getFechaInicio().toEpochDay());
+        if (dto.getNota() != null) builder.setNota(dto.getNota());
+        return builder.build();
+    }
+
+    private static String valorOVacio(String valor) {
+        return valor != null ? valor : "";
+    }
+
+    /**
+     * Reanuda la lectura de ids cuando el cliente vuelve a aceptar respuestas
+     */
+    private static final class OnReady implements Runnable {
+        private final ServerCallStreamObserver<?> servidor;
+        private boolean iniciado;
+        volatile boolean esperando;
+
+        OnReady(ServerCallStreamObserver<?> servidor) {
+            this.servidor = servidor;
+        }
+
+        @Override
+        public void run() {
+            if (!servidor.isReady()) return;
+            if (!iniciado) {
+                iniciado = true;
+                servidor.request(1);
+            } else if (esperando) {
+                esperando = false;
+                servidor.request(1);
+            }
+        }
+    }
+}
@@ -1,11 +1,13 @@
 package com.petmanager.supplier_service.model;
 
+import com.petmanager.common.cache.GatewayCacheListener;
 import jakarta.persistence.*;
 import lombok.*;
 
 import java.time.LocalDate;
 
 @Entity
+@EntityListeners(GatewayCacheListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -14,11 +16,13 @@ import java.time.LocalDate;
 public class CondicionPago {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "condicion_pago_seq")
+    @SequenceGenerator(name = "condicion_pago_seq", sequenceName = "condicion_pago_id_condicion_pago_seq", allocationSize = 50)
     @Column(name = "id_condicion_pago")
     private Long idCondicionPago;
 
-    @ManyToOne
+    // LAZY: el proveedor se resuelve desde la caché de segundo nivel al consultarlo
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "id_proveedor")
     private Proveedor proveedor;
 
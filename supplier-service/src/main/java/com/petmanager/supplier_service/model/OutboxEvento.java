@@ -0,0 +1,45 @@
+package com.petmanager.supplier_service.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Evento de dominio pendiente de publicar (transactional outbox).
+ * Se escribe en la misma transacción que el cambio de negocio y OutboxRelay lo publica después.
+ */
+@Entity
+@Table(name = "outbox_evento", indexes = {
+        @Index(name = "ix_outbox_evento_pendientes", columnList = "publicado_en, id_evento")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxEvento {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id_evento")
+    private Long idEvento;
+
+    @Column(name = "agregado", nullable = false, length = 50)
+    private String agregado;
+
+    @Column(name = "id_agregado", nullable = false)
+    private Long idAgregado;
+
+    @Column(name = "tipo", nullable = false, length = 50)
+    private String tipo;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "text")
+    private String payload;
+
+    @Column(name = "creado_en", nullable = false)
+    private LocalDateTime creadoEn;
+
+    @Column(name = "publicado_en")
+    private LocalDateTime publicadoEn;
+}
@@ -1,17 +1,20 @@
 package com.petmanager.supplier_service.model;
 
+import com.petmanager.common.cache.GatewayCacheListener;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
 
 @Entity
+@EntityListeners(GatewayCacheListener.class)
 @Table(name = "producto")
 @Getter
 @Setter
 public class Producto {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "producto_seq")
+    @SequenceGenerator(name = "producto_seq", sequenceName = "producto_id_producto_seq", allocationSize = 50)
     @Column(name = "id_producto")
     private Long idProducto; // cambiar de "id" a "idProducto"
 
@@ -27,7 +30,8 @@ public class Producto {
     @Column(name = "precio")
     private Double precio;
 
-    @ManyToOne
+    // LAZY: el proveedor se resuelve desde la caché de segundo nivel al consultarlo
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "id_proveedor")
     private Proveedor proveedor;
 }
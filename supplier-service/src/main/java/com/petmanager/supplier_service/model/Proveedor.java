@@ -1,14 +1,20 @@
 package com.petmanager.supplier_service.model;
 
+import com.petmanager.common.cache.GatewayCacheListener;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@EntityListeners(GatewayCacheListener.class)
 @Table(name = "proveedor")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "proveedor")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -16,7 +22,8 @@ import java.util.List;
 public class Proveedor {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "proveedor_seq")
+    @SequenceGenerator(name = "proveedor_seq", sequenceName = "proveedor_id_proveedor_seq", allocationSize = 50)
     @Column(name = "id_proveedor")
     private Long idProveedor; // ← Cambiado de "id" a "idProveedor"
 
@@ -2,8 +2,19 @@ package com.petmanager.supplier_service.repository;
 
 import com.petmanager.supplier_service.model.CondicionPago;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface CondicionPagoRepository extends JpaRepository<CondicionPago, Long> {
+
+    // Condiciones de proveedores activos que vencen en alguna de las fechas (proveedor en la misma consulta)
+    @Query("SELECT c FROM CondicionPago c JOIN FETCH c.proveedor p " +
+            "WHERE p.activo = true AND c.fechaFin IN :fechas")
+    List<CondicionPago> findDeProveedoresActivosConFechaFinEn(@Param("fechas") Collection<LocalDate> fechas);
 }
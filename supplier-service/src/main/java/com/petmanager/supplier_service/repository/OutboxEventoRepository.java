@@ -0,0 +1,22 @@
+package com.petmanager.supplier_service.repository;
+
+import com.petmanager.supplier_service.model.OutboxEvento;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface OutboxEventoRepository extends JpaRepository<OutboxEvento, Long> {
+
+    // Siguiente lote de eventos sin publicar, en orden de creación
+    List<OutboxEvento> findTop100ByPublicadoEnIsNullOrderByIdEventoAsc();
+
+    @Modifying
+    @Query("DELETE FROM OutboxEvento e WHERE e.publicadoEn < :limite")
+    int deletePublicadosAntesDe(@Param("limite") LocalDateTime limite);
+}
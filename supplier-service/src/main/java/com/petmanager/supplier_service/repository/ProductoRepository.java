@@ -2,9 +2,18 @@ package com.petmanager.supplier_service.repository;
 
 import com.petmanager.supplier_service.model.Producto;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface ProductoRepository extends JpaRepository<Producto, Long> {
     boolean existsByCodigo(String codigo); //  Agregado para evitar productos duplicados por código
+
+    // Comprobación de una lista de códigos en una sola consulta (alta de proveedor con productos)
+    @Query("SELECT p.codigo FROM Producto p WHERE p.codigo IN :codigos")
+    List<String> findCodigosExistentes(@Param("codigos") Collection<String> codigos);
 }
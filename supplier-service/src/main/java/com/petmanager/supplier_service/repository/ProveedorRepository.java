@@ -1,10 +1,18 @@
 package com.petmanager.supplier_service.repository;
 
+import com.petmanager.supplier_service.dto.ProveedorNotificacionDto;
 import com.petmanager.supplier_service.model.Proveedor;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface ProveedorRepository extends JpaRepository<Proveedor, Long> {
-    // Aquí se pueden agregar métodos personalizados más adelante
+
+    // Directorio para notification-service: proyección directa, sin cargar productos ni condiciones
+    @Query("SELECT new com.petmanager.supplier_service.dto.ProveedorNotificacionDto(" +
+            "p.idProveedor, p.nombre, p.email, p.activo) FROM Proveedor p ORDER BY p.idProveedor")
+    List<ProveedorNotificacionDto> findDirectorio();
 }
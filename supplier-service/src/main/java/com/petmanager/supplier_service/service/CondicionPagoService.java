@@ -1,6 +1,8 @@
 package com.petmanager.supplier_service.service;
 
 import com.petmanager.supplier_service.dto.CondicionPagoInput;
+import com.petmanager.supplier_service.dto.CondicionPagoEvento;
+import com.petmanager.supplier_service.dto.CondicionPagoVencimientoDto;
 import com.petmanager.supplier_service.exception.*;
 import com.petmanager.supplier_service.model.CondicionPago;
 import com.petmanager.supplier_service.model.Proveedor;
@@ -8,9 +10,11 @@ import com.petmanager.supplier_service.repository.CondicionPagoRepository;
 import com.petmanager.supplier_service.repository.ProveedorRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 
 @Service
@@ -22,7 +26,11 @@ public class CondicionPagoService {
     @Autowired
     private ProveedorRepository proveedorRepository;
 
+    @Autowired
+    private OutboxService outboxService;
+
     // Actualizar condición de pago existente
+    @Transactional
     public CondicionPago actualizarCondicionPago(Long id, CondicionPago nuevaCondicion) {
         // Validaciones de entrada
         if (id == null || id <= 0) {
@@ -87,10 +95,13 @@ public class CondicionPagoService {
             existente.setNota(nota);
         }
 
-        return condicionPagoRepository.save(existente);
+        CondicionPago actualizada = condicionPagoRepository.save(existente);
+        outboxService.registrarEventoCondicionPago(CondicionPagoEvento.ACTUALIZADA, actualizada);
+        return actualizada;
     }
 
     // Eliminar condición de pago
+    @Transactional
     public boolean eliminarCondicionPago(Long id) {
         // Validación de entrada
         if (id == null || id <= 0) {
@@ -113,11 +124,13 @@ public class CondicionPagoService {
             }
         }
 
-        condicionPagoRepository.deleteById(id);
+        condicionPagoRepository.delete(condicion);
+        outboxService.registrarEventoCondicionPago(CondicionPagoEvento.ELIMINADA, condicion);
         return true;
     }
 
     // Crear nueva condición de pago
+    @Transactional
     public CondicionPago crearCondicionPago(CondicionPagoInput input) {
         // Validación de entrada
         if (input == null) {
@@ -141,10 +154,13 @@ public class CondicionPagoService {
                 .idUsuario(input.getIdUsuario())
                 .build();
 
-        return condicionPagoRepository.save(nueva);
+        CondicionPago creada = condicionPagoRepository.save(nueva);
+        outboxService.registrarEventoCondicionPago(CondicionPagoEvento.CREADA, creada);
+        return creada;
     }
 
     // Crear condición de pago asociada a un proveedor
+    @Transactional
     public CondicionPago crearCondicionPagoParaProveedor(Long idProveedor, CondicionPagoInput input) {
         // Validaciones de entrada
         if (idProveedor == null || idProveedor <= 0) {
@@ -184,7 +200,9 @@ public class CondicionPagoService {
                 .idUsuario(input.getIdUsuario())
                 .build();
 
-        return condicionPagoRepository.save(nueva);
+        CondicionPago creada = condicionPagoRepository.save(nueva);
+        outboxService.registrarEventoCondicionPago(CondicionPagoEvento.CREADA, creada);
+        return creada;
     }
 
     // Obtener condición de pago por ID
@@ -247,6 +265,27 @@ public class CondicionPagoService {
         return condicionesVigentes;
     }
 
+    // Condiciones que vencen exactamente dentro de alguno de los días indicados (REST y gRPC para notification-service)
+    public List<CondicionPagoVencimientoDto> obtenerProximasAVencer(List<Integer> diasAlerta) {
+        LocalDate hoy = LocalDate.now();
+        List<LocalDate> fechas = diasAlerta.stream().map(hoy::plusDays).toList();
+
+        return condicionPagoRepository.findDeProveedoresActivosConFechaFinEn(fechas).stream()
+                .map(c -> new CondicionPagoVencimientoDto(
+                        c.getIdCondicionPago(),
+                        c.getProveedor().getIdProveedor(),
+                        c.getProveedor().getNombre(),
+                        c.getProveedor().getEmail(),
+                        c.getIdUsuario(),
+                        c.getDiasCredito(),
+                        c.getFechaInicio(),
+                        c.getFechaFin(),
+                        c.getNota(),
+                        (int) ChronoUnit.DAYS.between(hoy, c.getFechaFin())
+                ))
+                .toList();
+    }
+
     // ==============================================
     // MÉTODOS PRIVADOS DE VALIDACIÓN
     // ==============================================
@@ -0,0 +1,73 @@
+package com.petmanager.supplier_service.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.petmanager.supplier_service.model.OutboxEvento;
+import com.petmanager.supplier_service.repository.OutboxEventoRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Publica los eventos del outbox con NOTIFY de PostgreSQL.
+ * pg_notify se entrega al hacer commit, en la misma transacción que marca el evento
+ * como publicado: un evento nunca queda marcado sin haberse notificado.
+ */
+@Component
+@Slf4j
+public class OutboxRelay {
+
+    public static final String CANAL = "condicion_pago_eventos";
+
+    @Autowired
+    private OutboxEventoRepository outboxEventoRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${outbox.retencion-dias:7}")
+    private int retencionDias;
+
+    @Scheduled(fixedDelayString = "${outbox.relay.intervalo-ms:1000}")
+    @Transactional
+    public void publicarPendientes() {
+        List<OutboxEvento> pendientes = outboxEventoRepository.findTop100ByPublicadoEnIsNullOrderByIdEventoAsc();
+        if (pendientes.isEmpty()) return;
+
+        LocalDateTime ahora = LocalDateTime.now();
+        for (OutboxEvento evento : pendientes) {
+            jdbcTemplate.queryForObject("SELECT pg_notify(?, ?)", Object.class, CANAL, conIdEvento(evento));
+            evento.setPublicadoEn(ahora);
+        }
+        log.debug("📤 Publicados {} eventos del outbox", pendientes.size());
+    }
+
+    // Limpieza diaria de eventos ya publicados
+    @Scheduled(cron = "${outbox.limpieza.cron:0 30 3 * * ?}")
+    @Transactional
+    public void limpiarPublicados() {
+        int eliminados = outboxEventoRepository.deletePublicadosAntesDe(LocalDateTime.now().minusDays(retencionDias));
+        log.info("🧹 Eliminados {} eventos publicados del outbox", eliminados);
+    }
+
+    // El id solo se conoce después del INSERT: se añade al payload al publicar
+    private String conIdEvento(OutboxEvento evento) {
+        try {
+            ObjectNode payload = (ObjectNode) objectMapper.readTree(evento.getPayload());
+            payload.put("idEvento", evento.getIdEvento());
+            return objectMapper.writeValueAsString(payload);
+        } catch (Exception e) {
+            return evento.getPayload();
+        }
+    }
+}
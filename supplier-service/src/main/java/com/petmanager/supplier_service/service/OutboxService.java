@@ -0,0 +1,59 @@
+package com.petmanager.supplier_service.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.petmanager.supplier_service.dto.CondicionPagoEvento;
+import com.petmanager.supplier_service.exception.SupplierServiceException;
+import com.petmanager.supplier_service.model.CondicionPago;
+import com.petmanager.supplier_service.model.OutboxEvento;
+import com.petmanager.supplier_service.repository.OutboxEventoRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Registro de eventos de dominio en la tabla outbox_evento.
+ * Debe llamarse dentro de la transacción del cambio de negocio: o se guardan ambos o ninguno.
+ */
+@Service
+public class OutboxService {
+
+    @Autowired
+    private OutboxEventoRepository outboxEventoRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void registrarEventoCondicionPago(String tipo, CondicionPago condicion) {
+        var proveedor = condicion.getProveedor();
+        CondicionPagoEvento evento = CondicionPagoEvento.builder()
+                .tipo(tipo)
+                .idCondicionPago(condicion.getIdCondicionPago())
+                .idProveedor(proveedor != null ? proveedor.getIdProveedor() : null)
+                .nombreProveedor(proveedor != null ? proveedor.getNombre() : null)
+                .emailProveedor(proveedor != null ? proveedor.getEmail() : null)
+                .proveedorActivo(proveedor != null ? proveedor.getActivo() : null)
+                .idUsuario(condicion.getIdUsuario())
+                .diasCredito(condicion.getDiasCredito())
+                .fechaInicio(condicion.getFechaInicio())
+                .fechaFin(condicion.getFechaFin())
+                .nota(condicion.getNota())
+                .build();
+
+        try {
+            outboxEventoRepository.save(OutboxEvento.builder()
+                    .agregado("CondicionPago")
+                    .idAgregado(condicion.getIdCondicionPago())
+                    .tipo(tipo)
+                    .payload(objectMapper.writeValueAsString(evento))
+                    .creadoEn(LocalDateTime.now())
+                    .build());
+        } catch (JsonProcessingException e) {
+            throw new SupplierServiceException("No se pudo serializar el evento " + tipo, e);
+        }
+    }
+}
@@ -5,8 +5,11 @@ import com.petmanager.supplier_service.model.Producto;
 import com.petmanager.supplier_service.model.Proveedor;
 import com.petmanager.supplier_service.repository.ProductoRepository;
 import com.petmanager.supplier_service.repository.ProveedorRepository;
+import com.petmanager.supplier_service.validation.ErroresValidacion;
+import com.petmanager.supplier_service.validation.ValidadorProveedor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
 import java.util.List;
@@ -20,6 +23,9 @@ public class ProductoService {
     @Autowired
     private ProveedorRepository proveedorRepository;
 
+    @Autowired
+    private ValidadorProveedor validadorProveedor;
+
     // Agregar producto a un proveedor existente
     public Producto agregarProducto(Long idProveedor, Producto producto) {
         // Validaciones de entrada
@@ -31,8 +37,11 @@ public class ProductoService {
             throw new InvalidDataException("Los datos del producto no pueden estar vacíos");
         }
 
-        // Validar campos obligatorios
-        validarCamposObligatoriosProducto(producto);
+        // Obligatorios, formato del código y precio: todos los errores en una pasada
+        ErroresValidacion errores = new ErroresValidacion();
+        validadorProveedor.validarProducto(producto.getCodigo(), producto.getNombre(), producto.getPrecio(),
+                errores, null, 0);
+        errores.lanzarSiHayErrores();
 
         // Verificar que el proveedor existe
         Proveedor proveedor = proveedorRepository.findById(idProveedor)
@@ -48,13 +57,6 @@ public class ProductoService {
             throw new DuplicateResourceException("Ya existe un producto con el código: " + producto.getCodigo());
         }
 
-        // Validar precio
-        if (producto.getPrecio() != null && producto.getPrecio() < 0) {
-            throw new InvalidDataException("El precio del producto no puede ser negativo");
-        }
-
-
-
         // Limpiar y establecer datos
         producto.setCodigo(producto.getCodigo().trim().toUpperCase());
         producto.setNombre(producto.getNombre().trim());
@@ -65,7 +67,8 @@ public class ProductoService {
         return productoRepository.save(producto);
     }
 
-    // Actualizar un producto existente
+    // Actualizar un producto existente (transaccional: el proveedor LAZY se carga desde la caché)
+    @Transactional
     public Producto actualizarProducto(Long idProducto, Producto productoActualizado) {
         // Validaciones de entrada
         if (idProducto == null || idProducto <= 0) {
@@ -85,22 +88,17 @@ public class ProductoService {
             throw new BusinessValidationException("No se pueden modificar productos de un proveedor inactivo");
         }
 
+        // Validar los campos informados en una pasada antes de modificar nada
+        validarActualizacion(productoActualizado).lanzarSiHayErrores();
+
         // Actualizar campos si están presentes
         if (StringUtils.hasText(productoActualizado.getNombre())) {
-            if (productoActualizado.getNombre().trim().length() > 100) {
-                throw new InvalidDataException("El nombre del producto no puede tener más de 100 caracteres");
-            }
             producto.setNombre(productoActualizado.getNombre().trim());
         }
 
         if (StringUtils.hasText(productoActualizado.getCodigo())) {
             String nuevoCodigo = productoActualizado.getCodigo().trim().toUpperCase();
 
-            // Validar formato del código
-            if (!esCodigoValido(nuevoCodigo)) {
-                throw new InvalidDataException("El código debe contener solo letras, números y guiones. Máximo 50 caracteres");
-            }
-
             // Verificar que el nuevo código no esté en uso por otro producto
             if (!producto.getCodigo().equals(nuevoCodigo) &&
                     productoRepository.existsByCodigo(nuevoCodigo)) {
@@ -110,22 +108,11 @@ public class ProductoService {
         }
 
         if (productoActualizado.getDescripcion() != null) {
-            String descripcion = StringUtils.hasText(productoActualizado.getDescripcion()) ?
-                    productoActualizado.getDescripcion().trim() : "";
-
-            if (descripcion.length() > 255) {
-                throw new InvalidDataException("La descripción no puede tener más de 255 caracteres");
-            }
-            producto.setDescripcion(descripcion);
+            producto.setDescripcion(StringUtils.hasText(productoActualizado.getDescripcion()) ?
+                    productoActualizado.getDescripcion().trim() : "");
         }
 
         if (productoActualizado.getPrecio() != null) {
-            if (productoActualizado.getPrecio() < 0) {
-                throw new InvalidDataException("El precio del producto no puede ser negativo");
-            }
-
-
-
             producto.setPrecio(productoActualizado.getPrecio());
         }
 
@@ -166,6 +153,7 @@ public class ProductoService {
     }
 
     // Eliminar producto
+    @Transactional
     public boolean eliminarProducto(Long idProducto) {
         if (idProducto == null || idProducto <= 0) {
             throw new InvalidDataException("El ID del producto debe ser un número positivo");
@@ -224,39 +212,27 @@ public class ProductoService {
     // MÉTODOS PRIVADOS DE VALIDACIÓN
     // ==============================================
 
-    private void validarCamposObligatoriosProducto(Producto producto) {
-        if (!StringUtils.hasText(producto.getCodigo())) {
-            throw new InvalidDataException("El código del producto es obligatorio");
-        }
-
-        if (!StringUtils.hasText(producto.getNombre())) {
-            throw new InvalidDataException("El nombre del producto es obligatorio");
-        }
+    private ErroresValidacion validarActualizacion(Producto productoActualizado) {
+        ErroresValidacion errores = new ErroresValidacion();
 
-        if (producto.getPrecio() == null) {
-            throw new InvalidDataException("El precio del producto es obligatorio");
+        if (StringUtils.hasText(productoActualizado.getNombre())
+                && productoActualizado.getNombre().trim().length() > ValidadorProveedor.MAX_NOMBRE) {
+            errores.agregar("El nombre del producto no puede tener más de 100 caracteres");
         }
 
-        // Validar longitud del código
-        if (producto.getCodigo().trim().length() > 50) {
-            throw new InvalidDataException("El código del producto no puede tener más de 50 caracteres");
+        if (StringUtils.hasText(productoActualizado.getCodigo())
+                && !ValidadorProveedor.esCodigoValido(productoActualizado.getCodigo().trim())) {
+            errores.agregar("El código debe contener solo letras, números y guiones. Máximo 50 caracteres");
         }
 
-        // Validar longitud del nombre
-        if (producto.getNombre().trim().length() > 100) {
-            throw new InvalidDataException("El nombre del producto no puede tener más de 100 caracteres");
+        if (StringUtils.hasText(productoActualizado.getDescripcion())
+                && productoActualizado.getDescripcion().trim().length() > 255) {
+            errores.agregar("La descripción no puede tener más de 255 caracteres");
         }
 
-        // Validar formato del código
-        if (!esCodigoValido(producto.getCodigo().trim())) {
-            throw new InvalidDataException("El código debe contener solo letras, números y guiones");
+        if (productoActualizado.getPrecio() != null && productoActualizado.getPrecio() < 0) {
+            errores.agregar("El precio del producto no puede ser negativo");
         }
-    }
-
-    private boolean esCodigoValido(String codigo) {
-        return StringUtils.hasText(codigo) &&
-                codigo.matches("^[A-Za-z0-9-]+$") &&
-                codigo.length() >= 2 &&
-                codigo.length() <= 50;
+        return errores;
     }
 }
\ No newline at end of file
@@ -1,6 +1,11 @@
 package com.petmanager.supplier_service.service;
 
+import com.petmanager.supplier_service.dto.CondicionPagoEvento;
+import com.petmanager.supplier_service.dto.CondicionPagoInput;
+import com.petmanager.supplier_service.dto.DirectorioProveedoresDto;
+import com.petmanager.supplier_service.dto.ProductoInput;
 import com.petmanager.supplier_service.dto.ProveedorInput;
+import com.petmanager.supplier_service.dto.ProveedorNotificacionDto;
 import com.petmanager.supplier_service.exception.*;
 import com.petmanager.supplier_service.model.CondicionPago;
 import com.petmanager.supplier_service.model.Producto;
@@ -8,13 +13,19 @@ import com.petmanager.supplier_service.model.Proveedor;
 import com.petmanager.supplier_service.repository.CondicionPagoRepository;
 import com.petmanager.supplier_service.repository.ProductoRepository;
 import com.petmanager.supplier_service.repository.ProveedorRepository;
+import com.petmanager.supplier_service.validation.ValidadorProveedor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HexFormat;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 public class ProveedorService {
@@ -28,21 +39,26 @@ public class ProveedorService {
     @Autowired
     private CondicionPagoRepository condicionPagoRepository;
 
-    // Crear proveedor con productos y condiciones de pago
+    @Autowired
+    private ValidadorProveedor validadorProveedor;
+
+    @Autowired
+    private OutboxService outboxService;
+
+    // Crear proveedor con productos y condiciones de pago; un evento CREADA por condición en la misma transacción
+    @Transactional
     public Proveedor crearProveedor(ProveedorInput input) {
         // Validación de entrada
         if (input == null) {
             throw new InvalidDataException("Los datos del proveedor no pueden estar vacíos");
         }
 
-        // Validaciones de campos obligatorios
-        validarCamposObligatorios(input);
-
-        // Validaciones de formato
-        validarFormatos(input);
+        // Obligatorios, formatos, productos y condiciones: todos los errores en una pasada
+        validadorProveedor.validarNuevo(input).lanzarSiHayErrores();
 
-        // Validaciones de unicidad
+        // Validaciones de unicidad (antes de guardar nada)
         validarUnicidad(input.getNit(), input.getEmail(), null);
+        validarCodigosDisponibles(input);
 
         // Crear y guardar proveedor
         Proveedor proveedor = construirProveedor(input);
@@ -61,6 +77,16 @@ public class ProveedorService {
         return proveedorGuardado;
     }
 
+    // Snapshot versionado del directorio; la versión es un hash del contenido
+    public DirectorioProveedoresDto getDirectorio(String versionCliente) {
+        List<ProveedorNotificacionDto> proveedores = proveedorRepository.findDirectorio();
+        String version = versionDirectorio(proveedores);
+        if (version.equals(versionCliente)) {
+            return new DirectorioProveedoresDto(version, true, List.of());
+        }
+        return new DirectorioProveedoresDto(version, false, proveedores);
+    }
+
     // Obtener todos los proveedores
     public List<Proveedor> getAll() {
         List<Proveedor> proveedores = proveedorRepository.findAll();
@@ -81,52 +107,37 @@ public class ProveedorService {
     }
 
     // Actualizar proveedor
+    @Transactional
     public Proveedor update(Long id, String nombre, String nit, String direccion,
                             String telefono, String email, Boolean activo) {
         Proveedor proveedor = getById(id);
 
+        // Validar formatos y longitudes de los campos informados
+        validadorProveedor.validarActualizacion(nombre, nit, direccion, telefono, email).lanzarSiHayErrores();
+
         // Validar unicidad si se están actualizando NIT o email
         if (StringUtils.hasText(nit) || StringUtils.hasText(email)) {
             validarUnicidad(nit, email, id);
         }
 
-        // Validar formatos si se están actualizando
-        if (StringUtils.hasText(email) && !esEmailValido(email)) {
-            throw new InvalidDataException("El formato del email no es válido");
-        }
-
-        if (StringUtils.hasText(nit) && !esNitValido(nit)) {
-            throw new InvalidDataException("El formato del NIT no es válido");
-        }
-
         // Actualizar campos
-        if (StringUtils.hasText(nombre)) {
-            if (nombre.trim().length() > 100) {
-                throw new InvalidDataException("El nombre no puede tener más de 100 caracteres");
-            }
-            proveedor.setNombre(nombre.trim());
-        }
-
+        if (StringUtils.hasText(nombre)) proveedor.setNombre(nombre.trim());
         if (StringUtils.hasText(nit)) proveedor.setNit(nit.trim());
-        if (StringUtils.hasText(direccion)) {
-            if (direccion.trim().length() > 200) {
-                throw new InvalidDataException("La dirección no puede tener más de 200 caracteres");
-            }
-            proveedor.setDireccion(direccion.trim());
-        }
-        if (StringUtils.hasText(telefono)) {
-            if (telefono.trim().length() > 20) {
-                throw new InvalidDataException("El teléfono no puede tener más de 20 caracteres");
-            }
-            proveedor.setTelefono(telefono.trim());
-        }
+        if (StringUtils.hasText(direccion)) proveedor.setDireccion(direccion.trim());
+        if (StringUtils.hasText(telefono)) proveedor.setTelefono(telefono.trim());
         if (StringUtils.hasText(email)) proveedor.setEmail(email.toLowerCase().trim());
+        boolean cambiaActivo = activo != null && !activo.equals(proveedor.getActivo());
         if (activo != null) proveedor.setActivo(activo);
 
-        return proveedorRepository.save(proveedor);
+        Proveedor guardado = proveedorRepository.save(proveedor);
+        if (cambiaActivo) {
+            registrarCambioDeEstado(guardado);
+        }
+        return guardado;
     }
 
     // Borrado lógico
+    @Transactional
     public boolean delete(Long id) {
         Proveedor proveedor = getById(id);
 
@@ -136,60 +147,20 @@ public class ProveedorService {
 
         proveedor.setActivo(false);
         proveedorRepository.save(proveedor);
+        registrarCambioDeEstado(proveedor);
         return true;
     }
 
-    // ==============================================
-    // MÉTODOS PRIVADOS DE VALIDACIÓN
-    // ==============================================
-
-    private void validarCamposObligatorios(ProveedorInput input) {
-        if (!StringUtils.hasText(input.getNombre())) {
-            throw new InvalidDataException("El nombre del proveedor es obligatorio");
-        }
-        if (!StringUtils.hasText(input.getNit())) {
-            throw new InvalidDataException("El NIT del proveedor es obligatorio");
-        }
-        if (!StringUtils.hasText(input.getEmail())) {
-            throw new InvalidDataException("El email del proveedor es obligatorio");
-        }
-        if (!StringUtils.hasText(input.getDireccion())) {
-            throw new InvalidDataException("La dirección del proveedor es obligatoria");
-        }
-        if (!StringUtils.hasText(input.getTelefono())) {
-            throw new InvalidDataException("El teléfono del proveedor es obligatorio");
-        }
-        if (input.getIdUsuarioCreador() == null) {
-            throw new InvalidDataException("El ID del usuario creador es obligatorio");
+    // notification-service programa o descarta los avisos de cada condición según proveedorActivo
+    private void registrarCambioDeEstado(Proveedor proveedor) {
+        for (CondicionPago condicion : proveedor.getCondicionesPago()) {
+            outboxService.registrarEventoCondicionPago(CondicionPagoEvento.ACTUALIZADA, condicion);
         }
     }
 
-    private void validarFormatos(ProveedorInput input) {
-        if (!esEmailValido(input.getEmail())) {
-            throw new InvalidDataException("El formato del email no es válido");
-        }
-
-        if (!esNitValido(input.getNit())) {
-            throw new InvalidDataException("El formato del NIT no es válido (debe contener solo números y guiones)");
-        }
-
-        // Validar longitudes
-        if (input.getNombre().trim().length() > 100) {
-            throw new InvalidDataException("El nombre no puede tener más de 100 caracteres");
-        }
-
-        if (input.getDireccion().trim().length() > 200) {
-            throw new InvalidDataException("La dirección no puede tener más de 200 caracteres");
-        }
-
-        if (input.getTelefono().trim().length() > 20) {
-            throw new InvalidDataException("El teléfono no puede tener más de 20 caracteres");
-        }
-
-        if (input.getEmail().trim().length() > 150) {
-            throw new InvalidDataException("El email no puede tener más de 150 caracteres");
-        }
-    }
+    // ==============================================
+    // MÉTODOS PRIVADOS DE VALIDACIÓN
+    // ==============================================
 
     private void validarUnicidad(String nit, String email, Long idExcluir) {
         // Validar NIT único
@@ -215,16 +186,24 @@ public class ProveedorService {
         }
     }
 
-    private boolean esEmailValido(String email) {
-        return StringUtils.hasText(email) &&
-                email.matches("^[A-Za-z0-9+_.-]+@([A-Za-z0-9.-]+\\.[A-Za-z]{2,})$");
-    }
-
-    private boolean esNitValido(String nit) {
-        return StringUtils.hasText(nit) &&
-                nit.matches("^[0-9-]+$") &&
-                nit.length() >= 8 &&
-                nit.length() <= 15;
+    /**
+     * Códigos de producto que ya existen en BD, en una sola consulta para toda la lista
+     */
+    private void validarCodigosDisponibles(ProveedorInput input) {
+        if (input.getProductos() == null || input.getProductos().isEmpty()) {
+            return;
+        }
+        List<String> codigos = new ArrayList<>(input.getProductos().size());
+        for (ProductoInput producto : input.getProductos()) {
+            codigos.add(producto.getCodigo().trim());
+        }
+        List<String> existentes = productoRepository.findCodigosExistentes(codigos);
+        if (existentes.size() == 1) {
+            throw new DuplicateResourceException("Ya existe un producto con el código: " + existentes.get(0));
+        }
+        if (!existentes.isEmpty()) {
+            throw new DuplicateResourceException("Ya existen productos con los códigos: " + String.join(", ", existentes));
+        }
     }
 
     private Proveedor construirProveedor(ProveedorInput input) {
@@ -240,38 +219,10 @@ public class ProveedorService {
                 .build();
     }
 
+    // Entrada ya validada por ValidadorProveedor
     private void procesarProductos(ProveedorInput input, Proveedor proveedorGuardado) {
-        // Validar códigos únicos en la lista
-        List<String> codigos = input.getProductos().stream()
-                .map(p -> p.getCodigo())
-                .collect(Collectors.toList());
-
-        long codigosUnicos = codigos.stream().distinct().count();
-        if (codigosUnicos != codigos.size()) {
-            throw new DuplicateResourceException("Hay códigos de productos duplicados en la lista");
-        }
-
-        // Crear productos
-        List<Producto> productos = input.getProductos().stream().map(productoInput -> {
-            // Validar campos obligatorios del producto
-            if (!StringUtils.hasText(productoInput.getCodigo())) {
-                throw new InvalidDataException("El código del producto es obligatorio");
-            }
-            if (!StringUtils.hasText(productoInput.getNombre())) {
-                throw new InvalidDataException("El nombre del producto es obligatorio");
-            }
-            if (productoInput.getPrecio() == null) {
-                throw new InvalidDataException("El precio del producto es obligatorio");
-            }
-            if (productoInput.getPrecio() < 0) {
-                throw new InvalidDataException("El precio del producto no puede ser negativo");
-            }
-
-            // Validar que el código no exista globalmente
-            if (productoRepository.existsByCodigo(productoInput.getCodigo())) {
-                throw new DuplicateResourceException("Ya existe un producto con el código: " + productoInput.getCodigo());
-            }
-
+        List<Producto> productos = new ArrayList<>(input.getProductos().size());
+        for (ProductoInput productoInput : input.getProductos()) {
             Producto producto = new Producto();
             producto.setCodigo(productoInput.getCodigo().trim());
             producto.setNombre(productoInput.getNombre().trim());
@@ -279,41 +230,14 @@ public class ProveedorService {
                     productoInput.getDescripcion().trim() : "");
             producto.setPrecio(productoInput.getPrecio());
             producto.setProveedor(proveedorGuardado);
-            return producto;
-        }).collect(Collectors.toList());
-
+            productos.add(producto);
+        }
         productoRepository.saveAll(productos);
     }
 
     private void procesarCondicionesPago(ProveedorInput input, Proveedor proveedorGuardado) {
-        List<CondicionPago> condiciones = input.getCondicionesPago().stream().map(condInput -> {
-            // Validar campos obligatorios
-            if (condInput.getDiasCredito() == null) {
-                throw new InvalidDataException("Los días de crédito son obligatorios");
-            }
-            if (condInput.getFechaInicio() == null) {
-                throw new InvalidDataException("La fecha de inicio es obligatoria");
-            }
-            if (condInput.getFechaFin() == null) {
-                throw new InvalidDataException("La fecha de fin es obligatoria");
-            }
-            if (condInput.getIdUsuario() == null) {
-                throw new InvalidDataException("El ID del usuario es obligatorio");
-            }
-
-            // Validaciones de datos
-            if (condInput.getDiasCredito() < 0) {
-                throw new InvalidDataException("Los días de crédito no pueden ser negativos");
-            }
-            if (condInput.getDiasCredito() > 365) {
-                throw new BusinessValidationException("Los días de crédito no pueden exceder 365 días");
-            }
-
-            // Validaciones de fechas
-            if (condInput.getFechaInicio().isAfter(condInput.getFechaFin())) {
-                throw new BusinessValidationException("La fecha de inicio no puede ser posterior a la fecha de fin");
-            }
-
+        List<CondicionPago> condiciones = new ArrayList<>(input.getCondicionesPago().size());
+        for (CondicionPagoInput condInput : input.getCondicionesPago()) {
             CondicionPago cond = new CondicionPago();
             cond.setProveedor(proveedorGuardado);
             cond.setDiasCredito(condInput.getDiasCredito());
@@ -321,9 +245,25 @@ public class ProveedorService {
             cond.setFechaFin(condInput.getFechaFin());
             cond.setNota(StringUtils.hasText(condInput.getNota()) ? condInput.getNota().trim() : "");
             cond.setIdUsuario(condInput.getIdUsuario());
-            return cond;
-        }).collect(Collectors.toList());
+            condiciones.add(cond);
+        }
+        for (CondicionPago creada : condicionPagoRepository.saveAll(condiciones)) {
+            outboxService.registrarEventoCondicionPago(CondicionPagoEvento.CREADA, creada);
+        }
+    }
 
-        condicionPagoRepository.saveAll(condiciones);
+    // SHA-256 de las filas del directorio: con un hash de 32 bits una colisión dejaría
+    // la réplica de notification-service desactualizada sin enterarse
+    private static String versionDirectorio(List<ProveedorNotificacionDto> proveedores) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (ProveedorNotificacionDto p : proveedores) {
+                digest.update((p.getIdProveedor() + "\u0000" + p.getNombre() + "\u0000" + p.getEmail()
+                        + "\u0000" + p.getActivo() + "\n").getBytes(StandardCharsets.UTF_8));
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible", e);
+        }
     }
 }
@@ -0,0 +1,83 @@
+package com.petmanager.supplier_service.validation;
+
+import com.petmanager.supplier_service.exception.BusinessValidationErrorsException;
+import com.petmanager.supplier_service.exception.DuplicateResourceException;
+import com.petmanager.supplier_service.exception.ValidationErrorsException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Acumula los errores de validación de una entidad en lugar de lanzar en el primero.
+ * La lista se crea con el primer error: una entrada válida no reserva memoria.
+ *
+ * Distingue datos inválidos de reglas de negocio incumplidas: si solo hay de las segundas se
+ * lanza BusinessValidationErrorsException (BUSINESS_VALIDATION_ERROR, como antes de acumular);
+ * con algún dato inválido, ValidationErrorsException (INVALID_DATA) con todos los errores.
+ * Un recurso repetido en la propia entrada sin datos inválidos se lanza como
+ * DuplicateResourceException (DUPLICATE_RESOURCE), igual que antes de acumular.
+ */
+public class ErroresValidacion {
+
+    private List<String> errores;
+    private boolean datosInvalidos;
+    private String duplicado;
+
+    public void agregar(String mensaje) {
+        datosInvalidos = true;
+        anotar(mensaje);
+    }
+
+    /**
+     * Para errores de elementos de una lista (productos[2], condicionesPago[0]...);
+     * el mensaje solo se concatena si la validación falla
+     */
+    public void agregar(String prefijo, int indice, String mensaje) {
+        agregar(prefijo + "[" + indice + "]: " + mensaje);
+    }
+
+    /**
+     * Regla de negocio incumplida por datos con formato válido
+     */
+    public void agregarRegla(String prefijo, int indice, String mensaje) {
+        anotar(prefijo + "[" + indice + "]: " + mensaje);
+    }
+
+    /**
+     * Recurso repetido dentro de la entrada (p. ej. dos productos con el mismo código)
+     */
+    public void agregarDuplicado(String mensaje) {
+        if (duplicado == null) {
+            duplicado = mensaje;
+        }
+        anotar(mensaje);
+    }
+
+    public boolean hayErrores() {
+        return errores != null;
+    }
+
+    public List<String> getErrores() {
+        return errores == null ? List.of() : errores;
+    }
+
+    public void lanzarSiHayErrores() {
+        if (errores == null) {
+            return;
+        }
+        if (datosInvalidos) {
+            throw new ValidationErrorsException(errores);
+        }
+        if (duplicado != null) {
+            throw new DuplicateResourceException(duplicado);
+        }
+        throw new BusinessValidationErrorsException(errores);
+    }
+
+    private void anotar(String mensaje) {
+        if (errores == null) {
+            errores = new ArrayList<>();
+        }
+        errores.add(mensaje);
+    }
+}
@@ -0,0 +1,250 @@
+package com.petmanager.supplier_service.validation;
+
+import com.petmanager.supplier_service.dto.CondicionPagoInput;
+import com.petmanager.supplier_service.dto.ProductoInput;
+import com.petmanager.supplier_service.dto.ProveedorInput;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Validación de entrada de proveedores, productos y condiciones de pago.
+ *
+ * Recorre cada entidad una sola vez y devuelve todos sus errores juntos (ErroresValidacion),
+ * pensado para importaciones masivas donde corregir error a error no es viable. Los límites de
+ * las condiciones de pago (días de crédito, orden de fechas) son reglas de negocio, no de formato.
+ * El email usa un Pattern precompilado; NIT y código se comprueban recorriendo los caracteres,
+ * sin expresiones regulares ni objetos intermedios.
+ */
+@Component
+public class ValidadorProveedor {
+
+    private static final Pattern EMAIL = Pattern.compile("^[A-Za-z0-9+_.-]+@([A-Za-z0-9.-]+\\.[A-Za-z]{2,})$");
+
+    public static final int MAX_NOMBRE = 100;
+    public static final int MAX_DIRECCION = 200;
+    public static final int MAX_TELEFONO = 20;
+    public static final int MAX_EMAIL = 150;
+    public static final int MAX_CODIGO = 50;
+    public static final int MAX_DIAS_CREDITO = 365;
+
+    // ==============================================
+    // FORMATOS
+    // ==============================================
+
+    public static boolean esEmailValido(String email) {
+        return email != null && EMAIL.matcher(email).matches();
+    }
+
+    /**
+     * Solo dígitos y guiones, entre 8 y 15 caracteres
+     */
+    public static boolean esNitValido(String nit) {
+        if (nit == null || nit.length() < 8 || nit.length() > 15) {
+            return false;
+        }
+        for (int i = 0; i < nit.length(); i++) {
+            char c = nit.charAt(i);
+            if ((c < '0' || c > '9') && c != '-') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Solo letras ASCII, dígitos y guiones, entre 2 y 50 caracteres
+     */
+    public static boolean esCodigoValido(String codigo) {
+        if (codigo == null || codigo.length() < 2 || codigo.length() > MAX_CODIGO) {
+            return false;
+        }
+        for (int i = 0; i < codigo.length(); i++) {
+            char c = codigo.charAt(i);
+            boolean valido = (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '-';
+            if (!valido) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // ==============================================
+    // ENTIDADES
+    // ==============================================
+
+    /**
+     * Proveedor nuevo con sus productos y condiciones de pago
+     */
+    public ErroresValidacion validarNuevo(ProveedorInput input) {
+        ErroresValidacion errores = new ErroresValidacion();
+
+        if (!StringUtils.hasText(input.getNombre())) {
+            errores.agregar("El nombre del proveedor es obligatorio");
+        } else if (input.getNombre().trim().length() > MAX_NOMBRE) {
+            errores.agregar("El nombre no puede tener más de 100 caracteres");
+        }
+
+        if (!StringUtils.hasText(input.getNit())) {
+            errores.agregar("El NIT del proveedor es obligatorio");
+        } else if (!esNitValido(input.getNit())) {
+            errores.agregar("El formato del NIT no es válido (debe contener solo números y guiones)");
+        }
+
+        if (!StringUtils.hasText(input.getEmail())) {
+            errores.agregar("El email del proveedor es obligatorio");
+        } else {
+            if (!esEmailValido(input.getEmail())) {
+                errores.agregar("El formato del email no es válido");
+            }
+            if (input.getEmail().trim().length() > MAX_EMAIL) {
+                errores.agregar("El email no puede tener más de 150 caracteres");
+            }
+        }
+
+        if (!StringUtils.hasText(input.getDireccion())) {
+            errores.agregar("La dirección del proveedor es obligatoria");
+        } else if (input.getDireccion().trim().length() > MAX_DIRECCION) {
+            errores.agregar("La dirección no puede tener más de 200 caracteres");
+        }
+
+        if (!StringUtils.hasText(input.getTelefono())) {
+            errores.agregar("El teléfono del proveedor es obligatorio");
+        } else if (input.getTelefono().trim().length() > MAX_TELEFONO) {
+            errores.agregar("El teléfono no puede tener más de 20 caracteres");
+        }
+
+        if (input.getIdUsuarioCreador() == null) {
+            errores.agregar("El ID del usuario creador es obligatorio");
+        }
+
+        validarProductos(input.getProductos(), errores);
+        validarCondiciones(input.getCondicionesPago(), errores);
+        return errores;
+    }
+
+    /**
+     * Campos de updateProveedor: solo se validan los que vienen informados
+     */
+    public ErroresValidacion validarActualizacion(String nombre, String nit, String direccion,
+                                                  String telefono, String email) {
+        ErroresValidacion errores = new ErroresValidacion();
+        if (StringUtils.hasText(nombre) && nombre.trim().length() > MAX_NOMBRE) {
+            errores.agregar("El nombre no puede tener más de 100 caracteres");
+        }
+        if (StringUtils.hasText(nit) && !esNitValido(nit)) {
+            errores.agregar("El formato del NIT no es válido");
+        }
+        if (StringUtils.hasText(direccion) && direccion.trim().length() > MAX_DIRECCION) {
+            errores.agregar("La dirección no puede tener más de 200 caracteres");
+        }
+        if (StringUtils.hasText(telefono) && telefono.trim().length() > MAX_TELEFONO) {
+            errores.agregar("El teléfono no puede tener más de 20 caracteres");
+        }
+        if (StringUtils.hasText(email) && !esEmailValido(email)) {
+            errores.agregar("El formato del email no es válido");
+        }
+        return errores;
+    }
+
+    /**
+     * Reglas de un producto, compartidas por crearProveedor y agregarProducto.
+     * prefijo null = producto suelto (mensajes sin índice)
+     */
+    public void validarProducto(String codigo, String nombre, Double precio,
+                                ErroresValidacion errores, String prefijo, int indice) {
+        if (!StringUtils.hasText(codigo)) {
+            agregar(errores, prefijo, indice, "El código del producto es obligatorio");
+        } else {
+            String limpio = codigo.trim();
+            if (limpio.length() > MAX_CODIGO) {
+                agregar(errores, prefijo, indice, "El código del producto no puede tener más de 50 caracteres");
+            } else if (!esCodigoValido(limpio)) {
+                agregar(errores, prefijo, indice, "El código debe contener solo letras, números y guiones");
+            }
+        }
+
+        if (!StringUtils.hasText(nombre)) {
+            agregar(errores, prefijo, indice, "El nombre del producto es obligatorio");
+        } else if (nombre.trim().length() > MAX_NOMBRE) {
+            agregar(errores, prefijo, indice, "El nombre del producto no puede tener más de 100 caracteres");
+        }
+
+        if (precio == null) {
+            agregar(errores, prefijo, indice, "El precio del producto es obligatorio");
+        } else if (precio < 0) {
+            agregar(errores, prefijo, indice, "El precio del producto no puede ser negativo");
+        }
+    }
+
+    // ==============================================
+    // LISTAS
+    // ==============================================
+
+    /**
+     * Una pasada: reglas de cada producto y códigos repetidos con un único HashSet.
+     * Los repetidos se informan juntos como recurso duplicado, no como dato inválido
+     */
+    private void validarProductos(List<ProductoInput> productos, ErroresValidacion errores) {
+        if (productos == null || productos.isEmpty()) {
+            return;
+        }
+        Set<String> codigos = new HashSet<>(productos.size() * 2);
+        Set<String> repetidos = null;
+        for (int i = 0; i < productos.size(); i++) {
+            ProductoInput producto = productos.get(i);
+            validarProducto(producto.getCodigo(), producto.getNombre(), producto.getPrecio(), errores, "productos", i);
+            if (StringUtils.hasText(producto.getCodigo()) && !codigos.add(producto.getCodigo().trim())) {
+                if (repetidos == null) {
+                    repetidos = new LinkedHashSet<>();
+                }
+                repetidos.add(producto.getCodigo().trim());
+            }
+        }
+        if (repetidos != null) {
+            errores.agregarDuplicado("Hay códigos de productos duplicados en la lista: " + String.join(", ", repetidos));
+        }
+    }
+
+    private void validarCondiciones(List<CondicionPagoInput> condiciones, ErroresValidacion errores) {
+        if (condiciones == null) {
+            return;
+        }
+        for (int i = 0; i < condiciones.size(); i++) {
+            CondicionPagoInput condicion = condiciones.get(i);
+            if (condicion.getDiasCredito() == null) {
+                errores.agregar("condicionesPago", i, "Los días de crédito son obligatorios");
+            } else if (condicion.getDiasCredito() < 0) {
+                errores.agregar("condicionesPago", i, "Los días de crédito no pueden ser negativos");
+            } else if (condicion.getDiasCredito() > MAX_DIAS_CREDITO) {
+                errores.agregarRegla("condicionesPago", i, "Los días de crédito no pueden exceder 365 días");
+            }
+            if (condicion.getFechaInicio() == null) {
+                errores.agregar("condicionesPago", i, "La fecha de inicio es obligatoria");
+            }
+            if (condicion.getFechaFin() == null) {
+                errores.agregar("condicionesPago", i, "La fecha de fin es obligatoria");
+            }
+            if (condicion.getFechaInicio() != null && condicion.getFechaFin() != null
+                    && condicion.getFechaInicio().isAfter(condicion.getFechaFin())) {
+                errores.agregarRegla("condicionesPago", i, "La fecha de inicio no puede ser posterior a la fecha de fin");
+            }
+            if (condicion.getIdUsuario() == null) {
+                errores.agregar("condicionesPago", i, "El ID del usuario es obligatorio");
+            }
+        }
+    }
+
+    private static void agregar(ErroresValidacion errores, String prefijo, int indice, String mensaje) {
+        if (prefijo == null) {
+            errores.agregar(mensaje);
+        } else {
+            errores.agregar(prefijo, indice, mensaje);
+        }
+    }
+}
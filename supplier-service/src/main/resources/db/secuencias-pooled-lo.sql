@@ -0,0 +1,41 @@
+-- ========================================
+-- Secuencias de id con incremento 50 para los generadores pooled-lo de Hibernate
+-- Idempotente: se ejecuta en cada arranque antes de Hibernate.
+-- En una BD nueva las secuencias no existen todavía y las crea Hibernate ya con incremento 50.
+--
+-- Se reutiliza la secuencia de la columna identity/serial, así los ids existentes no cambian y
+-- el siguiente bloque empieza por encima del último asignado. La columna conserva su DEFAULT:
+-- con pooled-lo cada nextval reserva un bloque completo, por lo que un INSERT manual sin id
+-- tampoco choca con los ids que Hibernate tiene en memoria.
+-- ========================================
+
+-- Una columna GENERATED ... AS IDENTITY esconde su secuencia: no aparece en
+-- information_schema.sequences, así que ddl-auto=update intenta crearla en cada arranque
+-- ("relation ... already exists"). Se convierte en una secuencia propia con el mismo nombre y la
+-- misma posición, dueña de la columna y usada como DEFAULT.
+DO $$
+DECLARE
+    c RECORD;
+    secuencia TEXT;
+    ultimo BIGINT;
+    llamada BOOLEAN;
+BEGIN
+    FOR c IN SELECT * FROM (VALUES ('proveedor', 'id_proveedor'), ('producto', 'id_producto'), ('condicion_pago', 'id_condicion_pago')) AS t(tabla, columna) LOOP
+        IF EXISTS (SELECT 1 FROM information_schema.columns
+                   WHERE table_schema = current_schema() AND table_name = c.tabla
+                     AND column_name = c.columna AND is_identity = 'YES') THEN
+            secuencia := pg_get_serial_sequence(c.tabla, c.columna);
+            EXECUTE format('SELECT last_value, is_called FROM %s', secuencia) INTO ultimo, llamada;
+            EXECUTE format('ALTER TABLE %I ALTER COLUMN %I DROP IDENTITY', c.tabla, c.columna);
+            secuencia := c.tabla || '_' || c.columna || '_seq';
+            EXECUTE format('CREATE SEQUENCE %I OWNED BY %I.%I', secuencia, c.tabla, c.columna);
+            PERFORM setval(secuencia, ultimo, llamada);
+            EXECUTE format('ALTER TABLE %I ALTER COLUMN %I SET DEFAULT nextval(%L)', c.tabla, c.columna, secuencia);
+        END IF;
+    END LOOP;
+END
+$$^;
+
+ALTER SEQUENCE IF EXISTS proveedor_id_proveedor_seq INCREMENT BY 50^;
+ALTER SEQUENCE IF EXISTS producto_id_producto_seq INCREMENT BY 50^;
+ALTER SEQUENCE IF EXISTS condicion_pago_id_condicion_pago_seq INCREMENT BY 50^;
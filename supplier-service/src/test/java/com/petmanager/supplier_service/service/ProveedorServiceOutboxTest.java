@@ -0,0 +1,112 @@
+package com.petmanager.supplier_service.service;
+
+import com.petmanager.supplier_service.dto.CondicionPagoEvento;
+import com.petmanager.supplier_service.dto.CondicionPagoInput;
+import com.petmanager.supplier_service.dto.ProductoInput;
+import com.petmanager.supplier_service.dto.ProveedorInput;
+import com.petmanager.supplier_service.model.CondicionPago;
+import com.petmanager.supplier_service.model.OutboxEvento;
+import com.petmanager.supplier_service.model.Proveedor;
+import com.petmanager.supplier_service.repository.CondicionPagoRepository;
+import com.petmanager.supplier_service.repository.OutboxEventoRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Las condiciones que entran con un proveedor nuevo, y los cambios de estado del proveedor,
+ * dejan su evento en outbox_evento dentro de la misma transacción. Cada test se revierte.
+ */
+@SpringBootTest
+@Transactional
+class ProveedorServiceOutboxTest {
+
+    @Autowired
+    private ProveedorService proveedorService;
+
+    @Autowired
+    private CondicionPagoRepository condicionPagoRepository;
+
+    @Autowired
+    private OutboxEventoRepository outboxEventoRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void crearProveedorConCondicionesRegistraUnEventoCreadaPorCondicion() {
+        Proveedor proveedor = proveedorService.crearProveedor(proveedorConDosCondiciones());
+
+        List<OutboxEvento> eventos = eventosDe(proveedor);
+
+        assertThat(eventos).hasSize(2)
+                .allSatisfy(e -> {
+                    assertThat(e.getTipo()).isEqualTo(CondicionPagoEvento.CREADA);
+                    assertThat(e.getPayload()).contains("\"idProveedor\":" + proveedor.getIdProveedor())
+                            .contains("\"proveedorActivo\":true");
+                });
+    }
+
+    @Test
+    void desactivarProveedorRegistraUnEventoActualizadaPorCondicion() {
+        Proveedor proveedor = proveedorService.crearProveedor(proveedorConDosCondiciones());
+        entityManager.flush();
+        entityManager.clear();
+
+        proveedorService.delete(proveedor.getIdProveedor());
+
+        assertThat(eventosDe(proveedor))
+                .filteredOn(e -> CondicionPagoEvento.ACTUALIZADA.equals(e.getTipo()))
+                .hasSize(2)
+                .allSatisfy(e -> assertThat(e.getPayload()).contains("\"proveedorActivo\":false"));
+    }
+
+    private List<OutboxEvento> eventosDe(Proveedor proveedor) {
+        Set<Long> condiciones = condicionPagoRepository.findAll().stream()
+                .filter(c -> c.getProveedor() != null && c.getProveedor().getIdProveedor().equals(proveedor.getIdProveedor()))
+                .map(CondicionPago::getIdCondicionPago)
+                .collect(Collectors.toSet());
+        return outboxEventoRepository.findAll().stream()
+                .filter(e -> "CondicionPago".equals(e.getAgregado()) && condiciones.contains(e.getIdAgregado()))
+                .toList();
+    }
+
+    private static ProveedorInput proveedorConDosCondiciones() {
+        long n = ThreadLocalRandom.current().nextLong(100_000_000L, 999_999_999L);
+
+        ProductoInput producto = new ProductoInput();
+        producto.setCodigo("OUT-" + n);
+        producto.setNombre("Producto " + n);
+        producto.setPrecio(15000.0);
+
+        ProveedorInput input = new ProveedorInput();
+        input.setNombre("Proveedor outbox " + n);
+        input.setNit(n + "-1");
+        input.setDireccion("Calle 10 # 20-30");
+        input.setTelefono("3001234567");
+        input.setEmail("outbox" + n + "@proveedor.com");
+        input.setIdUsuarioCreador(1L);
+        input.setProductos(List.of(producto));
+        input.setCondicionesPago(List.of(condicion(30), condicion(60)));
+        return input;
+    }
+
+    private static CondicionPagoInput condicion(int diasCredito) {
+        CondicionPagoInput condicion = new CondicionPagoInput();
+        condicion.setDiasCredito(diasCredito);
+        condicion.setFechaInicio(LocalDate.now());
+        condicion.setFechaFin(LocalDate.now().plusDays(diasCredito));
+        condicion.setIdUsuario(1L);
+        return condicion;
+    }
+}
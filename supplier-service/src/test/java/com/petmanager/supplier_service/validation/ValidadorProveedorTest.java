@@ -0,0 +1,207 @@
+package com.petmanager.supplier_service.validation;
+
+import com.petmanager.supplier_service.dto.CondicionPagoInput;
+import com.petmanager.supplier_service.dto.ProductoInput;
+import com.petmanager.supplier_service.dto.ProveedorInput;
+import com.petmanager.supplier_service.exception.BusinessValidationErrorsException;
+import com.petmanager.supplier_service.exception.BusinessValidationException;
+import com.petmanager.supplier_service.exception.DuplicateResourceException;
+import com.petmanager.supplier_service.exception.GlobalExceptionHandler;
+import com.petmanager.supplier_service.exception.ValidationErrorsException;
+import graphql.GraphQLError;
+import graphql.execution.ExecutionStepInfo;
+import graphql.execution.ResultPath;
+import graphql.schema.DataFetchingEnvironmentImpl;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static graphql.Scalars.GraphQLString;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class ValidadorProveedorTest {
+
+    private final ValidadorProveedor validador = new ValidadorProveedor();
+
+    // ==============================================
+    // FORMATOS
+    // ==============================================
+
+    @Test
+    void nitSoloAdmiteDigitosYGuionesEntre8y15() {
+        assertThat(ValidadorProveedor.esNitValido("900123456-7")).isTrue();
+        assertThat(ValidadorProveedor.esNitValido("1234567")).isFalse();
+        assertThat(ValidadorProveedor.esNitValido("1234567890123456")).isFalse();
+        assertThat(ValidadorProveedor.esNitValido("90012345A")).isFalse();
+        assertThat(ValidadorProveedor.esNitValido(null)).isFalse();
+    }
+
+    @Test
+    void codigoSoloAdmiteLetrasAsciiDigitosYGuiones() {
+        assertThat(ValidadorProveedor.esCodigoValido("PRD-001")).isTrue();
+        assertThat(ValidadorProveedor.esCodigoValido("A")).isFalse();
+        assertThat(ValidadorProveedor.esCodigoValido("PRD 001")).isFalse();
+        assertThat(ValidadorProveedor.esCodigoValido("AÑO-1")).isFalse();
+        assertThat(ValidadorProveedor.esCodigoValido("X".repeat(51))).isFalse();
+    }
+
+    @Test
+    void email() {
+        assertThat(ValidadorProveedor.esEmailValido("compras@proveedor.com.co")).isTrue();
+        assertThat(ValidadorProveedor.esEmailValido("compras@proveedor")).isFalse();
+        assertThat(ValidadorProveedor.esEmailValido("sin-arroba.com")).isFalse();
+    }
+
+    // ==============================================
+    // PROVEEDOR NUEVO
+    // ==============================================
+
+    @Test
+    void entradaValidaNoTieneErrores() {
+        ErroresValidacion errores = validador.validarNuevo(proveedorValido());
+
+        assertThat(errores.hayErrores()).isFalse();
+        assertThatCode(errores::lanzarSiHayErrores).doesNotThrowAnyException();
+    }
+
+    @Test
+    void recogeTodosLosErroresDeDatosEnUnaPasada() {
+        ProveedorInput input = proveedorValido();
+        input.setNombre(" ");
+        input.setNit("ABC");
+        input.setEmail("no-es-email");
+        input.setProductos(List.of(producto("P-1", 10.0), producto("P-1", -1.0)));
+
+        ErroresValidacion errores = validador.validarNuevo(input);
+
+        assertThat(errores.getErrores()).containsExactly(
+                "El nombre del proveedor es obligatorio",
+                "El formato del NIT no es válido (debe contener solo números y guiones)",
+                "El formato del email no es válido",
+                "productos[1]: El precio del producto no puede ser negativo",
+                "Hay códigos de productos duplicados en la lista: P-1");
+        assertThatThrownBy(errores::lanzarSiHayErrores)
+                .isInstanceOf(ValidationErrorsException.class)
+                .hasMessageStartingWith("Se encontraron 5 errores de validación");
+    }
+
+    @Test
+    void unSoloErrorConservaSuMensaje() {
+        ProveedorInput input = proveedorValido();
+        input.setTelefono("1".repeat(21));
+
+        assertThatThrownBy(() -> validador.validarNuevo(input).lanzarSiHayErrores())
+                .isInstanceOf(ValidationErrorsException.class)
+                .hasMessage("El teléfono no puede tener más de 20 caracteres");
+    }
+
+    @Test
+    void codigosRepetidosEnLaListaSonRecursoDuplicado() {
+        ProveedorInput input = proveedorValido();
+        input.setProductos(List.of(producto("P-1", 10.0), producto("P-2", 10.0), producto("P-1", 12.0),
+                producto("P-2", 8.0)));
+
+        Throwable error = catchThrowable(() -> validador.validarNuevo(input).lanzarSiHayErrores());
+
+        assertThat(error)
+                .isInstanceOf(DuplicateResourceException.class)
+                .hasMessage("Hay códigos de productos duplicados en la lista: P-1, P-2");
+        assertThat(errorGraphQl(error).getExtensions()).containsEntry("errorCode", "DUPLICATE_RESOURCE");
+    }
+
+    // ==============================================
+    // REGLAS DE NEGOCIO DE LAS CONDICIONES
+    // ==============================================
+
+    @Test
+    void diasDeCreditoPorEncimaDe365EsErrorDeNegocio() {
+        ProveedorInput input = proveedorValido();
+        input.getCondicionesPago().get(0).setDiasCredito(400);
+
+        assertThatThrownBy(() -> validador.validarNuevo(input).lanzarSiHayErrores())
+                .isInstanceOf(BusinessValidationException.class)
+                .hasMessage("condicionesPago[0]: Los días de crédito no pueden exceder 365 días");
+    }
+
+    @Test
+    void fechaDeInicioPosteriorAlFinEsErrorDeNegocio() {
+        ProveedorInput input = proveedorValido();
+        CondicionPagoInput condicion = input.getCondicionesPago().get(0);
+        condicion.setFechaInicio(condicion.getFechaFin().plusDays(1));
+
+        assertThatThrownBy(() -> validador.validarNuevo(input).lanzarSiHayErrores())
+                .isInstanceOf(BusinessValidationErrorsException.class)
+                .satisfies(e -> assertThat(((BusinessValidationErrorsException) e).getErrores()).containsExactly(
+                        "condicionesPago[0]: La fecha de inicio no puede ser posterior a la fecha de fin"));
+    }
+
+    @Test
+    void conDatosInvalidosLasReglasDeNegocioVanEnElMismoInvalidData() {
+        ProveedorInput input = proveedorValido();
+        input.getCondicionesPago().get(0).setDiasCredito(400);
+        input.getCondicionesPago().get(0).setIdUsuario(null);
+
+        assertThatThrownBy(() -> validador.validarNuevo(input).lanzarSiHayErrores())
+                .isInstanceOf(ValidationErrorsException.class)
+                .satisfies(e -> assertThat(((ValidationErrorsException) e).getErrores()).containsExactly(
+                        "condicionesPago[0]: Los días de crédito no pueden exceder 365 días",
+                        "condicionesPago[0]: El ID del usuario es obligatorio"));
+    }
+
+    // ==============================================
+    // ACTUALIZACIÓN
+    // ==============================================
+
+    @Test
+    void actualizacionSoloValidaLosCamposInformados() {
+        assertThat(validador.validarActualizacion(null, null, null, null, null).hayErrores()).isFalse();
+        assertThat(validador.validarActualizacion(null, "12", null, null, "x@y").getErrores())
+                .containsExactly("El formato del NIT no es válido", "El formato del email no es válido");
+    }
+
+    // ==============================================
+    // AUXILIARES
+    // ==============================================
+
+    private static ProveedorInput proveedorValido() {
+        CondicionPagoInput condicion = new CondicionPagoInput();
+        condicion.setDiasCredito(30);
+        condicion.setFechaInicio(LocalDate.of(2025, 1, 1));
+        condicion.setFechaFin(LocalDate.of(2025, 1, 31));
+        condicion.setIdUsuario(1L);
+
+        ProveedorInput input = new ProveedorInput();
+        input.setNombre("Distribuidora Canina S.A.S.");
+        input.setNit("900123456-7");
+        input.setDireccion("Calle 10 # 20-30");
+        input.setTelefono("3001234567");
+        input.setEmail("compras@canina.com");
+        input.setIdUsuarioCreador(1L);
+        input.setProductos(List.of(producto("PRD-001", 15000.0)));
+        input.setCondicionesPago(List.of(condicion));
+        return input;
+    }
+
+    private static GraphQLError errorGraphQl(Throwable error) {
+        ExecutionStepInfo paso = ExecutionStepInfo.newExecutionStepInfo()
+                .type(GraphQLString)
+                .path(ResultPath.rootPath().segment("crearProveedor"))
+                .build();
+        List<GraphQLError> errores = new GlobalExceptionHandler().resolveException(error,
+                DataFetchingEnvironmentImpl.newDataFetchingEnvironment().executionStepInfo(paso).build()).block();
+        assertThat(errores).hasSize(1);
+        return errores.get(0);
+    }
+
+    private static ProductoInput producto(String codigo, Double precio) {
+        ProductoInput producto = new ProductoInput();
+        producto.setCodigo(codigo);
+        producto.setNombre("Producto " + codigo);
+        producto.setPrecio(precio);
+        return producto;
+    }
+}